@@ -0,0 +1,496 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import edu.ntnu.idi.idatt.exception.InvalidBoardConfigurationException;
+import edu.ntnu.idi.idatt.model.BoardFingerprint;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The AnalysisDiskCache class keeps the results of the expensive board analyses in files, so
+ * analysing a board again, also in a later run of the program, reads the result instead of
+ * calculating it. The results only depend on the content of the board, the number of dice and
+ * the rules, so every file is named after the {@link BoardFingerprint} of the board and the
+ * number of dice, and holds {@value #FORMAT_VERSION} as format version, which is raised when
+ * the format or the rules change.
+ *
+ * <p>The files are written in a compact binary form: a header identifying the entry, followed
+ * by the values as raw doubles or floats. They are read into memory in one go and the values
+ * copied out in bulk, which is many times faster than calculating them; the 4 MB win
+ * probability table of a plain board with 10 000 tiles and two dice is read in 10 to 20 ms
+ * instead of calculated in 0.5 to 1.5 s. A file is written to a temporary name first and then
+ * renamed, so other programs sharing the directory never see half a file.
+ *
+ * <p>The total size of the files is kept below a limit. Reading a file marks it as used by
+ * updating its modification time, and when a new file pushes the total over the limit the
+ * least recently used files are deleted. The cache never makes an analysis fail: files that
+ * cannot be read are calculated again, and files that cannot be written are skipped.
+ */
+public final class AnalysisDiskCache {
+  public static final String DIRECTORY_PROPERTY = "chutes.analysisCache";
+  public static final String EXTENSION = ".analysis";
+  public static final long DEFAULT_MAX_BYTES = 128L << 20;
+  public static final int FORMAT_VERSION = 2;
+
+  private static final int MAGIC = 0x434E4C41;
+  private static final int HEADER_BYTES = 4 * Integer.BYTES + 2 * Long.BYTES;
+
+  private static AnalysisDiskCache instance;
+
+  private final Path directory;
+  private final long maxBytes;
+  private long lastAccess;
+  private int hits;
+  private int misses;
+
+  /**
+   * The results stored in the cache.
+   */
+  public enum Kind {
+    EXPECTED_TURNS("expected"),
+    SECOND_MOMENTS("moments"),
+    LANDINGS("landings"),
+    WIN_PROBABILITIES("win");
+
+    private final String fileTag;
+
+    Kind(String fileTag) {
+      this.fileTag = fileTag;
+    }
+  }
+
+  /**
+   * Constructs a cache keeping its files in the given directory, which is created when the
+   * first file is written.
+   *
+   * @param directory the directory of the cache files
+   * @param maxBytes  the largest total size of the files
+   */
+  public AnalysisDiskCache(Path directory, long maxBytes) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("Cache size must be positive");
+    }
+    this.directory = directory;
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Retrieves the cache shared by the application, creating it on first use. Its files are
+   * kept in the directory given by the system property {@value #DIRECTORY_PROPERTY}, or in
+   * {@code .chutes-n-ladders/analysis-cache} in the home directory of the user.
+   *
+   * @return the shared cache
+   */
+  public static synchronized AnalysisDiskCache getInstance() {
+    if (instance == null) {
+      String configured = System.getProperty(DIRECTORY_PROPERTY);
+      Path directory = configured != null
+          ? Paths.get(configured)
+          : Paths.get(System.getProperty("user.home"), ".chutes-n-ladders", "analysis-cache");
+      instance = new AnalysisDiskCache(directory, DEFAULT_MAX_BYTES);
+    }
+    return instance;
+  }
+
+  /**
+   * Retrieves the expected number of turns from every tile, calculating it with a
+   * {@link BoardAnalyzer} if it is not cached.
+   *
+   * @param fingerprint the fingerprint of the board the compiled board was compiled from
+   * @param board       the board to analyze
+   * @param dice        the dice rolled every turn
+   * @return the expected remaining turns, indexed by tile ID
+   * @throws InvalidBoardConfigurationException if the expected number of turns is infinite
+   */
+  public double[] expectedTurnsPerTile(BoardFingerprint fingerprint, CompiledBoard board,
+      DiceDistribution dice) throws InvalidBoardConfigurationException {
+    double[] expected = loadValues(fingerprint, Kind.EXPECTED_TURNS, board, dice);
+    if (expected == null) {
+      expected = new BoardAnalyzer(board, dice).expectedTurnsPerTile();
+      store(fingerprint, Kind.EXPECTED_TURNS, dice, valuesBuffer(expected));
+    }
+    return expected;
+  }
+
+  /**
+   * Retrieves the second moment of the number of turns from every tile, which gives the
+   * variance of the game length, calculating it if it is not cached.
+   *
+   * @param fingerprint the fingerprint of the board the compiled board was compiled from
+   * @param board       the board to analyze
+   * @param dice        the dice rolled every turn
+   * @return the second moment of the remaining turns, indexed by tile ID
+   * @throws InvalidBoardConfigurationException if the calculation does not converge
+   */
+  public double[] secondMomentPerTile(BoardFingerprint fingerprint, CompiledBoard board,
+      DiceDistribution dice) throws InvalidBoardConfigurationException {
+    double[] moments = loadValues(fingerprint, Kind.SECOND_MOMENTS, board, dice);
+    if (moments == null) {
+      double[] expected = expectedTurnsPerTile(fingerprint, board, dice);
+      moments = new BoardAnalyzer(board, dice).secondMomentPerTile(expected);
+      store(fingerprint, Kind.SECOND_MOMENTS, dice, valuesBuffer(moments));
+    }
+    return moments;
+  }
+
+  /**
+   * Retrieves how often a single player lands on every tile during a game, calculating it
+   * with an {@link IncrementalBoardAnalysis} if it is not cached.
+   *
+   * @param fingerprint the fingerprint of the board the compiled board was compiled from
+   * @param board       the board to analyze
+   * @param dice        the dice rolled every turn
+   * @return the expected number of landings, indexed by tile ID
+   * @throws InvalidBoardConfigurationException if the expected number of turns is infinite
+   */
+  public double[] landingFrequencies(BoardFingerprint fingerprint, CompiledBoard board,
+      DiceDistribution dice) throws InvalidBoardConfigurationException {
+    double[] landings = loadValues(fingerprint, Kind.LANDINGS, board, dice);
+    if (landings == null) {
+      landings = new IncrementalBoardAnalysis(board, dice).landingFrequencies();
+      store(fingerprint, Kind.LANDINGS, dice, valuesBuffer(landings));
+    }
+    return landings;
+  }
+
+  /**
+   * Retrieves the win probability table of a board, calculating it if it is not cached.
+   *
+   * @param fingerprint the fingerprint of the board the compiled board was compiled from
+   * @param board       the board to play on
+   * @param dice        the dice rolled every turn
+   * @return the table
+   */
+  public WinProbabilityTable winProbabilityTable(BoardFingerprint fingerprint,
+      CompiledBoard board, DiceDistribution dice) {
+    ByteBuffer buffer = load(fingerprint, Kind.WIN_PROBABILITIES, dice);
+    WinProbabilityTable table = buffer != null ? readTable(buffer, board, dice) : null;
+    if (buffer != null && table == null) {
+      discard(path(fingerprint, Kind.WIN_PROBABILITIES, dice));
+    }
+    count(table != null);
+    if (table == null) {
+      table = WinProbabilityTable.compute(board, dice);
+      store(fingerprint, Kind.WIN_PROBABILITIES, dice, tableBuffer(table));
+    }
+    return table;
+  }
+
+  private double[] loadValues(BoardFingerprint fingerprint, Kind kind, CompiledBoard board,
+      DiceDistribution dice) {
+    ByteBuffer buffer = load(fingerprint, kind, dice);
+    double[] values = buffer != null ? readValues(buffer) : null;
+    if (values == null || values.length != board.getFinalTileId() + 1) {
+      if (buffer != null) {
+        discard(path(fingerprint, kind, dice));
+      }
+      count(false);
+      return null;
+    }
+    count(true);
+    return values;
+  }
+
+  /**
+   * Reads the file of an entry and checks its header. The file is read into memory instead of
+   * mapped, since a mapped file cannot be deleted or replaced on every platform until the
+   * mapping is garbage collected.
+   *
+   * @return the content of the file positioned after the header, or null if there is no valid
+   *         entry
+   */
+  private ByteBuffer load(BoardFingerprint fingerprint, Kind kind, DiceDistribution dice) {
+    Path path = path(fingerprint, kind, dice);
+    if (!Files.isRegularFile(path)) {
+      return null;
+    }
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > maxBytes || size > Integer.MAX_VALUE) {
+        throw new IOException("entry is larger than the cache");
+      }
+      buffer = ByteBuffer.allocate((int) size);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) {
+          throw new IOException("file ended early");
+        }
+      }
+      buffer.flip();
+    } catch (IOException e) {
+      System.err.println("[cache] could not read " + path + ": " + e.getMessage());
+      return null;
+    }
+    try {
+      Files.setLastModifiedTime(path, nextAccessTime());
+    } catch (IOException e) {
+      System.err.println("[cache] could not mark " + path + " as used: " + e.getMessage());
+    }
+    if (buffer.remaining() < HEADER_BYTES
+        || buffer.getInt() != MAGIC
+        || buffer.getInt() != FORMAT_VERSION
+        || buffer.getInt() != kind.ordinal()
+        || buffer.getInt() != dice.getNumberOfDice()
+        || buffer.getLong() != fingerprint.getHigh()
+        || buffer.getLong() != fingerprint.getLow()) {
+      discard(path);
+      return null;
+    }
+    return buffer;
+  }
+
+  private static double[] readValues(ByteBuffer buffer) {
+    if (buffer.remaining() < Integer.BYTES) {
+      return null;
+    }
+    int length = buffer.getInt();
+    if (length < 0 || buffer.remaining() != (long) length * Double.BYTES) {
+      return null;
+    }
+    double[] values = new double[length];
+    buffer.asDoubleBuffer().get(values);
+    buffer.position(buffer.position() + length * Double.BYTES);
+    return values;
+  }
+
+  private static WinProbabilityTable readTable(ByteBuffer buffer, CompiledBoard board,
+      DiceDistribution dice) {
+    int tiles = board.getFinalTileId() + 1;
+    if (buffer.remaining() < (3 + 2L * tiles) * Integer.BYTES) {
+      return null;
+    }
+    int horizon = buffer.getInt();
+    int complete = buffer.getInt();
+    if (horizon < 0 || (complete != 0 && complete != 1) || buffer.getInt() != tiles) {
+      return null;
+    }
+    int[] firstTurns = new int[tiles];
+    int[] lengths = new int[tiles];
+    buffer.asIntBuffer().get(firstTurns).get(lengths);
+    buffer.position(buffer.position() + 2 * tiles * Integer.BYTES);
+    long entries = 0;
+    for (int length : lengths) {
+      if (length < 0) {
+        return null;
+      }
+      entries += length;
+    }
+    if (buffer.remaining() < entries * Float.BYTES) {
+      return null;
+    }
+    float[][] windows = new float[tiles][];
+    FloatBuffer floats = buffer.asFloatBuffer();
+    for (int tile = 0; tile < tiles; tile++) {
+      windows[tile] = new float[lengths[tile]];
+      floats.get(windows[tile]);
+    }
+    buffer.position(buffer.position() + (int) entries * Float.BYTES);
+    double[] expectedTurns = readValues(buffer);
+    if (expectedTurns == null || expectedTurns.length != tiles) {
+      return null;
+    }
+    return new WinProbabilityTable(board.getFinalTileId(), dice.getNumberOfDice(), horizon,
+        complete == 1, firstTurns, windows, expectedTurns);
+  }
+
+  private static ByteBuffer valuesBuffer(double[] values) {
+    ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + values.length * Double.BYTES);
+    putValues(buffer, values);
+    buffer.flip();
+    return buffer;
+  }
+
+  private static void putValues(ByteBuffer buffer, double[] values) {
+    buffer.putInt(values.length);
+    buffer.asDoubleBuffer().put(values);
+    buffer.position(buffer.position() + values.length * Double.BYTES);
+  }
+
+  private static ByteBuffer tableBuffer(WinProbabilityTable table) {
+    int[] firstTurns = table.getFirstTurns();
+    float[][] windows = table.getWindows();
+    double[] expectedTurns = table.getExpectedTurns();
+    int tiles = firstTurns.length;
+    int entries = 0;
+    for (float[] window : windows) {
+      entries += window.length;
+    }
+    ByteBuffer buffer = ByteBuffer.allocate((3 + 2 * tiles) * Integer.BYTES
+        + entries * Float.BYTES + Integer.BYTES + expectedTurns.length * Double.BYTES);
+    buffer.putInt(table.getHorizon())
+        .putInt(table.isComplete() ? 1 : 0)
+        .putInt(tiles);
+    for (int firstTurn : firstTurns) {
+      buffer.putInt(firstTurn);
+    }
+    for (float[] window : windows) {
+      buffer.putInt(window.length);
+    }
+    FloatBuffer floats = buffer.asFloatBuffer();
+    for (float[] window : windows) {
+      floats.put(window);
+    }
+    buffer.position(buffer.position() + entries * Float.BYTES);
+    putValues(buffer, expectedTurns);
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * Writes an entry and deletes the least recently used entries if the cache has grown too
+   * large. Entries larger than the whole cache are not written.
+   */
+  private synchronized void store(BoardFingerprint fingerprint, Kind kind, DiceDistribution dice,
+      ByteBuffer payload) {
+    if (HEADER_BYTES + payload.remaining() > maxBytes) {
+      return;
+    }
+    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+    header.putInt(MAGIC)
+        .putInt(FORMAT_VERSION)
+        .putInt(kind.ordinal())
+        .putInt(dice.getNumberOfDice())
+        .putLong(fingerprint.getHigh())
+        .putLong(fingerprint.getLow())
+        .flip();
+
+    Path path = path(fingerprint, kind, dice);
+    Path temporary = null;
+    try {
+      Files.createDirectories(directory);
+      temporary = Files.createTempFile(directory, "entry", ".tmp");
+      try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+        ByteBuffer[] buffers = {header, payload};
+        while (payload.hasRemaining()) {
+          channel.write(buffers);
+        }
+      }
+      Files.setLastModifiedTime(temporary, nextAccessTime());
+      try {
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+      evict();
+    } catch (IOException e) {
+      System.err.println("[cache] could not write " + path + ": " + e.getMessage());
+      if (temporary != null) {
+        discard(temporary);
+      }
+    }
+  }
+
+  private void evict() throws IOException {
+    List<Path> entries = entries();
+    long total = 0;
+    for (Path entry : entries) {
+      total += Files.size(entry);
+    }
+    if (total <= maxBytes) {
+      return;
+    }
+    Map<Path, FileTime> used = new HashMap<>();
+    for (Path entry : entries) {
+      used.put(entry, Files.getLastModifiedTime(entry));
+    }
+    entries.sort(Comparator.comparing(used::get));
+    for (Path entry : entries) {
+      if (total <= maxBytes) {
+        break;
+      }
+      total -= Files.size(entry);
+      discard(entry);
+    }
+  }
+
+  private List<Path> entries() throws IOException {
+    List<Path> entries = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+      for (Path entry : stream) {
+        entries.add(entry);
+      }
+    }
+    return entries;
+  }
+
+  private static void discard(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      System.err.println("[cache] could not delete " + path + ": " + e.getMessage());
+    }
+  }
+
+  private Path path(BoardFingerprint fingerprint, Kind kind, DiceDistribution dice) {
+    return directory.resolve(
+        fingerprint + "-" + dice.getNumberOfDice() + "d-" + kind.fileTag + EXTENSION);
+  }
+
+  /**
+   * Retrieves the time to mark a used entry with. The clock of the file system may be too
+   * coarse to order entries used right after each other, so the time always moves forward.
+   */
+  private synchronized FileTime nextAccessTime() {
+    lastAccess = Math.max(System.currentTimeMillis(), lastAccess + 1);
+    return FileTime.fromMillis(lastAccess);
+  }
+
+  private synchronized void count(boolean hit) {
+    if (hit) {
+      hits++;
+    } else {
+      misses++;
+    }
+  }
+
+  /**
+   * Calculates the total size of the files in the cache.
+   *
+   * @return the size in bytes, 0 if the directory does not exist
+   */
+  public synchronized long size() {
+    if (!Files.isDirectory(directory)) {
+      return 0;
+    }
+    try {
+      long total = 0;
+      for (Path entry : entries()) {
+        total += Files.size(entry);
+      }
+      return total;
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  public synchronized int getHits() {
+    return hits;
+  }
+
+  public synchronized int getMisses() {
+    return misses;
+  }
+
+  public Path getDirectory() {
+    return directory;
+  }
+
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+}
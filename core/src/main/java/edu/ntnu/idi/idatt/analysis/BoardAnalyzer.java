@@ -0,0 +1,206 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import edu.ntnu.idi.idatt.exception.InvalidBoardConfigurationException;
+import java.util.Arrays;
+
+/**
+ * The BoardAnalyzer class calculates the expected number of turns a single player needs to
+ * reach the final tile of a board, without simulating. The board is treated as a Markov chain
+ * over the tiles, and the expected remaining turns of every tile are found by solving
+ * <pre>
+ *   E[p] = 1 + sum over totals r of P(r) * V(p + r)
+ * </pre>
+ * where V is 0 for the final tile, E of the destination for a ladder or chute, and 1 + E of the
+ * tile for a skip tile, since the skipped turn counts as a turn. The system is solved with
+ * Gauss-Seidel iteration from the final tile backwards, which converges in few sweeps because
+ * most moves go forward. The second moment of the number of turns is found the same way,
+ * which gives the variance of the game length.
+ */
+public class BoardAnalyzer {
+  public static final double DEFAULT_TOLERANCE = 1e-9;
+  public static final int MAX_ITERATIONS = 100_000;
+
+  private final CompiledBoard board;
+  private final DiceDistribution dice;
+  private int iterations;
+
+  /**
+   * Constructs an analyzer for the given board and dice.
+   *
+   * @param board the board to analyze
+   * @param dice  the dice rolled every turn
+   */
+  public BoardAnalyzer(CompiledBoard board, DiceDistribution dice) {
+    this.board = board;
+    this.dice = dice;
+  }
+
+  /**
+   * Calculates the expected number of turns from every tile to the end of the game.
+   *
+   * @return the expected remaining turns, indexed by tile ID; index 0 is unused
+   * @throws InvalidBoardConfigurationException if the final tile cannot be reached from every
+   *                                            tile, so the expected number of turns is infinite
+   */
+  public double[] expectedTurnsPerTile() throws InvalidBoardConfigurationException {
+    return expectedTurnsPerTile(new double[board.getFinalTileId() + 1]);
+  }
+
+  /**
+   * Calculates the expected number of turns from every tile, starting the iteration from the
+   * given values. When the board differs only slightly from the board the values were
+   * calculated for, this needs far fewer sweeps than starting from zero.
+   *
+   * @param initial the starting values, indexed by tile ID; the array is not modified
+   * @return the expected remaining turns, indexed by tile ID
+   * @throws InvalidBoardConfigurationException if the expected number of turns is infinite
+   */
+  double[] expectedTurnsPerTile(double[] initial) throws InvalidBoardConfigurationException {
+    int finalTileId = board.getFinalTileId();
+    double[] expected = Arrays.copyOf(initial, finalTileId + 1);
+    expected[finalTileId] = 0;
+    iterations = 0;
+
+    double change = Double.MAX_VALUE;
+    while (change > DEFAULT_TOLERANCE) {
+      if (++iterations > MAX_ITERATIONS) {
+        throw new InvalidBoardConfigurationException(
+            "Expected game length does not converge; the final tile may be unreachable");
+      }
+      change = 0;
+      for (int position = finalTileId - 1; position >= CompiledBoard.START_TILE; position--) {
+        double updated = solveTile(position, expected);
+        change = Math.max(change, Math.abs(updated - expected[position]));
+        expected[position] = updated;
+      }
+    }
+    return expected;
+  }
+
+  /**
+   * Solves the equation of one tile for its own value, using the current values of the
+   * other tiles. Moves that return to the same tile are moved to the left-hand side.
+   */
+  private double solveTile(int position, double[] expected) throws InvalidBoardConfigurationException {
+    double constant = 1;
+    double self = 0;
+    for (int total = dice.getMinTotal(); total <= dice.getMaxTotal(); total++) {
+      double probability = dice.probability(total);
+      int target = board.target(position, total);
+      int destination = board.landing(target);
+      if (board.isFinished(destination)) {
+        continue;
+      }
+      if (board.skips(target)) {
+        constant += probability;
+      }
+      if (destination == position) {
+        self += probability;
+      } else {
+        constant += probability * expected[destination];
+      }
+    }
+    if (self >= 1 - 1e-12) {
+      throw new InvalidBoardConfigurationException("Tile " + position + " can never be left");
+    }
+    return constant / (1 - self);
+  }
+
+  /**
+   * Calculates the expected number of turns a single player needs from the start tile.
+   *
+   * @return the expected number of turns
+   * @throws InvalidBoardConfigurationException if the expected number of turns is infinite
+   */
+  public double expectedTurns() throws InvalidBoardConfigurationException {
+    return expectedTurnsPerTile()[CompiledBoard.START_TILE];
+  }
+
+  /**
+   * Calculates the expected square of the number of turns from every tile to the end of the
+   * game. A turn costs 1, or 2 when it lands on a skip tile, so with the cost x and the tile q
+   * a roll leads to:
+   * <pre>
+   *   S[p] = sum over totals r of P(r) * (x * x + 2 * x * E[q] + S[q])
+   * </pre>
+   *
+   * @param expected the expected remaining turns per tile, from {@link #expectedTurnsPerTile()}
+   * @return the second moment of the remaining turns, indexed by tile ID; index 0 is unused
+   * @throws InvalidBoardConfigurationException if the calculation does not converge
+   */
+  public double[] secondMomentPerTile(double[] expected) throws InvalidBoardConfigurationException {
+    return secondMomentPerTile(expected, new double[board.getFinalTileId() + 1]);
+  }
+
+  /**
+   * Calculates the second moment of the remaining turns, starting the iteration from the given
+   * values.
+   *
+   * @param expected the expected remaining turns per tile
+   * @param initial  the starting values, indexed by tile ID; the array is not modified
+   * @return the second moment of the remaining turns, indexed by tile ID
+   * @throws InvalidBoardConfigurationException if the calculation does not converge
+   */
+  double[] secondMomentPerTile(double[] expected, double[] initial)
+      throws InvalidBoardConfigurationException {
+    int finalTileId = board.getFinalTileId();
+    double[] moments = Arrays.copyOf(initial, finalTileId + 1);
+    moments[finalTileId] = 0;
+    int sweeps = 0;
+
+    double change = Double.MAX_VALUE;
+    while (change > DEFAULT_TOLERANCE) {
+      if (++sweeps > MAX_ITERATIONS) {
+        throw new InvalidBoardConfigurationException("Variance of the game length does not converge");
+      }
+      change = 0;
+      for (int position = finalTileId - 1; position >= CompiledBoard.START_TILE; position--) {
+        double constant = 0;
+        double self = 0;
+        for (int total = dice.getMinTotal(); total <= dice.getMaxTotal(); total++) {
+          double probability = dice.probability(total);
+          int target = board.target(position, total);
+          int destination = board.landing(target);
+          if (board.isFinished(destination)) {
+            // The winning turn ends the game, so a skip on the final tile is never served
+            constant += probability;
+            continue;
+          }
+          double cost = board.skips(target) ? 2 : 1;
+          constant += probability * (cost * cost + 2 * cost * expected[destination]);
+          if (destination == position) {
+            self += probability;
+          } else {
+            constant += probability * moments[destination];
+          }
+        }
+        double updated = constant / (1 - self);
+        change = Math.max(change, Math.abs(updated - moments[position]) / Math.max(1, updated));
+        moments[position] = updated;
+      }
+    }
+    return moments;
+  }
+
+  /**
+   * Calculates the variance of the number of turns a single player needs from the start tile.
+   *
+   * @return the variance of the number of turns
+   * @throws InvalidBoardConfigurationException if the expected number of turns is infinite
+   */
+  public double turnVariance() throws InvalidBoardConfigurationException {
+    double[] expected = expectedTurnsPerTile();
+    double[] moments = secondMomentPerTile(expected);
+    double mean = expected[CompiledBoard.START_TILE];
+    return Math.max(0, moments[CompiledBoard.START_TILE] - mean * mean);
+  }
+
+  /**
+   * Retrieves the number of Gauss-Seidel sweeps of the last calculation.
+   *
+   * @return the number of sweeps
+   */
+  public int getIterations() {
+    return iterations;
+  }
+}
@@ -0,0 +1,399 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.exception.InvalidBoardConfigurationException;
+import edu.ntnu.idi.idatt.model.Board;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The BoardGenerator class creates boards whose expected game length and spread match a
+ * target. It searches placements of ladders, chutes and skip tiles with simulated annealing:
+ * starting from a random layout, one action at a time is moved or given a new destination, and
+ * the change is kept if it brings the layout closer to the target, or with a probability that
+ * shrinks as the search cools down.
+ *
+ * <p>Every candidate is scored exactly with a {@link BoardAnalyzer} instead of simulating, so
+ * a candidate costs well under a millisecond on a 10x10 board. Several independent annealing
+ * chains run in parallel, one per thread, and the best layout found by any chain wins.
+ */
+public class BoardGenerator {
+  private static final double START_TEMPERATURE = 0.05;
+  private static final double END_TEMPERATURE = 1e-6;
+
+  private final int rows;
+  private final int cols;
+  private final int finalTileId;
+  private final double targetMean;
+  private final double targetStdDev;
+  private final int ladders;
+  private final int chutes;
+  private final int skips;
+  private final DiceDistribution dice;
+
+  /**
+   * The outcome of a generator run.
+   */
+  public static class Result {
+    private final Board board;
+    private final double mean;
+    private final double stdDev;
+    private final double cost;
+    private final long evaluations;
+
+    Result(Board board, double mean, double stdDev, double cost, long evaluations) {
+      this.board = board;
+      this.mean = mean;
+      this.stdDev = stdDev;
+      this.cost = cost;
+      this.evaluations = evaluations;
+    }
+
+    public Board getBoard() {
+      return board;
+    }
+
+    public double getMean() {
+      return mean;
+    }
+
+    public double getStdDev() {
+      return stdDev;
+    }
+
+    /**
+     * Retrieves the squared relative distance of the board from the target.
+     *
+     * @return the cost, 0 for a board exactly on target
+     */
+    public double getCost() {
+      return cost;
+    }
+
+    public long getEvaluations() {
+      return evaluations;
+    }
+  }
+
+  /**
+   * A layout of actions: for every tile the tile a ladder or chute leads to, 0 for no link,
+   * and whether it is a skip tile.
+   */
+  private static final class Layout {
+    final int[] links;
+    final boolean[] skips;
+    double mean;
+    double stdDev;
+    double cost;
+
+    Layout(int size) {
+      links = new int[size];
+      skips = new boolean[size];
+    }
+
+    Layout(Layout other) {
+      links = other.links.clone();
+      skips = other.skips.clone();
+      mean = other.mean;
+      stdDev = other.stdDev;
+      cost = other.cost;
+    }
+
+    boolean isFree(int tileId) {
+      return links[tileId] == 0 && !skips[tileId];
+    }
+  }
+
+  /**
+   * Constructs a generator.
+   *
+   * @param rows         the number of rows of the board
+   * @param cols         the number of columns of the board
+   * @param targetMean   the expected number of turns a single player should need
+   * @param targetStdDev the standard deviation of the number of turns, or 0 to ignore it
+   * @param ladders      the number of ladders to place
+   * @param chutes       the number of chutes to place
+   * @param skips        the number of skip tiles to place
+   * @param dice         the number of dice rolled every turn
+   */
+  public BoardGenerator(int rows, int cols, double targetMean, double targetStdDev,
+      int ladders, int chutes, int skips, int dice) {
+    if (rows <= 0 || cols <= 0) {
+      throw new IllegalArgumentException("Invalid board dimensions: " + rows + "x" + cols);
+    }
+    if (targetMean <= 0 || targetStdDev < 0) {
+      throw new IllegalArgumentException("Target mean must be positive and deviation not negative");
+    }
+    if (ladders < 0 || chutes < 0 || skips < 0) {
+      throw new IllegalArgumentException("Number of actions cannot be negative");
+    }
+    this.rows = rows;
+    this.cols = cols;
+    this.finalTileId = Math.multiplyExact(rows, cols);
+    // Every action needs its own tile and a free destination, not counting start and final tile
+    if (2 * (ladders + chutes) + skips > finalTileId - 2) {
+      throw new IllegalArgumentException("Too many actions for a board of " + finalTileId + " tiles");
+    }
+    this.targetMean = targetMean;
+    this.targetStdDev = targetStdDev;
+    this.ladders = ladders;
+    this.chutes = chutes;
+    this.skips = skips;
+    this.dice = new DiceDistribution(dice);
+  }
+
+  /**
+   * Runs the search.
+   *
+   * @param iterations the number of candidates every chain evaluates
+   * @param threads    the number of chains run in parallel
+   * @param seed       the seed of the random numbers; the same seed and thread count give the
+   *                   same board
+   * @return the best board found
+   * @throws InvalidBoardConfigurationException if no playable layout was found
+   */
+  public Result generate(int iterations, int threads, long seed)
+      throws InvalidBoardConfigurationException {
+    if (iterations < 1 || threads < 1) {
+      throw new IllegalArgumentException("Iterations and threads must be positive");
+    }
+
+    SplittableRandom random = new SplittableRandom(seed);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Layout>> chains = new ArrayList<>();
+      for (int chain = 0; chain < threads; chain++) {
+        SplittableRandom chainRandom = random.split();
+        chains.add(executor.submit(() -> anneal(iterations, chainRandom)));
+      }
+
+      Layout best = null;
+      for (Future<Layout> chain : chains) {
+        Layout layout = chain.get();
+        if (best == null || layout.cost < best.cost) {
+          best = layout;
+        }
+      }
+      if (best == null || Double.isInfinite(best.cost)) {
+        throw new InvalidBoardConfigurationException("No playable layout found");
+      }
+      if (targetStdDev == 0) {
+        // The search ignored the spread, so it is only calculated for the board returned
+        BoardAnalyzer analyzer = new BoardAnalyzer(compile(best), dice);
+        best.stdDev = standardDeviation(analyzer, analyzer.expectedTurnsPerTile());
+      }
+      return new Result(toBoard(best), best.mean, best.stdDev, best.cost, (long) iterations * threads);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InvalidBoardConfigurationException("Board generation was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new InvalidBoardConfigurationException("Board generation failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Layout anneal(int iterations, SplittableRandom random) {
+    Layout current = randomLayout(random);
+    evaluate(current);
+    Layout best = new Layout(current);
+
+    for (int i = 0; i < iterations; i++) {
+      double temperature = START_TEMPERATURE
+          * Math.pow(END_TEMPERATURE / START_TEMPERATURE, (double) i / iterations);
+      Layout candidate = new Layout(current);
+      mutate(candidate, random);
+      evaluate(candidate);
+
+      double delta = candidate.cost - current.cost;
+      if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+        current = candidate;
+        if (current.cost < best.cost) {
+          best = new Layout(current);
+        }
+      }
+    }
+    return best;
+  }
+
+  private Layout randomLayout(SplittableRandom random) {
+    Layout layout = new Layout(finalTileId + 1);
+    for (int i = 0; i < ladders; i++) {
+      placeLink(layout, randomFreeTile(layout, random, 2, finalTileId - 2), true, random);
+    }
+    for (int i = 0; i < chutes; i++) {
+      placeLink(layout, randomFreeTile(layout, random, 3, finalTileId - 1), false, random);
+    }
+    for (int i = 0; i < skips; i++) {
+      layout.skips[randomFreeTile(layout, random, 2, finalTileId - 1)] = true;
+    }
+    return layout;
+  }
+
+  /**
+   * Changes the layout slightly: an action is moved to another free tile, or a ladder or
+   * chute gets a new destination.
+   */
+  private void mutate(Layout layout, SplittableRandom random) {
+    int tileId = randomActionTile(layout, random);
+    if (tileId == 0) {
+      return;
+    }
+
+    if (layout.skips[tileId]) {
+      layout.skips[tileId] = false;
+      layout.skips[randomFreeTile(layout, random, 2, finalTileId - 1)] = true;
+      return;
+    }
+
+    boolean ladder = layout.links[tileId] > tileId;
+    layout.links[tileId] = 0;
+    int from = tileId;
+    if (random.nextBoolean()) {
+      from = ladder
+          ? randomFreeTile(layout, random, 2, finalTileId - 2)
+          : randomFreeTile(layout, random, 3, finalTileId - 1);
+    }
+    placeLink(layout, from, ladder, random);
+  }
+
+  /**
+   * Places a ladder or chute on the given free tile, leading to a random free tile above or
+   * below it. Destinations are kept free of actions, because the game does not chain them, so
+   * the link is left out if no tile in its direction is free.
+   */
+  private void placeLink(Layout layout, int from, boolean ladder, SplittableRandom random) {
+    int low = ladder ? from + 1 : 1;
+    int high = ladder ? finalTileId - 1 : from - 1;
+    int destination = 0;
+    for (int attempt = 0; attempt < 100 && destination == 0 && low <= high; attempt++) {
+      int candidate = random.nextInt(low, high + 1);
+      if (isFreeDestination(layout, candidate)) {
+        destination = candidate;
+      }
+    }
+    // Crowded board: take the free tile nearest to the start of the link
+    int step = ladder ? 1 : -1;
+    for (int candidate = from + step; destination == 0 && candidate >= low && candidate <= high;
+        candidate += step) {
+      if (isFreeDestination(layout, candidate)) {
+        destination = candidate;
+      }
+    }
+    layout.links[from] = destination;
+  }
+
+  private boolean isFreeDestination(Layout layout, int tileId) {
+    return layout.isFree(tileId) && !isDestination(layout, tileId);
+  }
+
+  private boolean isDestination(Layout layout, int tileId) {
+    for (int link : layout.links) {
+      if (link == tileId) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private int randomFreeTile(Layout layout, SplittableRandom random, int low, int high) {
+    for (int attempt = 0; attempt < 1000; attempt++) {
+      int tileId = random.nextInt(low, high + 1);
+      if (isFreeDestination(layout, tileId)) {
+        return tileId;
+      }
+    }
+    for (int tileId = low; tileId <= high; tileId++) {
+      if (isFreeDestination(layout, tileId)) {
+        return tileId;
+      }
+    }
+    throw new IllegalStateException("No free tile between " + low + " and " + high);
+  }
+
+  private int randomActionTile(Layout layout, SplittableRandom random) {
+    int actions = ladders + chutes + skips;
+    if (actions == 0) {
+      return 0;
+    }
+    int pick = random.nextInt(actions);
+    for (int tileId = 1; tileId <= finalTileId; tileId++) {
+      if (!layout.isFree(tileId) && pick-- == 0) {
+        return tileId;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Scores a layout by the squared relative distance of its mean and standard deviation from
+   * the target. Layouts where the final tile cannot always be reached score infinity.
+   */
+  private void evaluate(Layout layout) {
+    BoardAnalyzer analyzer = new BoardAnalyzer(compile(layout), dice);
+    try {
+      double[] expected = analyzer.expectedTurnsPerTile();
+      layout.mean = expected[CompiledBoard.START_TILE];
+      double cost = square((layout.mean - targetMean) / targetMean);
+      if (targetStdDev > 0) {
+        layout.stdDev = standardDeviation(analyzer, expected);
+        cost += square((layout.stdDev - targetStdDev) / targetStdDev);
+      }
+      layout.cost = cost;
+    } catch (InvalidBoardConfigurationException e) {
+      layout.cost = Double.POSITIVE_INFINITY;
+    }
+  }
+
+  private static double standardDeviation(BoardAnalyzer analyzer, double[] expected)
+      throws InvalidBoardConfigurationException {
+    double mean = expected[CompiledBoard.START_TILE];
+    double second = analyzer.secondMomentPerTile(expected)[CompiledBoard.START_TILE];
+    return Math.sqrt(Math.max(0, second - mean * mean));
+  }
+
+  private CompiledBoard compile(Layout layout) {
+    int[] landing = new int[finalTileId + 1];
+    for (int tileId = 1; tileId <= finalTileId; tileId++) {
+      landing[tileId] = layout.links[tileId] != 0 ? layout.links[tileId] : tileId;
+    }
+    return new CompiledBoard(finalTileId, landing, layout.skips);
+  }
+
+  private static double square(double value) {
+    return value * value;
+  }
+
+  private Board toBoard(Layout layout) {
+    Board board = new Board(rows, cols);
+    board.setupGameBoard();
+    for (int tileId = 1; tileId <= finalTileId; tileId++) {
+      if (layout.links[tileId] != 0) {
+        board.getTile(tileId).setTileAction(new LadderAction(layout.links[tileId]));
+      } else if (layout.skips[tileId]) {
+        board.getTile(tileId).setTileAction(new SkipTurnAction());
+      }
+    }
+    return board;
+  }
+
+  /**
+   * Suggests the number of ladders, chutes and skip tiles for a board of the given size, based
+   * on the bundled standard board with 7 ladders, 8 chutes and 7 skip tiles on 100 tiles.
+   *
+   * @param tiles the number of tiles on the board
+   * @return the number of ladders, chutes and skip tiles
+   */
+  public static int[] defaultActionCounts(int tiles) {
+    int[] counts = {tiles * 7 / 100, tiles * 8 / 100, tiles * 7 / 100};
+    return Arrays.stream(counts).map(count -> Math.max(count, 1)).toArray();
+  }
+}
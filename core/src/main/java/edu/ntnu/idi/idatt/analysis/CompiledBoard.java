@@ -0,0 +1,132 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.action.TileAction;
+import edu.ntnu.idi.idatt.exception.InvalidBoardConfigurationException;
+import edu.ntnu.idi.idatt.model.Board;
+import edu.ntnu.idi.idatt.model.Tile;
+
+/**
+ * The CompiledBoard class is a compact, read-only form of a {@link Board} used by the
+ * simulation and analysis code. The tile actions are resolved into plain arrays, so a move is
+ * two array lookups instead of creating players and performing actions.
+ *
+ * <p>The rules are the same as in the game: a roll moves the player forward, never beyond the
+ * final tile, and the action of the tile landed on is performed once. A ladder or chute moves
+ * the player to its destination without performing the action there, and a skip tile makes
+ * the player skip their next turn. A player has won when they stand on the final tile after
+ * the action was performed.
+ */
+public final class CompiledBoard {
+  public static final int START_TILE = 1;
+
+  private final int finalTileId;
+  private final int[] landing;
+  private final boolean[] skip;
+
+  CompiledBoard(int finalTileId, int[] landing, boolean[] skip) {
+    this.finalTileId = finalTileId;
+    this.landing = landing;
+    this.skip = skip;
+  }
+
+  /**
+   * Compiles the given board.
+   *
+   * @param board the board to compile
+   * @return the compiled board
+   * @throws InvalidBoardConfigurationException if a tile between the start and the final tile
+   *                                            is missing
+   */
+  public static CompiledBoard compile(Board board) throws InvalidBoardConfigurationException {
+    int finalTileId = board.getFinalTileId();
+    int[] landing = new int[finalTileId + 1];
+    boolean[] skip = new boolean[finalTileId + 1];
+
+    for (int tileId = START_TILE; tileId <= finalTileId; tileId++) {
+      Tile tile = board.getTile(tileId);
+      if (tile == null) {
+        throw new InvalidBoardConfigurationException("Board is missing tile " + tileId);
+      }
+      landing[tileId] = tileId;
+
+      TileAction action = tile.getTileAction();
+      if (action instanceof LadderAction) {
+        int destination = ((LadderAction) action).getDestinationTileId();
+        // The game ignores ladders leading to a tile that does not exist
+        if (board.getTile(destination) != null) {
+          landing[tileId] = destination;
+        }
+      } else if (action instanceof SkipTurnAction) {
+        skip[tileId] = true;
+      }
+    }
+    return new CompiledBoard(finalTileId, landing, skip);
+  }
+
+  /**
+   * Creates a copy of this board where landing on the given tile leads somewhere else. The
+   * skip tiles are shared with this board, so a variant costs one array copy.
+   *
+   * @param tileId      the ID of the tile to change
+   * @param destination the new destination, or the tile itself to remove its ladder or chute
+   * @return the changed board
+   */
+  CompiledBoard withLanding(int tileId, int destination) {
+    int[] changed = landing.clone();
+    changed[tileId] = destination;
+    return new CompiledBoard(finalTileId, changed, skip);
+  }
+
+  /**
+   * Calculates where a player ends up after rolling the given total, including the action of
+   * the tile landed on.
+   *
+   * @param position the ID of the tile the player stands on
+   * @param total    the total of the dice roll
+   * @return the ID of the tile the player ends up on
+   */
+  public int move(int position, int total) {
+    return landing[target(position, total)];
+  }
+
+  /**
+   * Calculates the tile a roll lands on, before its action is performed.
+   *
+   * @param position the ID of the tile the player stands on
+   * @param total    the total of the dice roll
+   * @return the ID of the tile landed on, never beyond the final tile
+   */
+  public int target(int position, int total) {
+    return Math.min(position + total, finalTileId);
+  }
+
+  /**
+   * Retrieves the tile a player ends up on after landing on the given tile.
+   *
+   * @param tileId the ID of the tile landed on
+   * @return the destination of the tile's ladder or chute, or the tile itself
+   */
+  public int landing(int tileId) {
+    return landing[tileId];
+  }
+
+  /**
+   * Checks whether landing on the given tile makes the player skip their next turn.
+   *
+   * @param tileId the ID of the tile landed on
+   * @return true if the tile has a skip turn action
+   */
+  public boolean skips(int tileId) {
+    return skip[tileId];
+  }
+
+  public boolean isFinished(int position) {
+    return position >= finalTileId;
+  }
+
+  public int getFinalTileId() {
+    return finalTileId;
+  }
+}
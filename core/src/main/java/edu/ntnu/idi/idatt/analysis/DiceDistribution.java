@@ -0,0 +1,86 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * The DiceDistribution class holds the probability of every total when rolling a number of
+ * six-sided dice, as the game's {@code Dice} does. The probabilities are calculated exactly by
+ * convolution, and totals can be sampled with a single random number instead of one per die.
+ */
+public final class DiceDistribution {
+  public static final int SIDES = 6;
+
+  private final int numberOfDice;
+  private final double[] probabilities;
+  private final double[] cumulative;
+
+  /**
+   * Calculates the distribution of the total of the given number of dice.
+   *
+   * @param numberOfDice the number of dice rolled, at least 1
+   */
+  public DiceDistribution(int numberOfDice) {
+    if (numberOfDice < 1) {
+      throw new IllegalArgumentException("You must have at least 1 die");
+    }
+    this.numberOfDice = numberOfDice;
+
+    double[] current = {1.0};
+    for (int die = 0; die < numberOfDice; die++) {
+      double[] next = new double[current.length + SIDES];
+      for (int total = 0; total < current.length; total++) {
+        if (current[total] == 0) {
+          continue;
+        }
+        for (int face = 1; face <= SIDES; face++) {
+          next[total + face] += current[total] / SIDES;
+        }
+      }
+      current = next;
+    }
+    probabilities = Arrays.copyOf(current, getMaxTotal() + 1);
+
+    cumulative = new double[probabilities.length];
+    double sum = 0;
+    for (int total = 0; total < probabilities.length; total++) {
+      sum += probabilities[total];
+      cumulative[total] = sum;
+    }
+  }
+
+  /**
+   * Retrieves the probability of rolling the given total.
+   *
+   * @param total the total of all dice
+   * @return the probability, 0 for totals that cannot be rolled
+   */
+  public double probability(int total) {
+    return total >= 0 && total < probabilities.length ? probabilities[total] : 0;
+  }
+
+  /**
+   * Rolls the dice.
+   *
+   * @param random the source of randomness
+   * @return the total of all dice
+   */
+  public int sample(SplittableRandom random) {
+    double u = random.nextDouble();
+    int index = Arrays.binarySearch(cumulative, getMinTotal(), cumulative.length, u);
+    int total = index >= 0 ? index + 1 : -index - 1;
+    return Math.min(Math.max(total, getMinTotal()), getMaxTotal());
+  }
+
+  public int getNumberOfDice() {
+    return numberOfDice;
+  }
+
+  public int getMinTotal() {
+    return numberOfDice;
+  }
+
+  public int getMaxTotal() {
+    return numberOfDice * SIDES;
+  }
+}
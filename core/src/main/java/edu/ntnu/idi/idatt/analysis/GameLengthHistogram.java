@@ -0,0 +1,110 @@
+package edu.ntnu.idi.idatt.analysis;
+
+/**
+ * The GameLengthHistogram class counts game lengths in buckets whose width grows with the
+ * length, in the style of an HDR histogram, so quantiles such as the median and the 99th
+ * percentile can be reported without storing the length of every game. Its memory does not
+ * depend on the number of games, and two histograms are merged by adding their buckets.
+ *
+ * <p>Lengths below {@value #SUB_BUCKETS} are counted exactly. Above that every range from a
+ * power of two to the next is split into {@value #HALF_SUB_BUCKETS} buckets of equal width, so
+ * a reported length is at most 1/{@value #HALF_SUB_BUCKETS} above the true length. All
+ * non-negative int values fit in {@value #BUCKETS} buckets.
+ */
+public final class GameLengthHistogram {
+  private static final int SUB_BUCKET_BITS = 7;
+  public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  public static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+  public static final int BUCKETS = (Integer.SIZE - SUB_BUCKET_BITS) * HALF_SUB_BUCKETS + SUB_BUCKETS;
+
+  private final long[] counts = new long[BUCKETS];
+  private long totalCount;
+
+  /**
+   * Records one game.
+   *
+   * @param length the length of the game, not negative
+   */
+  public void record(int length) {
+    record(length, 1);
+  }
+
+  /**
+   * Records several games of the same length.
+   *
+   * @param length the length of the games, not negative
+   * @param count  the number of games
+   */
+  public void record(int length, long count) {
+    if (length < 0) {
+      throw new IllegalArgumentException("Length cannot be negative: " + length);
+    }
+    counts[bucket(length)] += count;
+    totalCount += count;
+  }
+
+  /**
+   * Finds the bucket of a length. The exponent is the number of bits the length is shifted
+   * right by to fit in the upper half of the sub-buckets.
+   */
+  static int bucket(int length) {
+    if (length < SUB_BUCKETS) {
+      return length;
+    }
+    int exponent = (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(length)) - (SUB_BUCKET_BITS - 1);
+    return exponent * HALF_SUB_BUCKETS + (length >>> exponent);
+  }
+
+  /**
+   * Calculates the largest length counted in a bucket.
+   */
+  static int highestLength(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int exponent = bucket / HALF_SUB_BUCKETS - 1;
+    int subBucket = bucket - exponent * HALF_SUB_BUCKETS;
+    long highest = ((long) (subBucket + 1) << exponent) - 1;
+    return (int) Math.min(highest, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Adds the games of another histogram to this histogram.
+   *
+   * @param other the histogram to add
+   */
+  public void merge(GameLengthHistogram other) {
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      counts[bucket] += other.counts[bucket];
+    }
+    totalCount += other.totalCount;
+  }
+
+  /**
+   * Finds the length below or at which the given share of the games ended.
+   *
+   * @param quantile the share of games, between 0 and 1
+   * @return the length, rounded up to the end of its bucket, or 0 if no game was recorded
+   */
+  public int quantile(double quantile) {
+    if (!(quantile >= 0 && quantile <= 1)) {
+      throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+    }
+    if (totalCount == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(quantile * totalCount));
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      seen += counts[bucket];
+      if (seen >= rank) {
+        return highestLength(bucket);
+      }
+    }
+    return highestLength(BUCKETS - 1);
+  }
+
+  public long getTotalCount() {
+    return totalCount;
+  }
+}
@@ -0,0 +1,246 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import edu.ntnu.idi.idatt.exception.InvalidBoardConfigurationException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * The GameSimulator class plays complete games on a {@link CompiledBoard} without creating
+ * any game objects, following the same rules as the game: players take turns in seat order,
+ * a player who landed on a skip tile loses their next turn, and the game ends as soon as one
+ * player reaches the final tile.
+ *
+ * <p>Besides the length and winner of every game, the simulator counts the landings, actions
+ * and skipped turns of every tile in {@link TileStatistics}. Parallel simulations play every
+ * share of the games with their own result and statistics, which are merged at the end.
+ *
+ * <p>When the number of games needed is not known in advance, a {@link StoppingRule} lets the
+ * simulator play batches until the results are as precise as requested or the time is up.
+ */
+public class GameSimulator {
+  public static final int DEFAULT_TURN_LIMIT = 100_000;
+
+  private final CompiledBoard board;
+  private final DiceDistribution dice;
+  private final int players;
+  private final int turnLimit;
+
+  /**
+   * Constructs a simulator with the default turn limit.
+   *
+   * @param board   the board to play on
+   * @param dice    the dice rolled every turn
+   * @param players the number of players, at least 1
+   */
+  public GameSimulator(CompiledBoard board, DiceDistribution dice, int players) {
+    this(board, dice, players, DEFAULT_TURN_LIMIT);
+  }
+
+  /**
+   * Constructs a simulator.
+   *
+   * @param board     the board to play on
+   * @param dice      the dice rolled every turn
+   * @param players   the number of players, at least 1
+   * @param turnLimit the number of turns after which a game is stopped as unfinished
+   */
+  public GameSimulator(CompiledBoard board, DiceDistribution dice, int players, int turnLimit) {
+    if (players < 1) {
+      throw new IllegalArgumentException("At least one player is required");
+    }
+    if (turnLimit < 1) {
+      throw new IllegalArgumentException("Turn limit must be positive");
+    }
+    this.board = board;
+    this.dice = dice;
+    this.players = players;
+    this.turnLimit = turnLimit;
+  }
+
+  /**
+   * Simulates the given number of games.
+   *
+   * @param games the number of games to play
+   * @param seed  the seed of the random numbers, the same seed gives the same result
+   * @return the collected outcome of the games
+   */
+  public SimulationResult simulate(long games, long seed) {
+    SimulationResult result = new SimulationResult(players, board.getFinalTileId());
+    SplittableRandom random = new SplittableRandom(seed);
+    int[] positions = new int[players];
+    boolean[] skipping = new boolean[players];
+    for (long game = 0; game < games; game++) {
+      playGame(random, positions, skipping, result);
+    }
+    return result;
+  }
+
+  /**
+   * Simulates the given number of games on several threads. Every thread plays its share of
+   * the games with its own random numbers, result and tile statistics, so the threads share
+   * nothing while playing; the results are merged when all threads are done.
+   *
+   * @param games   the number of games to play
+   * @param seed    the seed of the random numbers, the same seed and number of threads give
+   *                the same result
+   * @param threads the number of threads to play on
+   * @return the collected outcome of the games
+   * @throws InvalidBoardConfigurationException if the simulation was interrupted or failed
+   */
+  public SimulationResult simulate(long games, long seed, int threads)
+      throws InvalidBoardConfigurationException {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Threads must be positive");
+    }
+    if (threads == 1) {
+      return simulate(games, seed);
+    }
+    SplittableRandom seeds = new SplittableRandom(seed);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      return simulate(games, seeds, threads, executor);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InvalidBoardConfigurationException("Simulation was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new InvalidBoardConfigurationException("Simulation failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Simulates batches of games until the stopping rule is satisfied, its time budget is used
+   * up or its maximum number of games is played. The rule is checked after every batch, and a
+   * batch is shortened when the games played so far show it would not fit in the time left.
+   * A full batch without a single finished game also ends the simulation, since the board is
+   * then not won within the turn limit and more batches would never narrow the intervals.
+   * With a time budget the number of games depends on the speed of the machine, so only runs
+   * without one give the same result for the same seed.
+   *
+   * @param rule     when to stop
+   * @param seed     the seed of the random numbers
+   * @param threads  the number of threads to play every batch on
+   * @param progress called with the games played so far after every batch
+   * @return the collected outcome of all batches
+   * @throws InvalidBoardConfigurationException if the simulation was interrupted or failed
+   */
+  public SimulationResult simulate(StoppingRule rule, long seed, int threads,
+      Consumer<SimulationResult> progress) throws InvalidBoardConfigurationException {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Threads must be positive");
+    }
+    SplittableRandom seeds = new SplittableRandom(seed);
+    ExecutorService executor = threads == 1 ? null : Executors.newFixedThreadPool(threads);
+    SimulationResult result = new SimulationResult(players, board.getFinalTileId());
+    long budgetNanos = rule.getTimeBudgetMillis() * 1_000_000;
+    long start = System.nanoTime();
+    long played = 0;
+    long batch = rule.getBatchGames();
+    try {
+      while (true) {
+        long batchStart = System.nanoTime();
+        long games = Math.min(batch, rule.getMaxGames() - played);
+        long finished = result.getGames();
+        result.merge(simulate(games, seeds, threads, executor));
+        played += games;
+        progress.accept(result);
+        boolean stalled = games >= rule.getBatchGames() && result.getGames() == finished;
+
+        long now = System.nanoTime();
+        long remaining = budgetNanos - (now - start);
+        if (rule.isSatisfied(result) || stalled || played >= rule.getMaxGames()
+            || (budgetNanos > 0 && remaining <= 0)) {
+          return result;
+        }
+        batch = rule.getBatchGames();
+        if (budgetNanos > 0) {
+          double nanosPerGame = (double) Math.max(now - batchStart, 1) / games;
+          batch = Math.max(1, Math.min(batch, (long) (remaining / nanosPerGame)));
+        }
+      }
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InvalidBoardConfigurationException("Simulation was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new InvalidBoardConfigurationException("Simulation failed", e.getCause());
+    } finally {
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  /**
+   * Plays the games in equal shares on the executor, seeding every share from the given
+   * random numbers, or on the calling thread if there is no executor.
+   */
+  private SimulationResult simulate(long games, SplittableRandom seeds, int threads,
+      ExecutorService executor) throws InterruptedException, ExecutionException {
+    if (executor == null) {
+      return simulate(games, seeds.nextLong());
+    }
+    List<Future<SimulationResult>> shares = new ArrayList<>();
+    for (int thread = 0; thread < threads; thread++) {
+      long share = games / threads + (thread < games % threads ? 1 : 0);
+      long shareSeed = seeds.nextLong();
+      shares.add(executor.submit(() -> simulate(share, shareSeed)));
+    }
+    SimulationResult result = new SimulationResult(players, board.getFinalTileId());
+    for (Future<SimulationResult> share : shares) {
+      result.merge(share.get());
+    }
+    return result;
+  }
+
+  /**
+   * Plays one game and records it in the result. The position and skip arrays are reused
+   * between games to avoid allocating per game.
+   */
+  void playGame(SplittableRandom random, int[] positions, boolean[] skipping,
+      SimulationResult result) {
+    for (int seat = 0; seat < players; seat++) {
+      positions[seat] = CompiledBoard.START_TILE;
+      skipping[seat] = false;
+    }
+
+    TileStatistics tiles = result.getTileStatistics();
+    int seat = 0;
+    for (int turn = 1; turn <= turnLimit; turn++) {
+      if (skipping[seat]) {
+        skipping[seat] = false;
+        if (tiles != null) {
+          tiles.recordSkip(positions[seat]);
+        }
+      } else {
+        int target = board.target(positions[seat], dice.sample(random));
+        positions[seat] = board.landing(target);
+        skipping[seat] = board.skips(target);
+        if (tiles != null) {
+          tiles.recordLanding(target);
+          if (positions[seat] != target || skipping[seat]) {
+            tiles.recordAction(target);
+          }
+        }
+        if (board.isFinished(positions[seat])) {
+          result.recordGame(turn, seat);
+          return;
+        }
+      }
+      seat = seat + 1 == players ? 0 : seat + 1;
+    }
+    result.recordUnfinished();
+  }
+
+  public int getPlayers() {
+    return players;
+  }
+}
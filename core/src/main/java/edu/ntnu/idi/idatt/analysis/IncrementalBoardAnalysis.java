@@ -0,0 +1,604 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.action.TileAction;
+import edu.ntnu.idi.idatt.exception.InvalidBoardConfigurationException;
+import edu.ntnu.idi.idatt.model.Board;
+import edu.ntnu.idi.idatt.model.Tile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The IncrementalBoardAnalysis class keeps the analysis of a board up to date while single
+ * tiles are edited, for interactive board design. It calculates the same expected turns and
+ * variance as {@link BoardAnalyzer}, and how often every tile is landed on, but solves the
+ * linear system {@code A E = c} behind them directly instead of iterating.
+ *
+ * <p>Row p of A is the tile p, with 1 on the diagonal and minus the probability of ending up
+ * on tile q in column q. Moves forward form an upper triangular matrix B, so B can be solved
+ * by back substitution in time proportional to the number of tiles. Moves backwards only lead
+ * to chute destinations, so they are a low-rank correction {@code U V^T} whose rank is the
+ * number of chute destinations, and the Woodbury identity
+ * <pre>
+ *   A^-1 = B^-1 - B^-1 U (I + V^T B^-1 U)^-1 V^T B^-1
+ * </pre>
+ * solves A with two back substitutions and one small dense solve.
+ *
+ * <p>Changing what landing on a tile leads to changes the same probability in every row that
+ * can roll onto the tile, so every edit is a rank-one update {@code u w^T} of A. Edits are
+ * collected and applied with the Woodbury identity a second time, which costs two solves with
+ * the factored matrix per edit. After {@value #MAX_UPDATES} edits the matrix is factored
+ * again from scratch.
+ */
+public class IncrementalBoardAnalysis {
+  public static final int MAX_UPDATES = 64;
+
+  private final int finalTileId;
+  private final int size;
+  private final DiceDistribution dice;
+  private final int[] landing;
+  private final boolean[] skip;
+
+  // The forward part B in compressed rows, without the diagonal
+  private double[] diagonal;
+  private int[] upperStart;
+  private int[] upperColumns;
+  private double[] upperValues;
+
+  // The backward part U V^T, one column of U for every chute destination
+  private int[] correctionColumns;
+  private int[] correctionStart;
+  private int[] correctionRows;
+  private double[] correctionValues;
+  private LuDecomposition capacitance;
+
+  // The edits since the last factorization
+  private final List<Update> updates = new ArrayList<>();
+  private LuDecomposition updateCapacitance;
+
+  private double[] expected;
+  private double[] moments;
+  private double[] visits;
+
+  /**
+   * One rank-one edit {@code u w^T} with the base solutions {@code z = A0^-1 u} and
+   * {@code y = A0^-T w}.
+   */
+  private static final class Update {
+    private final int[] rows;
+    private final double[] values;
+    private final int plusColumn;
+    private final int minusColumn;
+    private final double[] solved;
+    private final double[] solvedTransposed;
+
+    private Update(int[] rows, double[] values, int plusColumn, int minusColumn,
+        double[] solved, double[] solvedTransposed) {
+      this.rows = rows;
+      this.values = values;
+      this.plusColumn = plusColumn;
+      this.minusColumn = minusColumn;
+      this.solved = solved;
+      this.solvedTransposed = solvedTransposed;
+    }
+
+    private double dotW(double[] vector) {
+      double sum = 0;
+      if (plusColumn >= 0) {
+        sum += vector[plusColumn];
+      }
+      if (minusColumn >= 0) {
+        sum -= vector[minusColumn];
+      }
+      return sum;
+    }
+
+    private double dotU(double[] vector) {
+      double sum = 0;
+      for (int i = 0; i < rows.length; i++) {
+        sum += values[i] * vector[rows[i]];
+      }
+      return sum;
+    }
+  }
+
+  /**
+   * Constructs the analysis of the given board.
+   *
+   * @param board the board to analyze
+   * @param dice  the dice rolled every turn
+   * @throws InvalidBoardConfigurationException if a tile is missing or the expected number of
+   *                                            turns is infinite
+   */
+  public IncrementalBoardAnalysis(Board board, DiceDistribution dice)
+      throws InvalidBoardConfigurationException {
+    this(CompiledBoard.compile(board), dice);
+  }
+
+  /**
+   * Constructs the analysis of the given compiled board.
+   *
+   * @param board the board to analyze
+   * @param dice  the dice rolled every turn
+   * @throws InvalidBoardConfigurationException if the expected number of turns is infinite
+   */
+  public IncrementalBoardAnalysis(CompiledBoard board, DiceDistribution dice)
+      throws InvalidBoardConfigurationException {
+    this.finalTileId = board.getFinalTileId();
+    this.size = finalTileId + 1;
+    this.dice = dice;
+    this.landing = new int[size];
+    this.skip = new boolean[size];
+    for (int tileId = CompiledBoard.START_TILE; tileId <= finalTileId; tileId++) {
+      landing[tileId] = board.landing(tileId);
+      skip[tileId] = board.skips(tileId);
+    }
+    factor();
+  }
+
+  /**
+   * Reads the action of the given tile again after it was changed on the board.
+   *
+   * @param tile the changed tile
+   * @throws InvalidBoardConfigurationException if the change makes the final tile unreachable;
+   *                                            the change is undone
+   */
+  public void tileChanged(Tile tile) throws InvalidBoardConfigurationException {
+    int tileId = tile.getTileId();
+    TileAction action = tile.getTileAction();
+    int destination = tileId;
+    if (action instanceof LadderAction) {
+      int target = ((LadderAction) action).getDestinationTileId();
+      // The game ignores ladders leading to a tile that does not exist
+      if (target >= CompiledBoard.START_TILE && target <= finalTileId) {
+        destination = target;
+      }
+    }
+    setLanding(tileId, destination);
+    setSkip(tileId, action instanceof SkipTurnAction);
+  }
+
+  /**
+   * Changes where landing on a tile leads.
+   *
+   * @param tileId      the ID of the tile
+   * @param destination the destination of a ladder or chute, or the tile itself to remove it
+   * @throws InvalidBoardConfigurationException if the change makes the final tile unreachable;
+   *                                            the change is undone
+   */
+  public void setLanding(int tileId, int destination) throws InvalidBoardConfigurationException {
+    checkTile(tileId);
+    checkTile(destination);
+    int previous = landing[tileId];
+    if (previous == destination) {
+      return;
+    }
+    landing[tileId] = destination;
+    boolean refactor = updates.size() == MAX_UPDATES;
+    try {
+      if (refactor) {
+        factor();
+      } else {
+        addUpdate(tileId, destination, previous);
+      }
+    } catch (InvalidBoardConfigurationException e) {
+      landing[tileId] = previous;
+      if (refactor) {
+        factor();
+      }
+      throw e;
+    }
+    invalidate();
+  }
+
+  /**
+   * Changes whether landing on a tile makes the player skip their next turn. This only
+   * changes the right-hand side of the system, so nothing is factored again.
+   *
+   * @param tileId the ID of the tile
+   * @param skips  true to make the tile a skip tile
+   */
+  public void setSkip(int tileId, boolean skips) {
+    checkTile(tileId);
+    if (skip[tileId] != skips) {
+      skip[tileId] = skips;
+      invalidate();
+    }
+  }
+
+  /**
+   * Calculates the expected number of turns from every tile to the end of the game.
+   *
+   * @return the expected remaining turns, indexed by tile ID; index 0 is unused
+   */
+  public double[] expectedTurnsPerTile() {
+    if (expected == null) {
+      double[] constants = new double[size];
+      for (int position = CompiledBoard.START_TILE; position < finalTileId; position++) {
+        constants[position] = 1;
+        for (int total = dice.getMinTotal(); total <= dice.getMaxTotal(); total++) {
+          int target = Math.min(position + total, finalTileId);
+          if (skip[target] && landing[target] < finalTileId) {
+            constants[position] += dice.probability(total);
+          }
+        }
+      }
+      expected = solve(constants);
+    }
+    return expected.clone();
+  }
+
+  /**
+   * Calculates the expected number of turns a single player needs from the start tile.
+   *
+   * @return the expected number of turns
+   */
+  public double expectedTurns() {
+    expectedTurnsPerTile();
+    return expected[CompiledBoard.START_TILE];
+  }
+
+  /**
+   * Calculates the variance of the number of turns a single player needs from the start tile,
+   * as {@link BoardAnalyzer#turnVariance()} does.
+   *
+   * @return the variance of the number of turns
+   */
+  public double turnVariance() {
+    expectedTurnsPerTile();
+    if (moments == null) {
+      double[] constants = new double[size];
+      for (int position = CompiledBoard.START_TILE; position < finalTileId; position++) {
+        for (int total = dice.getMinTotal(); total <= dice.getMaxTotal(); total++) {
+          double probability = dice.probability(total);
+          int target = Math.min(position + total, finalTileId);
+          int destination = landing[target];
+          if (destination >= finalTileId) {
+            constants[position] += probability;
+          } else {
+            double cost = skip[target] ? 2 : 1;
+            constants[position] += probability * (cost * cost + 2 * cost * expected[destination]);
+          }
+        }
+      }
+      moments = solve(constants);
+    }
+    double mean = expected[CompiledBoard.START_TILE];
+    return Math.max(0, moments[CompiledBoard.START_TILE] - mean * mean);
+  }
+
+  /**
+   * Calculates how often a single player lands on every tile during a game, before the
+   * tile's action is performed. The value of a tile can be above 1, since a chute can bring
+   * the player past the tile again.
+   *
+   * @return the expected number of landings, indexed by tile ID; index 0 is unused
+   */
+  public double[] landingFrequencies() {
+    if (visits == null) {
+      double[] start = new double[size];
+      start[CompiledBoard.START_TILE] = 1;
+      visits = solveTransposed(start);
+    }
+    double[] landings = new double[size];
+    for (int position = CompiledBoard.START_TILE; position < finalTileId; position++) {
+      for (int total = dice.getMinTotal(); total <= dice.getMaxTotal(); total++) {
+        landings[Math.min(position + total, finalTileId)] += visits[position] * dice.probability(total);
+      }
+    }
+    return landings;
+  }
+
+  public int getFinalTileId() {
+    return finalTileId;
+  }
+
+  /**
+   * Retrieves the number of edits applied since the matrix was last factored.
+   *
+   * @return the number of pending rank-one updates
+   */
+  public int getPendingUpdates() {
+    return updates.size();
+  }
+
+  private void checkTile(int tileId) {
+    if (tileId < CompiledBoard.START_TILE || tileId > finalTileId) {
+      throw new IllegalArgumentException("Tile " + tileId + " is not on the board");
+    }
+  }
+
+  private void invalidate() {
+    expected = null;
+    moments = null;
+    visits = null;
+  }
+
+  /**
+   * Builds B and U V^T from the current tiles and factors the capacitance matrix
+   * {@code I + V^T B^-1 U}.
+   */
+  private void factor() throws InvalidBoardConfigurationException {
+    updates.clear();
+    updateCapacitance = null;
+    invalidate();
+
+    diagonal = new double[size];
+    upperStart = new int[size + 1];
+    double[] rowValues = new double[size];
+    int[] touched = new int[dice.getMaxTotal() - dice.getMinTotal() + 1];
+    List<Integer> columns = new ArrayList<>();
+    List<Double> values = new ArrayList<>();
+    List<List<double[]>> backward = new ArrayList<>();
+    int[] correctionIndex = new int[size];
+    Arrays.fill(correctionIndex, -1);
+    List<Integer> correctionTiles = new ArrayList<>();
+
+    for (int position = CompiledBoard.START_TILE; position < finalTileId; position++) {
+      upperStart[position] = columns.size();
+      diagonal[position] = 1;
+      int touchedCount = 0;
+      for (int total = dice.getMinTotal(); total <= dice.getMaxTotal(); total++) {
+        int destination = landing[Math.min(position + total, finalTileId)];
+        if (destination < finalTileId) {
+          if (rowValues[destination] == 0) {
+            touched[touchedCount++] = destination;
+          }
+          rowValues[destination] -= dice.probability(total);
+        }
+      }
+      for (int i = 0; i < touchedCount; i++) {
+        int column = touched[i];
+        double value = rowValues[column];
+        rowValues[column] = 0;
+        if (column == position) {
+          diagonal[position] += value;
+        } else if (column > position) {
+          columns.add(column);
+          values.add(value);
+        } else {
+          if (correctionIndex[column] < 0) {
+            correctionIndex[column] = correctionTiles.size();
+            correctionTiles.add(column);
+            backward.add(new ArrayList<>());
+          }
+          backward.get(correctionIndex[column]).add(new double[] {position, value});
+        }
+      }
+      if (diagonal[position] < 1e-12) {
+        throw new InvalidBoardConfigurationException("Tile " + position + " can never be left");
+      }
+    }
+    upperStart[finalTileId] = columns.size();
+    upperStart[size] = columns.size();
+    upperColumns = columns.stream().mapToInt(Integer::intValue).toArray();
+    upperValues = values.stream().mapToDouble(Double::doubleValue).toArray();
+
+    int rank = correctionTiles.size();
+    correctionColumns = correctionTiles.stream().mapToInt(Integer::intValue).toArray();
+    correctionStart = new int[rank + 1];
+    int entries = backward.stream().mapToInt(List::size).sum();
+    correctionRows = new int[entries];
+    correctionValues = new double[entries];
+    int next = 0;
+    for (int k = 0; k < rank; k++) {
+      correctionStart[k] = next;
+      for (double[] entry : backward.get(k)) {
+        correctionRows[next] = (int) entry[0];
+        correctionValues[next] = entry[1];
+        next++;
+      }
+    }
+    correctionStart[rank] = next;
+
+    double[][] matrix = new double[rank][rank];
+    double[] column = new double[size];
+    for (int j = 0; j < rank; j++) {
+      Arrays.fill(column, 0);
+      int highest = 0;
+      for (int e = correctionStart[j]; e < correctionStart[j + 1]; e++) {
+        column[correctionRows[e]] = correctionValues[e];
+        highest = Math.max(highest, correctionRows[e]);
+      }
+      backSubstitute(column, highest);
+      for (int k = 0; k < rank; k++) {
+        matrix[k][j] = column[correctionColumns[k]] + (k == j ? 1 : 0);
+      }
+    }
+    capacitance = rank == 0 ? null : new LuDecomposition(matrix);
+  }
+
+  /**
+   * Adds the edit of one tile as the update {@code u w^T} with u the probabilities of rolling
+   * onto the tile and w the columns of the old and the new destination.
+   */
+  private void addUpdate(int tileId, int destination, int previous)
+      throws InvalidBoardConfigurationException {
+    int from = Math.max(CompiledBoard.START_TILE, tileId - dice.getMaxTotal());
+    int to = tileId == finalTileId ? finalTileId - 1 : tileId - dice.getMinTotal();
+    List<double[]> entries = new ArrayList<>();
+    for (int position = from; position <= to; position++) {
+      double probability = 0;
+      for (int total = dice.getMinTotal(); total <= dice.getMaxTotal(); total++) {
+        if (Math.min(position + total, finalTileId) == tileId) {
+          probability += dice.probability(total);
+        }
+      }
+      if (probability > 0) {
+        entries.add(new double[] {position, probability});
+      }
+    }
+    if (entries.isEmpty()) {
+      return;
+    }
+    int[] rows = new int[entries.size()];
+    double[] values = new double[entries.size()];
+    double[] u = new double[size];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = (int) entries.get(i)[0];
+      values[i] = entries.get(i)[1];
+      u[rows[i]] = values[i];
+    }
+    // A gains +P in the column of the old destination and -P in the column of the new one
+    int plusColumn = previous < finalTileId ? previous : -1;
+    int minusColumn = destination < finalTileId ? destination : -1;
+    double[] w = new double[size];
+    if (plusColumn >= 0) {
+      w[plusColumn] += 1;
+    }
+    if (minusColumn >= 0) {
+      w[minusColumn] -= 1;
+    }
+
+    Update update = new Update(rows, values, plusColumn, minusColumn,
+        solveBase(u), solveBaseTransposed(w));
+    updates.add(update);
+
+    int count = updates.size();
+    double[][] matrix = new double[count][count];
+    for (int i = 0; i < count; i++) {
+      for (int j = 0; j < count; j++) {
+        matrix[i][j] = updates.get(i).dotW(updates.get(j).solved) + (i == j ? 1 : 0);
+      }
+    }
+    try {
+      updateCapacitance = new LuDecomposition(matrix);
+    } catch (InvalidBoardConfigurationException e) {
+      updates.remove(count - 1);
+      throw e;
+    }
+  }
+
+  /**
+   * Solves A x = b with all edits applied.
+   */
+  private double[] solve(double[] constants) {
+    double[] solution = solveBase(constants);
+    if (!updates.isEmpty()) {
+      double[] weights = new double[updates.size()];
+      for (int i = 0; i < weights.length; i++) {
+        weights[i] = updates.get(i).dotW(solution);
+      }
+      updateCapacitance.solve(weights);
+      for (int i = 0; i < weights.length; i++) {
+        double[] solved = updates.get(i).solved;
+        for (int p = 0; p < size; p++) {
+          solution[p] -= weights[i] * solved[p];
+        }
+      }
+    }
+    return solution;
+  }
+
+  /**
+   * Solves A^T x = b with all edits applied.
+   */
+  private double[] solveTransposed(double[] constants) {
+    double[] solution = solveBaseTransposed(constants);
+    if (!updates.isEmpty()) {
+      double[] weights = new double[updates.size()];
+      for (int i = 0; i < weights.length; i++) {
+        weights[i] = updates.get(i).dotU(solution);
+      }
+      updateCapacitance.solveTransposed(weights);
+      for (int i = 0; i < weights.length; i++) {
+        double[] solved = updates.get(i).solvedTransposed;
+        for (int p = 0; p < size; p++) {
+          solution[p] -= weights[i] * solved[p];
+        }
+      }
+    }
+    return solution;
+  }
+
+  /**
+   * Solves A0 x = b for the factored matrix: x = B^-1 b - B^-1 U C^-1 V^T B^-1 b.
+   */
+  private double[] solveBase(double[] constants) {
+    double[] solution = constants.clone();
+    backSubstitute(solution, finalTileId - 1);
+    if (capacitance != null) {
+      double[] weights = new double[correctionColumns.length];
+      for (int k = 0; k < weights.length; k++) {
+        weights[k] = solution[correctionColumns[k]];
+      }
+      capacitance.solve(weights);
+      double[] correction = new double[size];
+      int highest = 0;
+      for (int k = 0; k < weights.length; k++) {
+        for (int e = correctionStart[k]; e < correctionStart[k + 1]; e++) {
+          correction[correctionRows[e]] += correctionValues[e] * weights[k];
+          highest = Math.max(highest, correctionRows[e]);
+        }
+      }
+      backSubstitute(correction, highest);
+      for (int p = 0; p < size; p++) {
+        solution[p] -= correction[p];
+      }
+    }
+    solution[0] = 0;
+    solution[finalTileId] = 0;
+    return solution;
+  }
+
+  /**
+   * Solves A0^T x = b for the factored matrix: x = B^-T b - B^-T V C^-T U^T B^-T b.
+   */
+  private double[] solveBaseTransposed(double[] constants) {
+    double[] solution = constants.clone();
+    forwardSubstitute(solution);
+    if (capacitance != null) {
+      double[] weights = new double[correctionColumns.length];
+      for (int k = 0; k < weights.length; k++) {
+        double sum = 0;
+        for (int e = correctionStart[k]; e < correctionStart[k + 1]; e++) {
+          sum += correctionValues[e] * solution[correctionRows[e]];
+        }
+        weights[k] = sum;
+      }
+      capacitance.solveTransposed(weights);
+      double[] correction = new double[size];
+      for (int k = 0; k < weights.length; k++) {
+        correction[correctionColumns[k]] += weights[k];
+      }
+      forwardSubstitute(correction);
+      for (int p = 0; p < size; p++) {
+        solution[p] -= correction[p];
+      }
+    }
+    solution[0] = 0;
+    solution[finalTileId] = 0;
+    return solution;
+  }
+
+  /**
+   * Solves B x = b in place for the rows up to the given one; the rows above it must be 0.
+   */
+  private void backSubstitute(double[] values, int highest) {
+    for (int position = Math.min(highest, finalTileId - 1); position >= CompiledBoard.START_TILE;
+        position--) {
+      double sum = values[position];
+      for (int e = upperStart[position]; e < upperStart[position + 1]; e++) {
+        sum -= upperValues[e] * values[upperColumns[e]];
+      }
+      values[position] = sum / diagonal[position];
+    }
+  }
+
+  /**
+   * Solves B^T x = b in place, column by column.
+   */
+  private void forwardSubstitute(double[] values) {
+    for (int position = CompiledBoard.START_TILE; position < finalTileId; position++) {
+      double value = values[position] / diagonal[position];
+      values[position] = value;
+      if (value != 0) {
+        for (int e = upperStart[position]; e < upperStart[position + 1]; e++) {
+          values[upperColumns[e]] -= upperValues[e] * value;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import edu.ntnu.idi.idatt.exception.InvalidBoardConfigurationException;
+
+/**
+ * The LuDecomposition class factors a small dense square matrix with partial pivoting, so
+ * systems with the matrix or its transpose can be solved repeatedly. It is used for the
+ * capacitance matrices of {@link IncrementalBoardAnalysis}.
+ */
+final class LuDecomposition {
+  private static final double SINGULAR_PIVOT = 1e-12;
+
+  private final double[][] lu;
+  private final int[] pivot;
+
+  /**
+   * Factors the given matrix.
+   *
+   * @param matrix the matrix to factor; it is overwritten with the factors
+   * @throws InvalidBoardConfigurationException if the matrix is singular
+   */
+  LuDecomposition(double[][] matrix) throws InvalidBoardConfigurationException {
+    int size = matrix.length;
+    lu = matrix;
+    pivot = new int[size];
+    for (int column = 0; column < size; column++) {
+      int best = column;
+      for (int row = column + 1; row < size; row++) {
+        if (Math.abs(lu[row][column]) > Math.abs(lu[best][column])) {
+          best = row;
+        }
+      }
+      if (Math.abs(lu[best][column]) < SINGULAR_PIVOT) {
+        throw new InvalidBoardConfigurationException(
+            "Expected game length is infinite; the final tile may be unreachable");
+      }
+      double[] swap = lu[best];
+      lu[best] = lu[column];
+      lu[column] = swap;
+      pivot[column] = best;
+
+      double[] pivotRow = lu[column];
+      for (int row = column + 1; row < size; row++) {
+        double[] current = lu[row];
+        double factor = current[column] / pivotRow[column];
+        current[column] = factor;
+        if (factor != 0) {
+          for (int k = column + 1; k < size; k++) {
+            current[k] -= factor * pivotRow[k];
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Solves the system in place.
+   *
+   * @param values the right-hand side, replaced by the solution
+   */
+  void solve(double[] values) {
+    int size = lu.length;
+    for (int i = 0; i < size; i++) {
+      double swap = values[pivot[i]];
+      values[pivot[i]] = values[i];
+      values[i] = swap;
+    }
+    for (int i = 0; i < size; i++) {
+      double sum = values[i];
+      for (int k = 0; k < i; k++) {
+        sum -= lu[i][k] * values[k];
+      }
+      values[i] = sum;
+    }
+    for (int i = size - 1; i >= 0; i--) {
+      double sum = values[i];
+      for (int k = i + 1; k < size; k++) {
+        sum -= lu[i][k] * values[k];
+      }
+      values[i] = sum / lu[i][i];
+    }
+  }
+
+  /**
+   * Solves the system with the transposed matrix in place.
+   *
+   * @param values the right-hand side, replaced by the solution
+   */
+  void solveTransposed(double[] values) {
+    int size = lu.length;
+    for (int i = 0; i < size; i++) {
+      double sum = values[i];
+      for (int k = 0; k < i; k++) {
+        sum -= lu[k][i] * values[k];
+      }
+      values[i] = sum / lu[i][i];
+    }
+    for (int i = size - 1; i >= 0; i--) {
+      double sum = values[i];
+      for (int k = i + 1; k < size; k++) {
+        sum -= lu[k][i] * values[k];
+      }
+      values[i] = sum;
+    }
+    for (int i = size - 1; i >= 0; i--) {
+      double swap = values[pivot[i]];
+      values[pivot[i]] = values[i];
+      values[i] = swap;
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import edu.ntnu.idi.idatt.exception.InvalidBoardConfigurationException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The SensitivityAnalyzer class measures how much every ladder and chute of a board
+ * contributes to the length of a game. For every ladder or chute it evaluates three variants
+ * of the board: without the action, and with the destination one tile earlier and one tile
+ * later. The expected number of turns and the variance of every variant are compared with the
+ * original board.
+ *
+ * <p>The original board is solved once. Every variant shares its skip tiles and dice with the
+ * original, and its solve starts from the original solution instead of from zero, since a
+ * single changed tile leaves most of the values close to where they were. The variants are
+ * independent, so they are evaluated in parallel.
+ */
+public class SensitivityAnalyzer {
+  private final CompiledBoard board;
+  private final DiceDistribution dice;
+
+  /**
+   * The kind of change made to a ladder or chute.
+   */
+  public enum Change {
+    REMOVED,
+    DESTINATION_BACK,
+    DESTINATION_FORWARD
+  }
+
+  /**
+   * The effect of one change to one ladder or chute.
+   */
+  public static class Entry {
+    private final int tileId;
+    private final int destination;
+    private final Change change;
+    private final int changedDestination;
+    private final double meanDelta;
+    private final double varianceDelta;
+
+    Entry(int tileId, int destination, Change change, int changedDestination,
+        double meanDelta, double varianceDelta) {
+      this.tileId = tileId;
+      this.destination = destination;
+      this.change = change;
+      this.changedDestination = changedDestination;
+      this.meanDelta = meanDelta;
+      this.varianceDelta = varianceDelta;
+    }
+
+    public int getTileId() {
+      return tileId;
+    }
+
+    public int getDestination() {
+      return destination;
+    }
+
+    public Change getChange() {
+      return change;
+    }
+
+    /**
+     * Retrieves where landing on the tile leads after the change.
+     *
+     * @return the new destination, or the tile itself if the action was removed
+     */
+    public int getChangedDestination() {
+      return changedDestination;
+    }
+
+    /**
+     * Retrieves the change in expected turns; positive if the change makes games longer.
+     *
+     * @return the changed expected turns minus the original expected turns
+     */
+    public double getMeanDelta() {
+      return meanDelta;
+    }
+
+    /**
+     * Retrieves the change in the variance of the number of turns.
+     *
+     * @return the changed variance minus the original variance
+     */
+    public double getVarianceDelta() {
+      return varianceDelta;
+    }
+
+    /**
+     * Checks whether the ladder or chute moves players forward.
+     *
+     * @return true for a ladder, false for a chute
+     */
+    public boolean isLadder() {
+      return destination > tileId;
+    }
+  }
+
+  /**
+   * Constructs an analyzer for the given board and dice.
+   *
+   * @param board the board to analyze
+   * @param dice  the dice rolled every turn
+   */
+  public SensitivityAnalyzer(CompiledBoard board, DiceDistribution dice) {
+    this.board = board;
+    this.dice = dice;
+  }
+
+  /**
+   * Evaluates every change to every ladder and chute.
+   *
+   * @param threads the number of variants evaluated in parallel
+   * @return the effects, ordered by the size of the change in expected turns, largest first
+   * @throws InvalidBoardConfigurationException if the original board has an infinite expected
+   *                                            game length
+   */
+  public List<Entry> analyze(int threads) throws InvalidBoardConfigurationException {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Threads must be positive");
+    }
+    BoardAnalyzer analyzer = new BoardAnalyzer(board, dice);
+    double[] expected = analyzer.expectedTurnsPerTile();
+    double[] moments = analyzer.secondMomentPerTile(expected);
+    double mean = expected[CompiledBoard.START_TILE];
+    double variance = moments[CompiledBoard.START_TILE] - mean * mean;
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Entry>> variants = new ArrayList<>();
+      for (int tileId = CompiledBoard.START_TILE; tileId < board.getFinalTileId(); tileId++) {
+        int destination = board.landing(tileId);
+        if (destination == tileId) {
+          continue;
+        }
+        submit(executor, variants, tileId, Change.REMOVED, tileId, expected, moments, mean, variance);
+        if (destination - 1 >= CompiledBoard.START_TILE && destination - 1 != tileId) {
+          submit(executor, variants, tileId, Change.DESTINATION_BACK, destination - 1,
+              expected, moments, mean, variance);
+        }
+        if (destination + 1 <= board.getFinalTileId() && destination + 1 != tileId) {
+          submit(executor, variants, tileId, Change.DESTINATION_FORWARD, destination + 1,
+              expected, moments, mean, variance);
+        }
+      }
+
+      List<Entry> entries = new ArrayList<>();
+      for (Future<Entry> variant : variants) {
+        Entry entry = variant.get();
+        if (entry != null) {
+          entries.add(entry);
+        }
+      }
+      entries.sort(Comparator.comparingDouble((Entry entry) -> Math.abs(entry.getMeanDelta()))
+          .reversed());
+      return entries;
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InvalidBoardConfigurationException("Sensitivity analysis was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new InvalidBoardConfigurationException("Sensitivity analysis failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void submit(ExecutorService executor, List<Future<Entry>> variants, int tileId,
+      Change change, int changedDestination, double[] expected, double[] moments,
+      double mean, double variance) {
+    variants.add(executor.submit(() -> {
+      BoardAnalyzer analyzer =
+          new BoardAnalyzer(board.withLanding(tileId, changedDestination), dice);
+      double[] changedExpected;
+      try {
+        changedExpected = analyzer.expectedTurnsPerTile(expected);
+      } catch (InvalidBoardConfigurationException e) {
+        // A change that traps the players tells nothing useful about the original action
+        return null;
+      }
+      double[] changedMoments = analyzer.secondMomentPerTile(changedExpected, moments);
+      double changedMean = changedExpected[CompiledBoard.START_TILE];
+      double changedVariance = changedMoments[CompiledBoard.START_TILE] - changedMean * changedMean;
+      return new Entry(tileId, board.landing(tileId), change, changedDestination,
+          changedMean - mean, changedVariance - variance);
+    }));
+  }
+}
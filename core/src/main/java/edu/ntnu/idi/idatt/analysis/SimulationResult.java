@@ -0,0 +1,201 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import java.util.Arrays;
+
+/**
+ * The SimulationResult class collects the outcome of simulated games: how many turns every
+ * game lasted and which seat won it. A turn is one player's turn, including turns that were
+ * skipped. Games that did not finish within the turn limit are counted separately and are not
+ * part of the length statistics. A result can also collect {@link TileStatistics} of the
+ * tiles landed on during the games.
+ *
+ * <p>No game is stored: the lengths are counted in a {@link GameLengthHistogram} for the
+ * quantiles, and the wins in a counter per seat, so a result takes the same memory for any
+ * number of games and merging two results costs the size of the histogram.
+ */
+public class SimulationResult {
+  private final long[] winsPerSeat;
+  private final TileStatistics tileStatistics;
+  private final GameLengthHistogram lengths = new GameLengthHistogram();
+  private long games;
+  private long unfinished;
+  private long turnSum;
+  private double turnSquareSum;
+  private int minTurns = Integer.MAX_VALUE;
+  private int maxTurns;
+
+  /**
+   * Constructs an empty result for games with the given number of players.
+   *
+   * @param players the number of players in every game
+   */
+  public SimulationResult(int players) {
+    this.winsPerSeat = new long[players];
+    this.tileStatistics = null;
+  }
+
+  /**
+   * Constructs an empty result that also collects tile statistics.
+   *
+   * @param players     the number of players in every game
+   * @param finalTileId the ID of the final tile of the board played on
+   */
+  public SimulationResult(int players, int finalTileId) {
+    this.winsPerSeat = new long[players];
+    this.tileStatistics = new TileStatistics(finalTileId);
+  }
+
+  /**
+   * Records a finished game.
+   *
+   * @param turns the number of turns the game lasted
+   * @param seat  the seat of the winner, starting at 0 for the player moving first
+   */
+  public void recordGame(int turns, int seat) {
+    games++;
+    turnSum += turns;
+    turnSquareSum += (double) turns * turns;
+    minTurns = Math.min(minTurns, turns);
+    maxTurns = Math.max(maxTurns, turns);
+    lengths.record(turns);
+    winsPerSeat[seat]++;
+  }
+
+  /**
+   * Records a game that was stopped at the turn limit.
+   */
+  public void recordUnfinished() {
+    unfinished++;
+  }
+
+  /**
+   * Adds the games of another result with the same number of players to this result.
+   *
+   * @param other the result to add
+   */
+  public void merge(SimulationResult other) {
+    if (other.winsPerSeat.length != winsPerSeat.length) {
+      throw new IllegalArgumentException("Cannot merge results for different numbers of players");
+    }
+    games += other.games;
+    unfinished += other.unfinished;
+    turnSum += other.turnSum;
+    turnSquareSum += other.turnSquareSum;
+    minTurns = Math.min(minTurns, other.minTurns);
+    maxTurns = Math.max(maxTurns, other.maxTurns);
+    lengths.merge(other.lengths);
+    for (int seat = 0; seat < winsPerSeat.length; seat++) {
+      winsPerSeat[seat] += other.winsPerSeat[seat];
+    }
+    if (tileStatistics != null && other.tileStatistics != null) {
+      tileStatistics.merge(other.tileStatistics);
+    }
+  }
+
+  public long getGames() {
+    return games;
+  }
+
+  public long getUnfinished() {
+    return unfinished;
+  }
+
+  public int getPlayers() {
+    return winsPerSeat.length;
+  }
+
+  /**
+   * Retrieves the mean number of turns of the finished games.
+   *
+   * @return the mean game length, or NaN if no game finished
+   */
+  public double getMeanTurns() {
+    return games == 0 ? Double.NaN : (double) turnSum / games;
+  }
+
+  /**
+   * Retrieves the sample standard deviation of the number of turns of the finished games.
+   *
+   * @return the standard deviation, or NaN if fewer than two games finished
+   */
+  public double getStandardDeviation() {
+    if (games < 2) {
+      return Double.NaN;
+    }
+    double mean = getMeanTurns();
+    double variance = (turnSquareSum - games * mean * mean) / (games - 1);
+    return Math.sqrt(Math.max(variance, 0));
+  }
+
+  /**
+   * Calculates the half-width of the confidence interval of the mean number of turns, using
+   * the normal approximation.
+   *
+   * @param z the number of standard errors the interval reaches, such as 1.96 for 95%
+   * @return the half-width in turns, or NaN if fewer than two games finished
+   */
+  public double getMeanTurnsHalfWidth(double z) {
+    return z * getStandardDeviation() / Math.sqrt(games);
+  }
+
+  /**
+   * Retrieves the number of turns within which the given share of the finished games ended.
+   * The value is exact below {@value GameLengthHistogram#SUB_BUCKETS} turns and rounded up by
+   * less than 2% above.
+   *
+   * @param quantile the share of games, between 0 and 1, such as 0.5 for the median
+   * @return the number of turns, or 0 if no game finished
+   */
+  public int getQuantileTurns(double quantile) {
+    return Math.min(lengths.quantile(quantile), maxTurns);
+  }
+
+  public int getMinTurns() {
+    return games == 0 ? 0 : minTurns;
+  }
+
+  public int getMaxTurns() {
+    return maxTurns;
+  }
+
+  /**
+   * Retrieves the statistics of the tiles landed on during the games.
+   *
+   * @return the tile statistics, or null if this result does not collect them
+   */
+  public TileStatistics getTileStatistics() {
+    return tileStatistics;
+  }
+
+  public long[] getWinsPerSeat() {
+    return Arrays.copyOf(winsPerSeat, winsPerSeat.length);
+  }
+
+  /**
+   * Retrieves the share of finished games won by the given seat.
+   *
+   * @param seat the seat, starting at 0 for the player moving first
+   * @return the win rate between 0 and 1, or NaN if no game finished
+   */
+  public double getWinRate(int seat) {
+    return games == 0 ? Double.NaN : (double) winsPerSeat[seat] / games;
+  }
+
+  /**
+   * Calculates the half-width of the confidence interval of the win rate of a seat. The
+   * Agresti-Coull adjustment adds z&sup2; games, half of them won, so a seat that never won
+   * still gets an interval of the width its number of games allows.
+   *
+   * @param seat the seat, starting at 0 for the player moving first
+   * @param z    the number of standard errors the interval reaches, such as 1.96 for 95%
+   * @return the half-width between 0 and 1, or NaN if no game finished
+   */
+  public double getWinRateHalfWidth(int seat, double z) {
+    if (games == 0) {
+      return Double.NaN;
+    }
+    double adjustedGames = games + z * z;
+    double adjustedRate = (winsPerSeat[seat] + z * z / 2) / adjustedGames;
+    return z * Math.sqrt(adjustedRate * (1 - adjustedRate) / adjustedGames);
+  }
+}
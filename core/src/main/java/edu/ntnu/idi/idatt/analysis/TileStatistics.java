@@ -0,0 +1,154 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * The TileStatistics class counts per tile how often players land on it, how often its action
+ * is performed and how often a turn is skipped on it. It is filled by the
+ * {@link GameSimulator} and by live games, and shown as a heatmap on the board.
+ *
+ * <p>The counters are plain arrays and the class is not thread-safe. Parallel simulations give
+ * every thread its own statistics and {@link #merge(TileStatistics) merge} them when the
+ * threads are done, so the threads never write to the same memory while playing and recording
+ * costs one array increment.
+ */
+public final class TileStatistics {
+  private final long[] landings;
+  private final long[] actions;
+  private final long[] skips;
+
+  /**
+   * Constructs empty statistics for a board.
+   *
+   * @param finalTileId the ID of the final tile of the board
+   */
+  public TileStatistics(int finalTileId) {
+    if (finalTileId < CompiledBoard.START_TILE) {
+      throw new IllegalArgumentException("A board needs at least one tile");
+    }
+    this.landings = new long[finalTileId + 1];
+    this.actions = new long[finalTileId + 1];
+    this.skips = new long[finalTileId + 1];
+  }
+
+  /**
+   * Records that a roll landed on a tile, before the tile's action was performed.
+   *
+   * @param tileId the ID of the tile landed on; IDs outside the board are ignored
+   */
+  public void recordLanding(int tileId) {
+    if (isOnBoard(tileId)) {
+      landings[tileId]++;
+    }
+  }
+
+  /**
+   * Records that the action of a tile was performed, such as a ladder, a chute or a skip.
+   *
+   * @param tileId the ID of the tile; IDs outside the board are ignored
+   */
+  public void recordAction(int tileId) {
+    if (isOnBoard(tileId)) {
+      actions[tileId]++;
+    }
+  }
+
+  /**
+   * Records that a player skipped a turn while standing on a tile.
+   *
+   * @param tileId the ID of the tile the player stands on; IDs outside the board are ignored
+   */
+  public void recordSkip(int tileId) {
+    if (isOnBoard(tileId)) {
+      skips[tileId]++;
+    }
+  }
+
+  private boolean isOnBoard(int tileId) {
+    return tileId >= CompiledBoard.START_TILE && tileId < landings.length;
+  }
+
+  /**
+   * Adds the counts of other statistics for the same board to these statistics.
+   *
+   * @param other the statistics to add
+   */
+  public void merge(TileStatistics other) {
+    if (other.landings.length != landings.length) {
+      throw new IllegalArgumentException("Cannot merge statistics of boards of different sizes");
+    }
+    for (int tileId = 0; tileId < landings.length; tileId++) {
+      landings[tileId] += other.landings[tileId];
+      actions[tileId] += other.actions[tileId];
+      skips[tileId] += other.skips[tileId];
+    }
+  }
+
+  /**
+   * Sets every counter back to 0, for example when a new game starts.
+   */
+  public void clear() {
+    Arrays.fill(landings, 0);
+    Arrays.fill(actions, 0);
+    Arrays.fill(skips, 0);
+  }
+
+  public long getLandings(int tileId) {
+    return isOnBoard(tileId) ? landings[tileId] : 0;
+  }
+
+  public long getActions(int tileId) {
+    return isOnBoard(tileId) ? actions[tileId] : 0;
+  }
+
+  public long getSkips(int tileId) {
+    return isOnBoard(tileId) ? skips[tileId] : 0;
+  }
+
+  /**
+   * Finds the largest number of landings on a single tile, which a heatmap is scaled to.
+   *
+   * @return the landings on the most visited tile, 0 if nothing was recorded
+   */
+  public long getMaxLandings() {
+    long max = 0;
+    for (long count : landings) {
+      max = Math.max(max, count);
+    }
+    return max;
+  }
+
+  /**
+   * Calculates the total number of landings on all tiles.
+   *
+   * @return the number of recorded landings
+   */
+  public long getTotalLandings() {
+    long total = 0;
+    for (long count : landings) {
+      total += count;
+    }
+    return total;
+  }
+
+  /**
+   * Finds the tiles landed on most often.
+   *
+   * @param count the number of tiles to return
+   * @return the IDs of up to count tiles with landings, most landed on first
+   */
+  public int[] mostLandedTiles(int count) {
+    return IntStream.range(CompiledBoard.START_TILE, landings.length)
+        .boxed()
+        .filter(tileId -> landings[tileId] > 0)
+        .sorted((a, b) -> Long.compare(landings[b], landings[a]))
+        .limit(count)
+        .mapToInt(Integer::intValue)
+        .toArray();
+  }
+
+  public int getFinalTileId() {
+    return landings.length - 1;
+  }
+}
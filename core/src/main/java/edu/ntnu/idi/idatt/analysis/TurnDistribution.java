@@ -0,0 +1,217 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import edu.ntnu.idi.idatt.exception.InvalidBoardConfigurationException;
+import java.util.Arrays;
+
+/**
+ * The TurnDistribution class holds the exact probability that a single player finishes after
+ * a given number of their own turns. It is calculated by dynamic programming over the state of
+ * a player, their tile and whether their next turn is skipped: every turn moves the probability
+ * of every state forward by one roll, and the part that reaches the final tile is the
+ * probability of finishing on that turn. A skipped turn counts as a turn, as in the game.
+ *
+ * <p>Players in a game move independently and only the seat order decides who wins a tie, so
+ * the distribution of a whole game follows from the distribution of one player. Seat i wins on
+ * round t if it finishes on its turn t, the seats before it have not finished after t turns and
+ * the seats after it have not finished after t - 1 turns:
+ * <pre>
+ *   P(seat i wins on round t) = f(t) * S(t)^i * S(t - 1)^(k - 1 - i)
+ * </pre>
+ * where f is the probability of finishing on turn t and S the probability of not having
+ * finished after t turns. This costs time linear in the number of players for every round,
+ * instead of following the positions of all players together.
+ */
+public final class TurnDistribution {
+  public static final double DEFAULT_TAIL = 1e-12;
+
+  private final double[] finished;
+  private final double[] survival;
+
+  private TurnDistribution(double[] finished, double[] survival) {
+    this.finished = finished;
+    this.survival = survival;
+  }
+
+  /**
+   * Calculates the distribution until all but {@value #DEFAULT_TAIL} of the probability has
+   * finished, within the default turn limit of the {@link GameSimulator}.
+   *
+   * @param board the board to play on
+   * @param dice  the dice rolled every turn
+   * @return the distribution of the number of turns of one player
+   * @throws InvalidBoardConfigurationException if the probability does not finish in time
+   */
+  public static TurnDistribution compute(CompiledBoard board, DiceDistribution dice)
+      throws InvalidBoardConfigurationException {
+    return compute(board, dice, DEFAULT_TAIL, GameSimulator.DEFAULT_TURN_LIMIT);
+  }
+
+  /**
+   * Calculates the distribution until the probability of not having finished is below the
+   * given tail.
+   *
+   * @param board    the board to play on
+   * @param dice     the dice rolled every turn
+   * @param tail     the probability of not having finished at which the calculation stops
+   * @param maxTurns the number of turns after which the calculation gives up
+   * @return the distribution of the number of turns of one player
+   * @throws InvalidBoardConfigurationException if the tail was not reached within the turn
+   *                                            limit, so the final tile may be unreachable
+   */
+  public static TurnDistribution compute(CompiledBoard board, DiceDistribution dice,
+      double tail, int maxTurns) throws InvalidBoardConfigurationException {
+    int finalTileId = board.getFinalTileId();
+    // Probability of standing on a tile, with and without a skipped turn coming up
+    double[] playing = new double[finalTileId + 1];
+    double[] skipping = new double[finalTileId + 1];
+    double[] nextPlaying = new double[finalTileId + 1];
+    double[] nextSkipping = new double[finalTileId + 1];
+    playing[CompiledBoard.START_TILE] = 1;
+
+    double[] finished = new double[64];
+    double[] survival = new double[64];
+    survival[0] = 1;
+    double remaining = 1;
+    int turn = 0;
+    while (remaining > tail) {
+      if (++turn > maxTurns) {
+        throw new InvalidBoardConfigurationException(
+            "Turn distribution does not converge; the final tile may be unreachable");
+      }
+      double done = 0;
+      for (int position = CompiledBoard.START_TILE; position < finalTileId; position++) {
+        // A skipped turn keeps the player where they are
+        nextPlaying[position] += skipping[position];
+        double probability = playing[position];
+        if (probability == 0) {
+          continue;
+        }
+        for (int total = dice.getMinTotal(); total <= dice.getMaxTotal(); total++) {
+          double moved = probability * dice.probability(total);
+          int target = board.target(position, total);
+          int destination = board.landing(target);
+          if (board.isFinished(destination)) {
+            done += moved;
+          } else if (board.skips(target)) {
+            nextSkipping[destination] += moved;
+          } else {
+            nextPlaying[destination] += moved;
+          }
+        }
+      }
+      double[] swap = playing;
+      playing = nextPlaying;
+      nextPlaying = swap;
+      swap = skipping;
+      skipping = nextSkipping;
+      nextSkipping = swap;
+      Arrays.fill(nextPlaying, 0);
+      Arrays.fill(nextSkipping, 0);
+
+      if (turn == finished.length) {
+        finished = Arrays.copyOf(finished, turn * 2);
+        survival = Arrays.copyOf(survival, turn * 2);
+      }
+      finished[turn] = done;
+      // Summing what is left avoids the cancellation of subtracting from 1
+      remaining = 0;
+      for (int position = CompiledBoard.START_TILE; position < finalTileId; position++) {
+        remaining += playing[position] + skipping[position];
+      }
+      survival[turn] = remaining;
+    }
+    return new TurnDistribution(Arrays.copyOf(finished, turn + 1), Arrays.copyOf(survival, turn + 1));
+  }
+
+  /**
+   * Retrieves the probability that the player finishes on exactly the given turn.
+   *
+   * @param turns the number of the player's own turns
+   * @return the probability, 0 beyond the calculated turns
+   */
+  public double probability(int turns) {
+    return turns >= 1 && turns < finished.length ? finished[turns] : 0;
+  }
+
+  /**
+   * Retrieves the probability that the player has not finished after the given number of
+   * turns.
+   *
+   * @param turns the number of the player's own turns
+   * @return the probability of still playing
+   */
+  public double survival(int turns) {
+    if (turns <= 0) {
+      return 1;
+    }
+    return survival[Math.min(turns, survival.length - 1)];
+  }
+
+  /**
+   * Retrieves the last turn in the distribution; the player finishes later only with a
+   * probability below the tail the distribution was calculated to.
+   *
+   * @return the number of calculated turns
+   */
+  public int getMaxTurns() {
+    return finished.length - 1;
+  }
+
+  /**
+   * Calculates the expected number of turns of the player from the distribution.
+   *
+   * @return the expected number of turns
+   */
+  public double mean() {
+    double mean = 0;
+    for (int turns = 1; turns < finished.length; turns++) {
+      mean += turns * finished[turns];
+    }
+    return mean;
+  }
+
+  /**
+   * Calculates the probability that every seat wins a game with the given number of players.
+   *
+   * @param players the number of players
+   * @return the win probability of every seat, in turn order
+   */
+  public double[] winProbabilities(int players) {
+    double[] lengths = gameLengthDistribution(players);
+    double[] wins = new double[players];
+    // A game of n turns is won by the player who took turn n
+    for (int turns = 1; turns < lengths.length; turns++) {
+      wins[(turns - 1) % players] += lengths[turns];
+    }
+    return wins;
+  }
+
+  /**
+   * Calculates the distribution of the length of a game with the given number of players,
+   * counted in turns of all players together as the {@link GameSimulator} does.
+   *
+   * @param players the number of players
+   * @return the probability of every game length, indexed by the number of turns
+   */
+  public double[] gameLengthDistribution(int players) {
+    checkPlayers(players);
+    double[] lengths = new double[(finished.length - 1) * players + 1];
+    for (int round = 1; round < finished.length; round++) {
+      double earlierSeats = survival(round);
+      double laterSeats = survival(round - 1);
+      double ahead = 1;
+      for (int seat = 0; seat < players; seat++) {
+        double behind = Math.pow(laterSeats, players - 1 - seat);
+        lengths[(round - 1) * players + seat + 1] = finished[round] * ahead * behind;
+        ahead *= earlierSeats;
+      }
+    }
+    return lengths;
+  }
+
+  private static void checkPlayers(int players) {
+    if (players < 1) {
+      throw new IllegalArgumentException("At least one player is required");
+    }
+  }
+}
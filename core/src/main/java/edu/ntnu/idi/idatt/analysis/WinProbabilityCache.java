@@ -0,0 +1,105 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import edu.ntnu.idi.idatt.exception.InvalidBoardConfigurationException;
+import edu.ntnu.idi.idatt.model.Board;
+import edu.ntnu.idi.idatt.model.BoardFingerprint;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The WinProbabilityCache class is a Singleton holding the {@link WinProbabilityTable} of the
+ * boards played recently. Tables are keyed by the {@link BoardFingerprint} of the board and the
+ * number of dice, so loading the same board again reuses its table without even compiling it.
+ * A table is read from the {@link AnalysisDiskCache}, or calculated, on a background thread
+ * when it is first requested, usually when the board is selected, and the least recently used
+ * tables are dropped when more than {@value #MAX_TABLES} are held.
+ */
+public final class WinProbabilityCache {
+  public static final int MAX_TABLES = 8;
+
+  private static WinProbabilityCache instance;
+
+  private final Map<Key, CompletableFuture<WinProbabilityTable>> tables =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CompletableFuture<WinProbabilityTable>> eldest) {
+          return size() > MAX_TABLES;
+        }
+      };
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "win-probability-table");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private static final class Key {
+    private final BoardFingerprint board;
+    private final int numberOfDice;
+
+    private Key(BoardFingerprint board, int numberOfDice) {
+      this.board = board;
+      this.numberOfDice = numberOfDice;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) other;
+      return numberOfDice == key.numberOfDice && board.equals(key.board);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(board, numberOfDice);
+    }
+  }
+
+  private WinProbabilityCache() {
+  }
+
+  /**
+   * Retrieves the instance of the WinProbabilityCache, creating it on first use.
+   *
+   * @return the instance of the WinProbabilityCache
+   */
+  public static synchronized WinProbabilityCache getInstance() {
+    if (instance == null) {
+      instance = new WinProbabilityCache();
+    }
+    return instance;
+  }
+
+  /**
+   * Requests the table of a board, starting its calculation in the background if it is not
+   * cached.
+   *
+   * @param board        the board to play on
+   * @param numberOfDice the number of dice rolled every turn
+   * @return a future completed with the table, or completed exceptionally if the board is
+   *         missing tiles
+   */
+  public synchronized CompletableFuture<WinProbabilityTable> request(Board board, int numberOfDice) {
+    Key key = new Key(board.getFingerprint(), numberOfDice);
+    CompletableFuture<WinProbabilityTable> table = tables.get(key);
+    if (table != null) {
+      return table;
+    }
+    CompiledBoard compiled;
+    try {
+      compiled = CompiledBoard.compile(board);
+    } catch (InvalidBoardConfigurationException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    BoardFingerprint fingerprint = key.board;
+    table = CompletableFuture.supplyAsync(() -> AnalysisDiskCache.getInstance()
+        .winProbabilityTable(fingerprint, compiled, new DiceDistribution(numberOfDice)), executor);
+    tables.put(key, table);
+    return table;
+  }
+}
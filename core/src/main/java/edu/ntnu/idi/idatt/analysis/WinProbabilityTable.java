@@ -0,0 +1,316 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import edu.ntnu.idi.idatt.exception.InvalidBoardConfigurationException;
+import java.util.Arrays;
+
+/**
+ * The WinProbabilityTable class answers, during a game, how likely every player is to win and
+ * how many turns they still need. It is calculated once per board and number of dice, so a
+ * lookup only combines precalculated values and never solves anything.
+ *
+ * <p>The state of a player is their tile and whether their next turn is skipped. For every
+ * tile the table holds the probability S(t) of not having finished after t more turns, found
+ * backwards from S(0) = 1: a player without a pending skip survives t turns if the roll does
+ * not finish and the state it leads to survives t - 1 turns. A pending skip only delays the
+ * player by one turn, so that state survives t turns exactly when the same tile survives
+ * t - 1 turns and needs no values of its own. S(t) never grows with t, so only a window of
+ * every tile is stored: the turns before it round to 1 and the turns after it are below the
+ * tail. The expected remaining turns come from the {@link BoardAnalyzer}.
+ *
+ * <p>A player wins on round t if they finish on their t-th turn from now, the players moving
+ * before them this round survive t turns and the players moving after them survive t - 1
+ * turns. A lookup walks over the rounds of the table once, with prefix and suffix products
+ * over the players, so its cost is the number of players times the horizon of the table, a
+ * constant of the board.
+ *
+ * <p>The windows of very large boards or very long games may not fit in
+ * {@value #MAX_ENTRIES} values. Such a table is incomplete: it still knows the expected
+ * remaining turns, but gives NaN as the win probabilities instead of values that leave out
+ * the games it could not follow.
+ */
+public final class WinProbabilityTable {
+  public static final double DEFAULT_TAIL = 1e-9;
+  // Upper bound on the number of stored survival values, about 16 MB
+  public static final int MAX_ENTRIES = 1 << 22;
+
+  private final int finalTileId;
+  private final int numberOfDice;
+  private final int horizon;
+  private final boolean complete;
+  private final int[] firstTurns;
+  private final float[][] windows;
+  private final double[] expectedTurns;
+
+  WinProbabilityTable(int finalTileId, int numberOfDice, int horizon, boolean complete,
+      int[] firstTurns, float[][] windows, double[] expectedTurns) {
+    this.finalTileId = finalTileId;
+    this.numberOfDice = numberOfDice;
+    this.horizon = horizon;
+    this.complete = complete;
+    this.firstTurns = firstTurns;
+    this.windows = windows;
+    this.expectedTurns = expectedTurns;
+  }
+
+  /**
+   * Calculates the table until every state has finished with all but {@value #DEFAULT_TAIL} of
+   * its probability.
+   *
+   * @param board the board to play on
+   * @param dice  the dice rolled every turn
+   * @return the table
+   */
+  public static WinProbabilityTable compute(CompiledBoard board, DiceDistribution dice) {
+    return compute(board, dice, DEFAULT_TAIL);
+  }
+
+  /**
+   * Calculates the table until every state has finished with all but the given tail of its
+   * probability.
+   *
+   * @param board the board to play on
+   * @param dice  the dice rolled every turn
+   * @param tail  the probability of not having finished at which the calculation stops
+   * @return the table, incomplete if it needs more than {@value #MAX_ENTRIES} values
+   */
+  public static WinProbabilityTable compute(CompiledBoard board, DiceDistribution dice,
+      double tail) {
+    return compute(board, dice, tail, MAX_ENTRIES);
+  }
+
+  /**
+   * Calculates the table with the given limit on the number of stored values.
+   *
+   * @param board      the board to play on
+   * @param dice       the dice rolled every turn
+   * @param tail       the probability of not having finished at which the calculation stops
+   * @param maxEntries the number of stored values after which the table is incomplete
+   * @return the table
+   */
+  static WinProbabilityTable compute(CompiledBoard board, DiceDistribution dice, double tail,
+      int maxEntries) {
+    int finalTileId = board.getFinalTileId();
+    int[] firstTurns = new int[finalTileId + 1];
+    Arrays.fill(firstTurns, Integer.MAX_VALUE);
+    float[][] windows = new float[finalTileId + 1][0];
+
+    double[] expectedTurns;
+    try {
+      expectedTurns = new BoardAnalyzer(board, dice).expectedTurnsPerTile();
+    } catch (InvalidBoardConfigurationException e) {
+      // Some tile never finishes, so no number of turns is enough to follow every game
+      expectedTurns = new double[finalTileId + 1];
+      Arrays.fill(expectedTurns, Double.NaN);
+      return new WinProbabilityTable(finalTileId, dice.getNumberOfDice(), 0, false,
+          firstTurns, windows, expectedTurns);
+    }
+
+    // Survival of every tile after t, t - 1 and t - 2 turns; a skip state is one turn behind
+    double[] current = new double[finalTileId + 1];
+    double[] previous = new double[finalTileId + 1];
+    double[] older = new double[finalTileId + 1];
+    Arrays.fill(previous, CompiledBoard.START_TILE, finalTileId, 1);
+    Arrays.fill(older, CompiledBoard.START_TILE, finalTileId, 1);
+    int[] lengths = new int[finalTileId + 1];
+    boolean[] ended = new boolean[finalTileId + 1];
+
+    long entries = 0;
+    int turn = 0;
+    double largest = 1;
+    while (largest > tail) {
+      if (turn == GameSimulator.DEFAULT_TURN_LIMIT || entries > maxEntries) {
+        return new WinProbabilityTable(finalTileId, dice.getNumberOfDice(), turn, false,
+            firstTurns, trim(windows, lengths), expectedTurns);
+      }
+      turn++;
+      largest = 0;
+      for (int position = CompiledBoard.START_TILE; position < finalTileId; position++) {
+        double survived = 0;
+        for (int total = dice.getMinTotal(); total <= dice.getMaxTotal(); total++) {
+          int target = board.target(position, total);
+          int destination = board.landing(target);
+          if (!board.isFinished(destination)) {
+            double[] row = board.skips(target) ? older : previous;
+            survived += dice.probability(total) * row[destination];
+          }
+        }
+        current[position] = survived;
+        largest = Math.max(largest, Math.max(survived, previous[position]));
+
+        if (ended[position]) {
+          continue;
+        }
+        if (survived < tail) {
+          ended[position] = true;
+          if (firstTurns[position] == Integer.MAX_VALUE) {
+            firstTurns[position] = turn;
+          }
+        } else if ((float) survived < 1) {
+          if (firstTurns[position] == Integer.MAX_VALUE) {
+            firstTurns[position] = turn;
+          }
+          float[] window = windows[position];
+          if (lengths[position] == window.length) {
+            windows[position] = window = Arrays.copyOf(window, Math.max(16, 2 * window.length));
+          }
+          window[lengths[position]++] = (float) survived;
+          entries++;
+        }
+      }
+      double[] swap = older;
+      older = previous;
+      previous = current;
+      current = swap;
+    }
+    return new WinProbabilityTable(finalTileId, dice.getNumberOfDice(), turn, true,
+        firstTurns, trim(windows, lengths), expectedTurns);
+  }
+
+  private static float[][] trim(float[][] windows, int[] lengths) {
+    float[][] trimmed = new float[windows.length][];
+    for (int position = 0; position < windows.length; position++) {
+      trimmed[position] = Arrays.copyOf(windows[position], lengths[position]);
+    }
+    return trimmed;
+  }
+
+  /**
+   * Looks up the probability that a player has not finished after the given number of turns.
+   */
+  private double survival(int position, boolean skipping, int turns) {
+    int offset = turns - (skipping ? 1 : 0) - firstTurns[position];
+    if (offset < 0) {
+      return 1;
+    }
+    float[] window = windows[position];
+    return offset < window.length ? window[offset] : 0;
+  }
+
+  /**
+   * Retrieves the expected number of turns a player still needs, counting a skipped turn.
+   *
+   * @param position the ID of the tile the player stands on
+   * @param skipping whether the player's next turn is skipped
+   * @return the expected remaining turns, 0 if the player has finished, or NaN if the final
+   *         tile cannot be reached from every tile
+   */
+  public double expectedRemainingTurns(int position, boolean skipping) {
+    if (position >= finalTileId) {
+      return 0;
+    }
+    return expectedTurns[Math.max(position, CompiledBoard.START_TILE)] + (skipping ? 1 : 0);
+  }
+
+  /**
+   * Calculates the probability that every player wins from the current positions.
+   *
+   * @param positions   the tile ID of every player, in seat order
+   * @param skipping    whether the next turn of every player is skipped, in seat order
+   * @param currentSeat the seat of the player about to take their turn
+   * @return the win probability of every player, in seat order, or NaN for every player if
+   *         the table is incomplete and nobody has finished
+   */
+  public double[] winProbabilities(int[] positions, boolean[] skipping, int currentSeat) {
+    int players = positions.length;
+    double[] wins = new double[players];
+    // Players in the order they move from now on
+    int[] tiles = new int[players];
+    boolean[] skips = new boolean[players];
+    for (int order = 0; order < players; order++) {
+      int seat = (currentSeat + order) % players;
+      if (positions[seat] >= finalTileId) {
+        wins[seat] = 1;
+        return wins;
+      }
+      tiles[order] = Math.max(positions[seat], CompiledBoard.START_TILE);
+      skips[order] = skipping[seat];
+    }
+    if (!complete) {
+      Arrays.fill(wins, Double.NaN);
+      return wins;
+    }
+
+    double[] earlier = new double[players + 1];
+    double total = 0;
+    for (int round = 1; round <= horizon; round++) {
+      earlier[0] = 1;
+      for (int order = 0; order < players; order++) {
+        earlier[order + 1] = earlier[order] * survival(tiles[order], skips[order], round);
+      }
+      double later = 1;
+      for (int order = players - 1; order >= 0; order--) {
+        double before = survival(tiles[order], skips[order], round - 1);
+        double after = survival(tiles[order], skips[order], round);
+        double win = (before - after) * earlier[order] * later;
+        wins[(currentSeat + order) % players] += win;
+        total += win;
+        later *= before;
+      }
+    }
+    if (!(total > 0)) {
+      Arrays.fill(wins, Double.NaN);
+      return wins;
+    }
+    // The table stops at a tiny tail, which is spread over the players
+    for (int seat = 0; seat < players; seat++) {
+      wins[seat] /= total;
+    }
+    return wins;
+  }
+
+  /**
+   * Retrieves the number of turns the table looks ahead.
+   *
+   * @return the horizon of the table
+   */
+  public int getHorizon() {
+    return horizon;
+  }
+
+  /**
+   * Checks whether the table follows every game until all but the tail has finished. The win
+   * probabilities of an incomplete table are NaN.
+   *
+   * @return true if the table is complete
+   */
+  public boolean isComplete() {
+    return complete;
+  }
+
+  /**
+   * Retrieves the turn at which the stored survival values of every tile start, for storing
+   * the table.
+   *
+   * @return the first stored turn, indexed by tile ID; the array must not be modified
+   */
+  int[] getFirstTurns() {
+    return firstTurns;
+  }
+
+  /**
+   * Retrieves the stored survival values of every tile, for storing the table.
+   *
+   * @return the survival values, indexed by tile ID and turn from the first stored turn; the
+   *         arrays must not be modified
+   */
+  float[][] getWindows() {
+    return windows;
+  }
+
+  /**
+   * Retrieves the expected remaining turns from every tile, for storing the table.
+   *
+   * @return the expected turns, indexed by tile ID; the array must not be modified
+   */
+  double[] getExpectedTurns() {
+    return expectedTurns;
+  }
+
+  public int getNumberOfDice() {
+    return numberOfDice;
+  }
+
+  public int getFinalTileId() {
+    return finalTileId;
+  }
+}
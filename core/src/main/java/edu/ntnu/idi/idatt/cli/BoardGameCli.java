@@ -0,0 +1,548 @@
+package edu.ntnu.idi.idatt.cli;
+
+import edu.ntnu.idi.idatt.analysis.AnalysisDiskCache;
+import edu.ntnu.idi.idatt.analysis.BoardAnalyzer;
+import edu.ntnu.idi.idatt.analysis.BoardGenerator;
+import edu.ntnu.idi.idatt.analysis.CompiledBoard;
+import edu.ntnu.idi.idatt.analysis.DiceDistribution;
+import edu.ntnu.idi.idatt.analysis.GameSimulator;
+import edu.ntnu.idi.idatt.analysis.IncrementalBoardAnalysis;
+import edu.ntnu.idi.idatt.analysis.SensitivityAnalyzer;
+import edu.ntnu.idi.idatt.analysis.SimulationResult;
+import edu.ntnu.idi.idatt.analysis.StoppingRule;
+import edu.ntnu.idi.idatt.analysis.TurnDistribution;
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.action.TileAction;
+import edu.ntnu.idi.idatt.exception.BoardGameException;
+import edu.ntnu.idi.idatt.io.BoardCompactHandler;
+import edu.ntnu.idi.idatt.io.BoardJsonHandler;
+import edu.ntnu.idi.idatt.io.FileHandler;
+import edu.ntnu.idi.idatt.model.Board;
+import edu.ntnu.idi.idatt.model.BoardFingerprint;
+import edu.ntnu.idi.idatt.model.Tile;
+import edu.ntnu.idi.idatt.validation.BoardDefect;
+import edu.ntnu.idi.idatt.validation.BoardValidator;
+import edu.ntnu.idi.idatt.validation.ValidationReport;
+import java.io.PrintStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * The BoardGameCli class runs the game engine from the command line without a user interface,
+ * so it can be used on servers without a display. It never touches JavaFX. The subcommands are:
+ * <ul>
+ *   <li>{@code simulate --board FILE [--players K] [--dice D] [--games N] [--seed S]
+ *       [--threads T]} plays N games and reports the mean and quantiles of the game
+ *       length, wins per seat and the tiles landed on most often; with {@code --tolerance},
+ *       {@code --win-tolerance} or {@code --time-limit} it plays batches until the
+ *       confidence intervals are that narrow or the seconds are used up, with N as the most
+ *       games to play, and prints progress to the error stream</li>
+ *   <li>{@code analyze --board FILE [--dice D] [--players K] [--cache DIR]} calculates the
+ *       expected game length of a single player, and exactly the win probability of every seat
+ *       and the distribution of the game length for K players; with a cache directory the
+ *       per-tile results are kept in an {@link AnalysisDiskCache}</li>
+ *   <li>{@code sensitivity --board FILE [--dice D] [--threads T] [--top N]} ranks how much
+ *       removing or moving the destination of every ladder and chute changes the expected game
+ *       length and its variance</li>
+ *   <li>{@code validate [--dice D] FILE...} checks board files with the
+ *       {@link BoardValidator} for the rolls of D dice, one by default, listing every error
+ *       and warning</li>
+ *   <li>{@code fingerprint [--dice D] FILE...} prints the {@link BoardFingerprint} of every
+ *       board and marks boards with the same content as an earlier one as duplicates</li>
+ *   <li>{@code convert [--dice D] IN OUT} translates between the JSON and the compact board
+ *       format, chosen by file extension</li>
+ *   <li>{@code generate --rows R --columns C --mean M --out FILE} searches for a board whose
+ *       expected game length, and optionally standard deviation, match the target</li>
+ *   <li>{@code benchmark [--rows R] [--columns C] [--edits N]} edits single tiles of a random
+ *       board and compares a full analysis after every edit with an incremental update</li>
+ * </ul>
+ * Boards are validated for the rolls of {@code --dice}, which is one die for the commands that
+ * do not play the board. Every command accepts {@code --format json|csv}. Board files ending in
+ * {@value BoardCompactHandler#EXTENSION} are read in the compact format, all other files as
+ * JSON, and a path starting with {@value #CLASSPATH_PREFIX} reads a bundled board.
+ *
+ * <p>The exit code is 0 on success, 1 if a board could not be processed or is invalid and 2 if
+ * the command line is wrong.
+ */
+public final class BoardGameCli {
+  public static final String CLASSPATH_PREFIX = "classpath:";
+  private static final int MOST_LANDED_TILES = 5;
+  private static final Set<String> COMMANDS =
+      Set.of("simulate", "analyze", "sensitivity", "validate", "fingerprint", "convert",
+          "generate", "benchmark");
+  private static final String USAGE = String.join(System.lineSeparator(),
+      "Usage: <command> [options]",
+      "  simulate --board FILE [--players 2] [--dice 2] [--games 10000] [--seed S] [--threads 1]",
+      "           [--tolerance 0.1] [--win-tolerance 0.005] [--time-limit SECONDS]",
+      "  analyze  --board FILE [--dice 2] [--players 2] [--cache DIR]",
+      "  sensitivity --board FILE [--dice 2] [--threads T] [--top N]",
+      "  validate [--dice 1] FILE...",
+      "  fingerprint [--dice 1] FILE...",
+      "  convert  [--dice 1] IN OUT",
+      "  generate --rows R --columns C --mean M --out FILE [--stddev S] [--ladders L]",
+      "           [--chutes K] [--skips N] [--dice 2] [--iterations 20000] [--threads T] [--seed S]",
+      "  benchmark [--rows 100] [--columns 100] [--edits 200] [--dice 2] [--seed S]",
+      "  all commands: [--format json|csv]");
+
+  private BoardGameCli() {
+  }
+
+  public static void main(String[] args) {
+    System.exit(run(args, System.out, System.err));
+  }
+
+  /**
+   * Checks whether the given argument names one of the subcommands.
+   *
+   * @param command the first command line argument
+   * @return true if the argument is a subcommand
+   */
+  public static boolean isCommand(String command) {
+    return COMMANDS.contains(command);
+  }
+
+  /**
+   * Runs a subcommand.
+   *
+   * @param args the command line arguments, starting with the subcommand
+   * @param out  the stream the result is printed to
+   * @param err  the stream errors are printed to
+   * @return the exit code
+   */
+  public static int run(String[] args, PrintStream out, PrintStream err) {
+    if (args.length == 0 || !isCommand(args[0])) {
+      err.println(USAGE);
+      return 2;
+    }
+
+    try {
+      CommandOptions options = new CommandOptions(args, 1);
+      ResultWriter writer = new ResultWriter(options.get("format", ResultWriter.JSON));
+      switch (args[0]) {
+        case "simulate":
+          writer.write(List.of(simulate(options, err)), out);
+          return 0;
+        case "analyze":
+          writer.write(List.of(analyze(options)), out);
+          return 0;
+        case "sensitivity":
+          writer.write(sensitivity(options), out);
+          return 0;
+        case "validate":
+          List<Map<String, Object>> reports = validate(options);
+          writer.write(reports, out);
+          return reports.stream().allMatch(report -> (Boolean) report.get("valid")) ? 0 : 1;
+        case "fingerprint":
+          writer.write(fingerprint(options), out);
+          return 0;
+        case "generate":
+          writer.write(List.of(generate(options)), out);
+          return 0;
+        case "benchmark":
+          writer.write(List.of(benchmark(options)), out);
+          return 0;
+        default:
+          writer.write(List.of(convert(options)), out);
+          return 0;
+      }
+    } catch (IllegalArgumentException e) {
+      err.println(e.getMessage());
+      err.println(USAGE);
+      return 2;
+    } catch (BoardGameException e) {
+      err.println(e.getMessage());
+      return 1;
+    }
+  }
+
+  private static Map<String, Object> simulate(CommandOptions options, PrintStream err)
+      throws BoardGameException {
+    String boardPath = options.require("board");
+    int players = options.getInt("players", 2, 1);
+    int dice = options.getInt("dice", 2, 1);
+    long seed = options.getLong("seed", System.nanoTime(), Long.MIN_VALUE);
+    int threads = options.getInt("threads", 1, 1);
+    boolean adaptive =
+        options.has("tolerance") || options.has("win-tolerance") || options.has("time-limit");
+
+    CompiledBoard board = CompiledBoard.compile(loadBoard(boardPath, dice));
+    GameSimulator simulator = new GameSimulator(board, new DiceDistribution(dice), players);
+    SimulationResult result;
+    StoppingRule rule = null;
+    long start = System.nanoTime();
+    if (adaptive) {
+      long maxGames = options.getLong("games", StoppingRule.DEFAULT_MAX_GAMES, 1);
+      double timeLimit = options.getDouble("time-limit", 0, 0);
+      rule = new StoppingRule(options.getDouble("tolerance", 0.1, 0),
+          options.getDouble("win-tolerance", 0.005, 0), (long) (timeLimit * 1000),
+          StoppingRule.DEFAULT_CONFIDENCE, StoppingRule.DEFAULT_BATCH_GAMES, maxGames);
+      StoppingRule progressRule = rule;
+      result = simulator.simulate(rule, seed, threads, progress -> err.printf(Locale.ROOT,
+          "[simulate] %d games, mean %.3f +/- %.3f turns, win rates +/- %.4f, %.1f s%n",
+          progress.getGames() + progress.getUnfinished(), progress.getMeanTurns(),
+          progressRule.turnHalfWidth(progress), progressRule.winRateHalfWidth(progress),
+          (System.nanoTime() - start) / 1e9));
+      if (result.getGames() == 0) {
+        err.println("[simulate] no game finished within the turn limit, stopped after one batch");
+      }
+    } else {
+      long games = options.getLong("games", 10_000, 1);
+      result = simulator.simulate(games, seed, threads);
+    }
+
+    Map<String, Object> record = new LinkedHashMap<>();
+    record.put("board", boardPath);
+    record.put("players", players);
+    record.put("dice", dice);
+    record.put("games", result.getGames());
+    record.put("unfinished", result.getUnfinished());
+    record.put("seed", seed);
+    record.put("meanTurns", result.getMeanTurns());
+    record.put("stdDevTurns", result.getStandardDeviation());
+    record.put("minTurns", result.getMinTurns());
+    record.put("maxTurns", result.getMaxTurns());
+    record.put("medianTurns", result.getQuantileTurns(0.5));
+    record.put("p90Turns", result.getQuantileTurns(0.9));
+    record.put("p99Turns", result.getQuantileTurns(0.99));
+    record.put("winsPerSeat", result.getWinsPerSeat());
+    record.put("mostLandedTiles", result.getTileStatistics().mostLandedTiles(MOST_LANDED_TILES));
+    if (rule != null) {
+      record.put("meanTurnsHalfWidth", rule.turnHalfWidth(result));
+      record.put("winRateHalfWidth", rule.winRateHalfWidth(result));
+      record.put("converged", rule.isSatisfied(result));
+      record.put("elapsedMillis", (System.nanoTime() - start) / 1_000_000);
+    }
+    return record;
+  }
+
+  private static Map<String, Object> analyze(CommandOptions options) throws BoardGameException {
+    String boardPath = options.require("board");
+    int dice = options.getInt("dice", 2, 1);
+
+    int players = options.getInt("players", 2, 1);
+
+    Board loaded = loadBoard(boardPath, dice);
+    CompiledBoard board = CompiledBoard.compile(loaded);
+    double expectedTurns;
+    double stdDevTurns;
+    Integer iterations = null;
+    Boolean cached = null;
+    if (options.has("cache")) {
+      AnalysisDiskCache cache = new AnalysisDiskCache(Paths.get(options.require("cache")),
+          AnalysisDiskCache.DEFAULT_MAX_BYTES);
+      DiceDistribution distribution = new DiceDistribution(dice);
+      double[] expected = cache.expectedTurnsPerTile(loaded.getFingerprint(), board, distribution);
+      double[] moments = cache.secondMomentPerTile(loaded.getFingerprint(), board, distribution);
+      expectedTurns = expected[CompiledBoard.START_TILE];
+      stdDevTurns = Math.sqrt(Math.max(0,
+          moments[CompiledBoard.START_TILE] - expectedTurns * expectedTurns));
+      cached = cache.getMisses() == 0;
+    } else {
+      BoardAnalyzer analyzer = new BoardAnalyzer(board, new DiceDistribution(dice));
+      expectedTurns = analyzer.expectedTurns();
+      iterations = analyzer.getIterations();
+      stdDevTurns = Math.sqrt(analyzer.turnVariance());
+    }
+    TurnDistribution distribution = TurnDistribution.compute(board, new DiceDistribution(dice));
+    double[] lengths = distribution.gameLengthDistribution(players);
+
+    Map<String, Object> record = new LinkedHashMap<>();
+    record.put("board", boardPath);
+    record.put("dice", dice);
+    record.put("finalTile", board.getFinalTileId());
+    record.put("expectedTurns", expectedTurns);
+    record.put("stdDevTurns", stdDevTurns);
+    record.put("iterations", iterations);
+    record.put("cached", cached);
+    record.put("players", players);
+    record.put("winProbabilities", distribution.winProbabilities(players));
+    record.put("meanGameLength", mean(lengths));
+    record.put("medianGameLength", quantile(lengths, 0.5));
+    record.put("p90GameLength", quantile(lengths, 0.9));
+    record.put("p99GameLength", quantile(lengths, 0.99));
+    return record;
+  }
+
+  private static double mean(double[] probabilities) {
+    double mean = 0;
+    for (int value = 0; value < probabilities.length; value++) {
+      mean += value * probabilities[value];
+    }
+    return mean;
+  }
+
+  /**
+   * Finds the smallest value whose cumulative probability reaches the given level.
+   */
+  private static int quantile(double[] probabilities, double level) {
+    double cumulative = 0;
+    for (int value = 0; value < probabilities.length; value++) {
+      cumulative += probabilities[value];
+      if (cumulative >= level) {
+        return value;
+      }
+    }
+    return probabilities.length - 1;
+  }
+
+  private static List<Map<String, Object>> sensitivity(CommandOptions options)
+      throws BoardGameException {
+    String boardPath = options.require("board");
+    int dice = options.getInt("dice", 2, 1);
+    int threads = options.getInt("threads", Runtime.getRuntime().availableProcessors(), 1);
+    int top = options.getInt("top", Integer.MAX_VALUE, 1);
+
+    CompiledBoard board = CompiledBoard.compile(loadBoard(boardPath, dice));
+    List<SensitivityAnalyzer.Entry> entries =
+        new SensitivityAnalyzer(board, new DiceDistribution(dice)).analyze(threads);
+
+    List<Map<String, Object>> records = new ArrayList<>();
+    for (SensitivityAnalyzer.Entry entry : entries.subList(0, Math.min(top, entries.size()))) {
+      Map<String, Object> record = new LinkedHashMap<>();
+      record.put("rank", records.size() + 1);
+      record.put("tile", entry.getTileId());
+      record.put("type", entry.isLadder() ? "ladder" : "chute");
+      record.put("destination", entry.getDestination());
+      record.put("change", entry.getChange().name().toLowerCase());
+      record.put("changedDestination", entry.getChangedDestination());
+      record.put("meanDelta", entry.getMeanDelta());
+      record.put("varianceDelta", entry.getVarianceDelta());
+      records.add(record);
+    }
+    return records;
+  }
+
+  private static List<Map<String, Object>> validate(CommandOptions options) {
+    if (options.getPositional().isEmpty()) {
+      throw new IllegalArgumentException("No board files given");
+    }
+
+    int dice = options.getInt("dice", 1, 1);
+    List<Map<String, Object>> reports = new ArrayList<>();
+    for (String path : options.getPositional()) {
+      List<String> errors = new ArrayList<>();
+      List<String> warnings = new ArrayList<>();
+      boolean bundled = path.startsWith(CLASSPATH_PREFIX);
+      // Bundled boards are JSON, and their handler keeps the report just like for a file
+      FileHandler<Board> handler = bundled ? new BoardJsonHandler(dice) : handlerFor(path, dice);
+      try {
+        if (bundled) {
+          ((BoardJsonHandler) handler).readFromResource(path.substring(CLASSPATH_PREFIX.length()));
+        } else {
+          handler.readFromFile(path);
+        }
+      } catch (BoardGameException e) {
+        errors.add(e.getMessage());
+      }
+      ValidationReport validation = lastValidationReport(handler);
+      if (validation != null) {
+        // The report lists every error, so it replaces the summary in the exception message
+        errors.clear();
+        for (BoardDefect defect : validation.getDefects()) {
+          (defect.isError() ? errors : warnings).add(defect.toString());
+        }
+      }
+
+      Map<String, Object> report = new LinkedHashMap<>();
+      report.put("board", path);
+      report.put("valid", errors.isEmpty());
+      report.put("rolls", dice + "-" + dice * BoardValidator.DIE_FACES);
+      report.put("errors", errors);
+      report.put("warnings", warnings);
+      reports.add(report);
+    }
+    return reports;
+  }
+
+  private static List<Map<String, Object>> fingerprint(CommandOptions options)
+      throws BoardGameException {
+    if (options.getPositional().isEmpty()) {
+      throw new IllegalArgumentException("No board files given");
+    }
+
+    int dice = options.getInt("dice", 1, 1);
+    Map<BoardFingerprint, String> seen = new HashMap<>();
+    List<Map<String, Object>> records = new ArrayList<>();
+    for (String path : options.getPositional()) {
+      BoardFingerprint fingerprint = loadBoard(path, dice).getFingerprint();
+      Map<String, Object> record = new LinkedHashMap<>();
+      record.put("board", path);
+      record.put("fingerprint", fingerprint.toString());
+      record.put("duplicateOf", seen.putIfAbsent(fingerprint, path));
+      records.add(record);
+    }
+    return records;
+  }
+
+  private static ValidationReport lastValidationReport(FileHandler<Board> handler) {
+    if (handler instanceof BoardJsonHandler) {
+      return ((BoardJsonHandler) handler).getLastValidationReport();
+    }
+    return ((BoardCompactHandler) handler).getLastValidationReport();
+  }
+
+  private static Map<String, Object> convert(CommandOptions options) throws BoardGameException {
+    List<String> paths = options.getPositional();
+    if (paths.size() != 2) {
+      throw new IllegalArgumentException("convert needs an input and an output file");
+    }
+
+    Board board = loadBoard(paths.get(0), options.getInt("dice", 1, 1));
+    handlerFor(paths.get(1)).writeToFile(board, paths.get(1));
+
+    Map<String, Object> record = new LinkedHashMap<>();
+    record.put("input", paths.get(0));
+    record.put("output", paths.get(1));
+    record.put("rows", board.getNumRows());
+    record.put("columns", board.getNumCols());
+    return record;
+  }
+
+  private static Map<String, Object> generate(CommandOptions options) throws BoardGameException {
+    int rows = options.getInt("rows", 10, 2);
+    int cols = options.getInt("columns", 10, 2);
+    double mean = options.getDouble("mean", 0, Double.MIN_VALUE);
+    if (!options.has("mean")) {
+      throw new IllegalArgumentException("Missing required option --mean");
+    }
+    double stdDev = options.getDouble("stddev", 0, 0);
+    String output = options.require("out");
+    int[] counts = BoardGenerator.defaultActionCounts(rows * cols);
+    int ladders = options.getInt("ladders", counts[0], 0);
+    int chutes = options.getInt("chutes", counts[1], 0);
+    int skips = options.getInt("skips", counts[2], 0);
+    int dice = options.getInt("dice", 2, 1);
+    int iterations = options.getInt("iterations", 20_000, 1);
+    int threads = options.getInt("threads", Runtime.getRuntime().availableProcessors(), 1);
+    long seed = options.getLong("seed", System.nanoTime(), Long.MIN_VALUE);
+
+    BoardGenerator generator =
+        new BoardGenerator(rows, cols, mean, stdDev, ladders, chutes, skips, dice);
+    long start = System.nanoTime();
+    BoardGenerator.Result result = generator.generate(iterations, threads, seed);
+    double millis = (System.nanoTime() - start) / 1_000_000.0;
+    handlerFor(output).writeToFile(result.getBoard(), output);
+
+    Map<String, Object> record = new LinkedHashMap<>();
+    record.put("output", output);
+    record.put("fingerprint", result.getBoard().getFingerprint().toString());
+    record.put("rows", rows);
+    record.put("columns", cols);
+    record.put("dice", dice);
+    record.put("seed", seed);
+    record.put("targetMean", mean);
+    record.put("targetStdDev", stdDev);
+    record.put("mean", result.getMean());
+    record.put("stdDev", result.getStdDev());
+    record.put("cost", result.getCost());
+    record.put("evaluations", result.getEvaluations());
+    record.put("millis", Math.round(millis));
+    record.put("evaluationsPerMinute", Math.round(result.getEvaluations() / millis * 60_000));
+    return record;
+  }
+
+  /**
+   * Edits random tiles of a generated board and times re-analyzing it from scratch with a
+   * {@link BoardAnalyzer} against updating an {@link IncrementalBoardAnalysis}. The edits
+   * alternate between moving the destination of a ladder or chute and toggling a skip tile.
+   */
+  private static Map<String, Object> benchmark(CommandOptions options) throws BoardGameException {
+    int rows = options.getInt("rows", 100, 2);
+    int cols = options.getInt("columns", 100, 2);
+    int edits = options.getInt("edits", 200, 1);
+    int dice = options.getInt("dice", 2, 1);
+    long seed = options.getLong("seed", System.nanoTime(), Long.MIN_VALUE);
+
+    int[] counts = BoardGenerator.defaultActionCounts(rows * cols);
+    Board board = new BoardGenerator(rows, cols, 1, 0, counts[0], counts[1], counts[2], dice)
+        .generate(1, 1, seed).getBoard();
+    DiceDistribution distribution = new DiceDistribution(dice);
+    SplittableRandom random = new SplittableRandom(seed);
+    int finalTileId = board.getFinalTileId();
+
+    long start = System.nanoTime();
+    IncrementalBoardAnalysis incremental = new IncrementalBoardAnalysis(board, distribution);
+    incremental.expectedTurns();
+    double factorMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+    long fullNanos = 0;
+    long incrementalNanos = 0;
+    double maxDifference = 0;
+    int applied = 0;
+    for (int edit = 0; edit < edits; edit++) {
+      Tile tile = board.getTile(random.nextInt(2, finalTileId));
+      TileAction previous = tile.getTileAction();
+      tile.setTileAction(edit % 2 == 0
+          ? new LadderAction(random.nextInt(2, finalTileId + 1))
+          : previous instanceof SkipTurnAction ? null : new SkipTurnAction());
+
+      start = System.nanoTime();
+      double full;
+      try {
+        full = new BoardAnalyzer(CompiledBoard.compile(board), distribution).expectedTurns();
+      } catch (BoardGameException e) {
+        // The edit trapped the players, so neither side can analyze it
+        tile.setTileAction(previous);
+        continue;
+      }
+      fullNanos += System.nanoTime() - start;
+
+      start = System.nanoTime();
+      incremental.tileChanged(tile);
+      double updated = incremental.expectedTurns();
+      incrementalNanos += System.nanoTime() - start;
+
+      maxDifference = Math.max(maxDifference, Math.abs(full - updated));
+      applied++;
+    }
+
+    Map<String, Object> record = new LinkedHashMap<>();
+    record.put("rows", rows);
+    record.put("columns", cols);
+    record.put("dice", dice);
+    record.put("seed", seed);
+    record.put("edits", applied);
+    record.put("factorMillis", factorMillis);
+    record.put("fullMillisPerEdit", fullNanos / 1_000_000.0 / Math.max(1, applied));
+    record.put("incrementalMillisPerEdit", incrementalNanos / 1_000_000.0 / Math.max(1, applied));
+    record.put("speedup", (double) fullNanos / Math.max(1, incrementalNanos));
+    record.put("maxDifference", maxDifference);
+    return record;
+  }
+
+  /**
+   * Reads a board from a file or, with the {@value #CLASSPATH_PREFIX} prefix, from the boards
+   * bundled with the application, validating it for the dice it is played with.
+   *
+   * @param path         the path of the board
+   * @param numberOfDice the number of dice rolled every turn
+   * @return the board
+   * @throws BoardGameException if the board cannot be read
+   */
+  static Board loadBoard(String path, int numberOfDice) throws BoardGameException {
+    if (path.startsWith(CLASSPATH_PREFIX)) {
+      return new BoardJsonHandler(numberOfDice)
+          .readFromResource(path.substring(CLASSPATH_PREFIX.length()));
+    }
+    return handlerFor(path, numberOfDice).readFromFile(path);
+  }
+
+  private static FileHandler<Board> handlerFor(String path) {
+    return handlerFor(path, 1);
+  }
+
+  private static FileHandler<Board> handlerFor(String path, int numberOfDice) {
+    if (path.endsWith(BoardCompactHandler.EXTENSION)) {
+      return new BoardCompactHandler(numberOfDice);
+    }
+    return new BoardJsonHandler(numberOfDice);
+  }
+}
@@ -0,0 +1,121 @@
+package edu.ntnu.idi.idatt.cli;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The CommandOptions class parses the arguments following a subcommand. Options are given as
+ * {@code --name value}, everything else is a positional argument.
+ */
+class CommandOptions {
+  private final Map<String, String> options = new HashMap<>();
+  private final List<String> positional = new ArrayList<>();
+
+  /**
+   * Parses the given arguments, starting after the subcommand.
+   *
+   * @param args  the command line arguments
+   * @param start the index of the first argument after the subcommand
+   * @throws IllegalArgumentException if an option has no value
+   */
+  CommandOptions(String[] args, int start) {
+    for (int i = start; i < args.length; i++) {
+      String arg = args[i];
+      if (arg.startsWith("--")) {
+        if (i + 1 >= args.length) {
+          throw new IllegalArgumentException("Missing value for option " + arg);
+        }
+        options.put(arg.substring(2), args[++i]);
+      } else {
+        positional.add(arg);
+      }
+    }
+  }
+
+  /**
+   * Retrieves a required text option.
+   *
+   * @param name the name of the option, without dashes
+   * @return the value of the option
+   * @throws IllegalArgumentException if the option is missing
+   */
+  String require(String name) {
+    String value = options.get(name);
+    if (value == null) {
+      throw new IllegalArgumentException("Missing required option --" + name);
+    }
+    return value;
+  }
+
+  String get(String name, String defaultValue) {
+    return options.getOrDefault(name, defaultValue);
+  }
+
+  /**
+   * Retrieves a whole number option that must be at least the given minimum.
+   *
+   * @param name         the name of the option, without dashes
+   * @param defaultValue the value used when the option is missing
+   * @param min          the smallest allowed value
+   * @return the value of the option
+   * @throws IllegalArgumentException if the value is not a number or below the minimum
+   */
+  long getLong(String name, long defaultValue, long min) {
+    String value = options.get(name);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      long number = Long.parseLong(value);
+      if (number < min) {
+        throw new IllegalArgumentException("Option --" + name + " must be at least " + min);
+      }
+      return number;
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Option --" + name + " must be a whole number");
+    }
+  }
+
+  int getInt(String name, int defaultValue, int min) {
+    long value = getLong(name, defaultValue, min);
+    if (value > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Option --" + name + " is too large");
+    }
+    return (int) value;
+  }
+
+  /**
+   * Retrieves a decimal number option that must be at least the given minimum.
+   *
+   * @param name         the name of the option, without dashes
+   * @param defaultValue the value used when the option is missing
+   * @param min          the smallest allowed value
+   * @return the value of the option
+   * @throws IllegalArgumentException if the value is not a number or below the minimum
+   */
+  double getDouble(String name, double defaultValue, double min) {
+    String value = options.get(name);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      double number = Double.parseDouble(value);
+      if (!(number >= min) || Double.isInfinite(number)) {
+        throw new IllegalArgumentException("Option --" + name + " must be at least " + min);
+      }
+      return number;
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Option --" + name + " must be a number");
+    }
+  }
+
+  boolean has(String name) {
+    return options.containsKey(name);
+  }
+
+  List<String> getPositional() {
+    return positional;
+  }
+}
@@ -0,0 +1,85 @@
+package edu.ntnu.idi.idatt.cli;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.io.PrintStream;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * The ResultWriter class prints the records produced by a command as JSON or CSV. In JSON a
+ * single record is printed as an object and several records as an array. In CSV the keys of
+ * the first record form the header, and array values are joined with semicolons.
+ */
+class ResultWriter {
+  static final String JSON = "json";
+  static final String CSV = "csv";
+
+  private final String format;
+
+  /**
+   * Constructs a writer for the given format.
+   *
+   * @param format {@value #JSON} or {@value #CSV}
+   * @throws IllegalArgumentException if the format is not supported
+   */
+  ResultWriter(String format) {
+    if (!JSON.equals(format) && !CSV.equals(format)) {
+      throw new IllegalArgumentException("Unsupported format: " + format + " (use json or csv)");
+    }
+    this.format = format;
+  }
+
+  /**
+   * Prints the given records.
+   *
+   * @param records the records to print, each an ordered map from column name to value
+   * @param out     the stream to print to
+   */
+  void write(List<? extends Map<String, ?>> records, PrintStream out) {
+    if (JSON.equals(format)) {
+      Gson gson = new GsonBuilder().serializeSpecialFloatingPointValues().create();
+      out.println(gson.toJson(records.size() == 1 ? records.get(0) : records));
+      return;
+    }
+
+    if (records.isEmpty()) {
+      return;
+    }
+    out.println(String.join(",", records.get(0).keySet()));
+    for (Map<String, ?> record : records) {
+      StringJoiner line = new StringJoiner(",");
+      for (Object value : record.values()) {
+        line.add(csvValue(value));
+      }
+      out.println(line);
+    }
+  }
+
+  private static String csvValue(Object value) {
+    if (value == null) {
+      return "";
+    }
+    List<String> parts = new ArrayList<>();
+    if (value.getClass().isArray()) {
+      for (int i = 0; i < Array.getLength(value); i++) {
+        parts.add(String.valueOf(Array.get(value, i)));
+      }
+    } else if (value instanceof Collection) {
+      for (Object part : (Collection<?>) value) {
+        parts.add(String.valueOf(part));
+      }
+    } else {
+      parts.add(String.valueOf(value));
+    }
+    String text = String.join(";", parts);
+    if (text.contains(",") || text.contains("\"") || text.contains("\n")) {
+      return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+    return text;
+  }
+}
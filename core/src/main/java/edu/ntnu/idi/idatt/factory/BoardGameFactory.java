@@ -3,6 +3,7 @@ package edu.ntnu.idi.idatt.factory;
 import edu.ntnu.idi.idatt.exception.BoardGameException;
 import edu.ntnu.idi.idatt.io.BoardJsonHandler;
 import edu.ntnu.idi.idatt.model.Board;
+import java.util.List;
 
 /**
  * A factory class responsible for creating instances of Board.
@@ -13,6 +14,14 @@ import edu.ntnu.idi.idatt.model.Board;
 
 public class BoardGameFactory {
 
+  /**
+   * Classpath paths of the boards bundled with the application.
+   */
+  public static final List<String> BUNDLED_BOARDS = List.of(
+      "/boards/small_board.json",
+      "/boards/standard_board.json",
+      "/boards/large_board.json");
+
   /**
    * Creates and returns a new instance of a Board by reading its configuration
    * from a predefined JSON file.
@@ -26,11 +35,22 @@ public class BoardGameFactory {
    */
 
   public static Board createBoard() {
+    return createBundledBoard("/boards/standard_board.json");
+  }
+
+  /**
+   * Creates a board from one of the boards bundled with the application.
+   *
+   * @param resourcePath the classpath path of the board, see {@link #BUNDLED_BOARDS}
+   * @return a new Board instance configured from the bundled board
+   * @throws RuntimeException if the board cannot be read or processed
+   */
+  public static Board createBundledBoard(String resourcePath) {
     BoardJsonHandler handler = new BoardJsonHandler();
-    try{
-      return handler.readFromFile("src/main/resources/boards/standard_board.json");
-    } catch (BoardGameException e){
-      throw new RuntimeException("Could not create board from JSon file: " + e.getMessage());
+    try {
+      return handler.readFromResource(resourcePath);
+    } catch (BoardGameException e) {
+      throw new RuntimeException("Could not create board from resource: " + e.getMessage());
     }
   }
 }
@@ -0,0 +1,221 @@
+package edu.ntnu.idi.idatt.io;
+
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.action.TileAction;
+import edu.ntnu.idi.idatt.exception.BoardGameException;
+import edu.ntnu.idi.idatt.exception.InvalidBoardConfigurationException;
+import edu.ntnu.idi.idatt.model.Board;
+import edu.ntnu.idi.idatt.model.Tile;
+import edu.ntnu.idi.idatt.validation.BoardValidator;
+import edu.ntnu.idi.idatt.validation.ValidationReport;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Handles reading from and writing to files in the compact board format. Instead of listing
+ * every tile like the JSON format, the compact format only stores what differs from a plain
+ * board laid out in the usual snake pattern:
+ * <pre>
+ *   CNL1 10 10      header with the number of rows and columns
+ *   L 4 14          ladder or chute from tile 4 to tile 14
+ *   S 8             tile 8 makes the player skip their next turn
+ *   P 5 0 3         tile 5 is placed at row 0, column 3 instead of its snake position
+ *   M 7             tile 7 does not exist
+ * </pre>
+ * Blank lines and lines starting with {@code #} are ignored. Boards read are checked by a
+ * {@link BoardValidator}, and boards with errors are rejected.
+ */
+public class BoardCompactHandler implements FileHandler<Board> {
+  public static final String HEADER = "CNL1";
+  public static final String EXTENSION = ".cnl";
+
+  private final int numberOfDice;
+  private ValidationReport lastValidationReport;
+
+  /**
+   * Constructs a handler validating boards for a single die.
+   */
+  public BoardCompactHandler() {
+    this(1);
+  }
+
+  /**
+   * Constructs a handler validating boards for the given number of dice, so tiles that cannot
+   * be reached with those dice are reported.
+   *
+   * @param numberOfDice the number of dice the boards are played with
+   */
+  public BoardCompactHandler(int numberOfDice) {
+    if (numberOfDice < 1) {
+      throw new IllegalArgumentException("At least one die is required");
+    }
+    this.numberOfDice = numberOfDice;
+  }
+
+  @Override
+  public Board readFromFile(String fileName) throws BoardGameException {
+    try (BufferedReader reader = new BufferedReader(new FileReader(fileName))) {
+      return parseBoard(reader);
+    } catch (IOException e) {
+      throw new BoardGameException("Cannot read board file: " + fileName, e);
+    }
+  }
+
+  @Override
+  public void writeToFile(Board board, String filename) throws BoardGameException {
+    try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
+      writer.write(HEADER + " " + board.getNumRows() + " " + board.getNumCols());
+      writer.newLine();
+
+      int tileCount = board.getNumRows() * board.getNumCols();
+      for (int tileId = 1; tileId <= tileCount; tileId++) {
+        Tile tile = board.getTile(tileId);
+        if (tile == null) {
+          writer.write("M " + tileId);
+          writer.newLine();
+          continue;
+        }
+
+        int[] position = snakePosition(tileId, board.getNumRows(), board.getNumCols());
+        if (tile.getRow() != position[0] || tile.getCol() != position[1]) {
+          writer.write("P " + tileId + " " + tile.getRow() + " " + tile.getCol());
+          writer.newLine();
+        }
+
+        TileAction action = tile.getTileAction();
+        if (action instanceof LadderAction) {
+          writer.write("L " + tileId + " " + ((LadderAction) action).getDestinationTileId());
+          writer.newLine();
+        } else if (action instanceof SkipTurnAction) {
+          writer.write("S " + tileId);
+          writer.newLine();
+        }
+      }
+
+    } catch (IOException e) {
+      throw new BoardGameException("Cannot write board file: " + filename, e);
+    }
+  }
+
+  private Board parseBoard(BufferedReader reader)
+      throws IOException, InvalidBoardConfigurationException {
+    String header = nextLine(reader);
+    String[] headerParts = header == null ? new String[0] : header.split("\\s+");
+    if (headerParts.length != 3 || !HEADER.equals(headerParts[0])) {
+      throw new InvalidBoardConfigurationException("Missing compact board header " + HEADER);
+    }
+
+    int rows = parseNumber(headerParts[1], header);
+    int cols = parseNumber(headerParts[2], header);
+    if (rows <= 0 || cols <= 0) {
+      throw new InvalidBoardConfigurationException("Invalid board dimensions: " + rows + "x" + cols);
+    }
+
+    Board board = new Board(rows, cols);
+    board.setupGameBoard();
+    Set<Integer> missing = new HashSet<>();
+
+    String line;
+    while ((line = nextLine(reader)) != null) {
+      String[] parts = line.split("\\s+");
+      Tile tile = parts.length > 1 ? board.getTile(parseNumber(parts[1], line)) : null;
+      if (tile == null) {
+        throw new InvalidBoardConfigurationException("Invalid tile in line: " + line);
+      }
+
+      switch (parts[0]) {
+        case "L":
+          requireLength(parts, 3, line);
+          tile.setTileAction(new LadderAction(parseNumber(parts[2], line)));
+          break;
+        case "S":
+          requireLength(parts, 2, line);
+          tile.setTileAction(new SkipTurnAction());
+          break;
+        case "P":
+          requireLength(parts, 4, line);
+          Tile moved = new Tile(tile.getTileId(), parseNumber(parts[2], line),
+              parseNumber(parts[3], line));
+          moved.setTileAction(tile.getTileAction());
+          board.addTile(moved);
+          break;
+        case "M":
+          requireLength(parts, 2, line);
+          missing.add(tile.getTileId());
+          break;
+        default:
+          throw new InvalidBoardConfigurationException("Unknown entry in line: " + line);
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      // Board has no way to remove tiles, so copy the ones that exist
+      Board trimmed = new Board(rows, cols);
+      for (Tile tile : board.getAllTiles().values()) {
+        if (!missing.contains(tile.getTileId())) {
+          trimmed.addTile(tile);
+        }
+      }
+      board = trimmed;
+    }
+
+    lastValidationReport = BoardValidator.validate(board, numberOfDice);
+    if (lastValidationReport.hasErrors()) {
+      throw new InvalidBoardConfigurationException("Invalid board: " + lastValidationReport.summary());
+    }
+    return board;
+  }
+
+  /**
+   * Retrieves the validation report of the last board read by this handler, including
+   * warnings that did not stop the board from loading.
+   *
+   * @return the report, or null if no complete board was read yet
+   */
+  public ValidationReport getLastValidationReport() {
+    return lastValidationReport;
+  }
+
+  private static String nextLine(BufferedReader reader) throws IOException {
+    String line;
+    while ((line = reader.readLine()) != null) {
+      line = line.trim();
+      if (!line.isEmpty() && !line.startsWith("#")) {
+        return line;
+      }
+    }
+    return null;
+  }
+
+  private static int parseNumber(String value, String line) throws InvalidBoardConfigurationException {
+    try {
+      return Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      throw new InvalidBoardConfigurationException("Invalid number in line: " + line, e);
+    }
+  }
+
+  private static void requireLength(String[] parts, int length, String line)
+      throws InvalidBoardConfigurationException {
+    if (parts.length != length) {
+      throw new InvalidBoardConfigurationException("Wrong number of values in line: " + line);
+    }
+  }
+
+  /**
+   * Calculates the row and column of a tile on a board laid out in the snake pattern used by
+   * {@link Board#setupGameBoard()}.
+   */
+  private static int[] snakePosition(int tileId, int rows, int cols) {
+    int rowFromBottom = (tileId - 1) / cols;
+    int offset = (tileId - 1) % cols;
+    int col = rowFromBottom % 2 == 0 ? offset : cols - 1 - offset;
+    return new int[] {rows - 1 - rowFromBottom, col};
+  }
+}
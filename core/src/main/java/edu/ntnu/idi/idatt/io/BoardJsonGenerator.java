@@ -267,21 +267,21 @@ public class BoardJsonGenerator {
    */
   public static void main(String[] args) {
     try {
-      generateLargeBoard("src/main/resources/boards/large_board.json");
+      generateLargeBoard("core/src/main/resources/boards/large_board.json");
       System.out.println("Large Board file generated successfully!");
     } catch (IOException e) {
       System.err.println("Error generating board: " + e.getMessage());
     }
 
     try {
-      generateSmallBoard("src/main/resources/boards/small_board.json");
+      generateSmallBoard("core/src/main/resources/boards/small_board.json");
       System.out.println("Small Board file generated successfully!");
     } catch (IOException e) {
       System.err.println("Error generating board: " + e.getMessage());
     }
 
     try {
-      generateStandardBoard("src/main/resources/boards/standard_board.json");
+      generateStandardBoard("core/src/main/resources/boards/standard_board.json");
       System.out.println("Standard Board file generated successfully!");
     } catch (IOException e) {
       System.err.println("Error generating board: " + e.getMessage());
@@ -9,16 +9,46 @@ import edu.ntnu.idi.idatt.exception.BoardGameException;
 import edu.ntnu.idi.idatt.exception.InvalidBoardConfigurationException;
 import edu.ntnu.idi.idatt.model.Board;
 import edu.ntnu.idi.idatt.model.Tile;
+import edu.ntnu.idi.idatt.validation.BoardValidator;
+import edu.ntnu.idi.idatt.validation.ValidationReport;
 import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Handles reading from and writing to JSON files for the {@link Board} object.
  * This class implements file handling and serialization logic specific to
  * board state persistence.
+ *
+ * <p>Every board read is checked by a {@link BoardValidator} while its tiles are parsed, and
+ * boards with errors are rejected.
  */
 public class BoardJsonHandler implements FileHandler<Board> {
+  private final int numberOfDice;
+  private ValidationReport lastValidationReport;
+
+  /**
+   * Constructs a handler validating boards for a single die.
+   */
+  public BoardJsonHandler() {
+    this(1);
+  }
+
+  /**
+   * Constructs a handler validating boards for the given number of dice, so tiles that cannot
+   * be reached with those dice are reported.
+   *
+   * @param numberOfDice the number of dice the boards are played with
+   */
+  public BoardJsonHandler(int numberOfDice) {
+    if (numberOfDice < 1) {
+      throw new IllegalArgumentException("At least one die is required");
+    }
+    this.numberOfDice = numberOfDice;
+  }
 
   @Override
   public Board readFromFile(String fileName) throws BoardGameException {
@@ -33,6 +63,35 @@ public class BoardJsonHandler implements FileHandler<Board> {
     }
   }
 
+  /**
+   * Reads a board bundled with the application from the classpath, for example
+   * {@code /boards/standard_board.json}. Unlike {@link #readFromFile(String)} this works
+   * regardless of the working directory and when running from a packaged jar.
+   *
+   * @param resourcePath the classpath path of the board file, from the root of the classpath
+   *                     with or without a leading slash
+   * @return the board described by the resource
+   * @throws BoardGameException if the resource does not exist, cannot be read or does not
+   *                            describe a valid board
+   */
+  public Board readFromResource(String resourcePath) throws BoardGameException {
+    // Without a leading slash the path would be resolved relative to this class's package
+    String absolutePath = resourcePath.startsWith("/") ? resourcePath : "/" + resourcePath;
+    InputStream stream = BoardJsonHandler.class.getResourceAsStream(absolutePath);
+    if (stream == null) {
+      throw new BoardGameException("Board resource not found: " + resourcePath);
+    }
+    try (JsonReader reader = new JsonReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+      JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+      return parseBoard(json);
+
+    } catch (JsonSyntaxException e) {
+      throw new InvalidBoardConfigurationException("Invalid JSON format in resource: " + resourcePath, e);
+    } catch (IOException e) {
+      throw new BoardGameException("Cannot read board resource: " + resourcePath, e);
+    }
+  }
+
   /**
    * Writes a Board object to a file in JSON format.
    *
@@ -79,6 +138,7 @@ public class BoardJsonHandler implements FileHandler<Board> {
       }
 
       Board board = new Board(rows, cols);
+      BoardValidator validator = BoardValidator.forDice(rows, cols, numberOfDice);
       JsonArray tilesArray = json.getAsJsonArray("tiles");
 
       for (JsonElement element : tilesArray) {
@@ -88,16 +148,24 @@ public class BoardJsonHandler implements FileHandler<Board> {
         int col = tileJson.get("col").getAsInt();
 
         Tile tile = new Tile(id, row, col);
+        boolean onBoard = validator.acceptTile(id, row, col);
 
         if (tileJson.has("action")) {
           JsonObject actionJson = tileJson.getAsJsonObject("action");
           TileAction action = parseAction(actionJson);
           tile.setTileAction(action);
+          if (onBoard) {
+            recordAction(validator, id, action, actionJson);
+          }
         }
 
         board.addTile(tile);
       }
 
+      lastValidationReport = validator.finish();
+      if (lastValidationReport.hasErrors()) {
+        throw new InvalidBoardConfigurationException("Invalid board: " + lastValidationReport.summary());
+      }
       return board;
 
     } catch (NumberFormatException | IllegalStateException e) {
@@ -105,6 +173,27 @@ public class BoardJsonHandler implements FileHandler<Board> {
     }
   }
 
+  private void recordAction(BoardValidator validator, int tileId, TileAction action,
+      JsonObject actionJson) {
+    if (action instanceof LadderAction) {
+      validator.acceptLadder(tileId, ((LadderAction) action).getDestinationTileId());
+    } else if (action instanceof SkipTurnAction) {
+      validator.acceptSkip(tileId);
+    } else if (action == null) {
+      validator.acceptUnknownAction(tileId, actionJson.get("type").getAsString());
+    }
+  }
+
+  /**
+   * Retrieves the validation report of the last board read by this handler, including
+   * warnings that did not stop the board from loading.
+   *
+   * @return the report, or null if no board was read yet
+   */
+  public ValidationReport getLastValidationReport() {
+    return lastValidationReport;
+  }
+
   private TileAction parseAction(JsonObject actionJson) throws InvalidBoardConfigurationException {
     String actionType = actionJson.get("type").getAsString();
 
@@ -1,5 +1,6 @@
 package edu.ntnu.idi.idatt.model;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -7,11 +8,15 @@ import java.util.Map;
  * Represents a game board consisting of a grid of tiles. Each tile is uniquely identified by an ID
  * and can be linked to another tile in a snake-like pattern. The board supports operations to add
  * tiles, retrieve tiles by their ID, and configure the game grid.
+ *
+ * <p>The {@link BoardFingerprint} of the board is calculated on first use and kept until a tile
+ * is added or the action of one of its tiles changes.
  */
 public class Board {
   private final Map<Integer, Tile> tiles;
   private int numRows;
   private int numCols;
+  private BoardFingerprint fingerprint;
 
   /**
    * Constructs a game board with the specified number of rows and columns.
@@ -87,6 +92,30 @@ public class Board {
    */
   public void addTile(Tile tile) {
     tiles.put(tile.getTileId(), tile);
+    tile.setBoard(this);
+    invalidateFingerprint();
+  }
+
+  /**
+   * Retrieves the fingerprint of the board's content, calculating it if the board changed
+   * since it was last asked for.
+   *
+   * @return the fingerprint of the board
+   */
+  public BoardFingerprint getFingerprint() {
+    BoardFingerprint current = fingerprint;
+    if (current == null) {
+      current = BoardFingerprint.of(this);
+      fingerprint = current;
+    }
+    return current;
+  }
+
+  /**
+   * Drops the cached fingerprint after the content of the board changed.
+   */
+  void invalidateFingerprint() {
+    fingerprint = null;
   }
 
   /**
@@ -145,4 +174,13 @@ public class Board {
     return new HashMap<>(tiles);
   }
 
+  /**
+   * Gets the tiles of the board without copying them, for reading only.
+   *
+   * @return the tiles of the board
+   */
+  Collection<Tile> tileValues() {
+    return tiles.values();
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,161 @@
+package edu.ntnu.idi.idatt.model;
+
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.action.TileAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * The BoardFingerprint class is a 128-bit hash of the content of a {@link Board}: its
+ * dimensions and, for every tile, the ID, the grid position and the action. Two boards with the
+ * same content have the same fingerprint no matter how they were read, so it identifies a board
+ * across files, JSON formatting and tile order, and can be used as a cache key.
+ *
+ * <p>Every tile is hashed on its own into two independent 64-bit lanes, and the tile hashes are
+ * added up, which does not depend on the order the tiles are visited in. The sums are then
+ * mixed with the dimensions. The hash only uses fixed constants and the content, so it is the
+ * same in every run of the program.
+ */
+public final class BoardFingerprint {
+  private static final long HIGH_SEED = 0x9E3779B97F4A7C15L;
+  private static final long LOW_SEED = 0xC2B2AE3D27D4EB4FL;
+  private static final int NO_ACTION = 0;
+  private static final int LADDER = 1;
+  private static final int SKIP_TURN = 2;
+  private static final int OTHER_ACTION = 3;
+
+  private final long high;
+  private final long low;
+
+  /**
+   * Constructs a fingerprint from its two halves.
+   *
+   * @param high the upper 64 bits
+   * @param low  the lower 64 bits
+   */
+  public BoardFingerprint(long high, long low) {
+    this.high = high;
+    this.low = low;
+  }
+
+  /**
+   * Calculates the fingerprint of a board. Prefer {@link Board#getFingerprint()}, which
+   * calculates it only once.
+   *
+   * @param board the board to fingerprint
+   * @return the fingerprint of the board's content
+   */
+  public static BoardFingerprint of(Board board) {
+    long highSum = 0;
+    long lowSum = 0;
+    Collection<Tile> tiles = board.tileValues();
+    for (Tile tile : tiles) {
+      long[] fields = tileFields(tile);
+      highSum += hash(HIGH_SEED, fields);
+      lowSum += hash(LOW_SEED, fields);
+    }
+    long[] dimensions = {board.getNumRows(), board.getNumCols(), tiles.size()};
+    return new BoardFingerprint(
+        hash(HIGH_SEED, dimensions) ^ mix(highSum + HIGH_SEED),
+        hash(LOW_SEED, dimensions) ^ mix(lowSum + LOW_SEED));
+  }
+
+  private static long[] tileFields(Tile tile) {
+    TileAction action = tile.getTileAction();
+    long type;
+    long argument = 0;
+    if (action == null) {
+      type = NO_ACTION;
+    } else if (action instanceof LadderAction) {
+      type = LADDER;
+      argument = ((LadderAction) action).getDestinationTileId();
+    } else if (action instanceof SkipTurnAction) {
+      type = SKIP_TURN;
+    } else {
+      type = OTHER_ACTION;
+      argument = hashName(action.getClass().getName());
+    }
+    return new long[] {tile.getTileId(), tile.getRow(), tile.getCol(), type, argument};
+  }
+
+  private static long hashName(String name) {
+    long hash = 0;
+    for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+      hash = mix(hash ^ (b & 0xFF));
+    }
+    return hash;
+  }
+
+  private static long hash(long seed, long[] fields) {
+    long hash = seed;
+    for (long field : fields) {
+      hash = mix(hash ^ mix(field + seed));
+    }
+    return hash;
+  }
+
+  /**
+   * The finalizer of SplitMix64, which spreads every input bit over the whole result.
+   */
+  private static long mix(long value) {
+    long z = value;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Parses a fingerprint written by {@link #toString()}.
+   *
+   * @param text 32 hexadecimal digits
+   * @return the fingerprint
+   * @throws IllegalArgumentException if the text is not a fingerprint
+   */
+  public static BoardFingerprint parse(String text) {
+    if (text == null || text.length() != 32) {
+      throw new IllegalArgumentException("A fingerprint has 32 hexadecimal digits: " + text);
+    }
+    try {
+      return new BoardFingerprint(Long.parseUnsignedLong(text.substring(0, 16), 16),
+          Long.parseUnsignedLong(text.substring(16), 16));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("A fingerprint has 32 hexadecimal digits: " + text, e);
+    }
+  }
+
+  public long getHigh() {
+    return high;
+  }
+
+  public long getLow() {
+    return low;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof BoardFingerprint)) {
+      return false;
+    }
+    BoardFingerprint fingerprint = (BoardFingerprint) other;
+    return high == fingerprint.high && low == fingerprint.low;
+  }
+
+  @Override
+  public int hashCode() {
+    return (int) (low ^ (low >>> 32));
+  }
+
+  /**
+   * Writes the fingerprint as 32 hexadecimal digits.
+   *
+   * @return the fingerprint in hexadecimal
+   */
+  @Override
+  public String toString() {
+    return String.format("%016x%016x", high, low);
+  }
+}
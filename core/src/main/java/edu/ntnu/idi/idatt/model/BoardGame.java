@@ -67,11 +67,28 @@ public class BoardGame {
    *                   missing required fields, or I/O errors).
    */
   public void loadBoardFromFile(String filepath) throws Exception {
-    BoardJsonHandler boardHandler = new BoardJsonHandler();
+    BoardJsonHandler boardHandler = boardHandler();
     this.board = boardHandler.readFromFile(filepath);
 
   }
 
+  /**
+   * Creates a handler validating boards for the dice of the game, or a single die if the dice
+   * are not created yet.
+   */
+  private BoardJsonHandler boardHandler() {
+    return new BoardJsonHandler(dice != null ? dice.getNumberOfDice() : 1);
+  }
+
+  /**
+   * Sets the board the game is played on, for example a board read from a bundled resource.
+   *
+   * @param board the board to play on
+   */
+  public void setBoard(Board board) {
+    this.board = board;
+  }
+
   public void createDice(int numberOfDice) {
     this.dice = new Dice(numberOfDice);
   }
@@ -235,7 +252,7 @@ public class BoardGame {
 
   public void loadGame(String filename) throws BoardGameException {
     try {
-      BoardJsonHandler boardHandler = new BoardJsonHandler();
+      BoardJsonHandler boardHandler = boardHandler();
       this.board = boardHandler.readFromFile(filename);
 
       // Reset game state
@@ -47,6 +47,16 @@ public class Player {
     System.out.println(name + " is place on tile " + tile.getTileId());
   }
 
+  /**
+   * Places the player on the specified tile without logging the move. Used when many turns are
+   * played at once, where printing every move would take longer than playing it.
+   *
+   * @param tile The tile on which the player is to be placed. Must not be null.
+   */
+  public void setCurrentTile(Tile tile) {
+    this.currentTile = tile;
+  }
+
   /**
    * Moves the player forward by a specified number of steps.
    *
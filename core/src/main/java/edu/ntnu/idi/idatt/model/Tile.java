@@ -14,6 +14,7 @@ public class Tile {
   private TileAction tileAction;
   private int row;
   private int col;
+  private Board board;
 
   /**
    * Constructs a Tile object with a specified tile identifier, row, and column position.
@@ -62,6 +63,18 @@ public class Tile {
    */
   public void setTileAction(TileAction tileAction) {
     this.tileAction = tileAction;
+    if (board != null) {
+      board.invalidateFingerprint();
+    }
+  }
+
+  /**
+   * Sets the board the tile belongs to, so changes to the tile reach the board.
+   *
+   * @param board the board the tile was added to
+   */
+  void setBoard(Board board) {
+    this.board = board;
   }
 
   /**
@@ -0,0 +1,88 @@
+package edu.ntnu.idi.idatt.validation;
+
+/**
+ * The BoardDefect class describes a single problem found while validating a board, with the
+ * ID of the tile it concerns. Errors make a board unplayable or ambiguous and stop it from
+ * being loaded, while warnings describe layouts that work but probably are not intended.
+ */
+public class BoardDefect {
+
+  /**
+   * The severity of a defect.
+   */
+  public enum Severity {
+    ERROR,
+    WARNING
+  }
+
+  /**
+   * The kinds of defects the {@link BoardValidator} detects.
+   */
+  public enum Type {
+    INVALID_TILE_ID(Severity.ERROR),
+    DUPLICATE_TILE(Severity.ERROR),
+    INVALID_POSITION(Severity.ERROR),
+    DUPLICATE_POSITION(Severity.ERROR),
+    MISSING_TILE(Severity.ERROR),
+    BROKEN_LINK(Severity.ERROR),
+    SELF_LINK(Severity.ERROR),
+    DEAD_END(Severity.ERROR),
+    CHAINED_ACTION(Severity.WARNING),
+    CYCLE(Severity.WARNING),
+    UNKNOWN_ACTION(Severity.WARNING),
+    ACTION_ON_FINAL_TILE(Severity.WARNING),
+    UNREACHABLE_TILE(Severity.WARNING);
+
+    private final Severity severity;
+
+    Type(Severity severity) {
+      this.severity = severity;
+    }
+
+    public Severity getSeverity() {
+      return severity;
+    }
+  }
+
+  private final Type type;
+  private final int tileId;
+  private final String message;
+
+  /**
+   * Constructs a defect.
+   *
+   * @param type    the kind of defect
+   * @param tileId  the ID of the tile the defect concerns
+   * @param message a description of the defect
+   */
+  public BoardDefect(Type type, int tileId, String message) {
+    this.type = type;
+    this.tileId = tileId;
+    this.message = message;
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  public Severity getSeverity() {
+    return type.getSeverity();
+  }
+
+  public int getTileId() {
+    return tileId;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public boolean isError() {
+    return type.getSeverity() == Severity.ERROR;
+  }
+
+  @Override
+  public String toString() {
+    return getSeverity() + " " + type + " at tile " + tileId + ": " + message;
+  }
+}
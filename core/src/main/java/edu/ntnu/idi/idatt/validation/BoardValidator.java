@@ -0,0 +1,434 @@
+package edu.ntnu.idi.idatt.validation;
+
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.action.TileAction;
+import edu.ntnu.idi.idatt.model.Board;
+import edu.ntnu.idi.idatt.model.Tile;
+import java.util.BitSet;
+
+/**
+ * The BoardValidator class checks a board for defects in time linear in the number of tiles
+ * and actions, so it can stay enabled for very large boards. Tiles and actions are fed to the
+ * validator one at a time while a board file is parsed, and {@link #finish()} runs the checks
+ * that need the whole board and returns the {@link ValidationReport}.
+ *
+ * <p>The validator reports tile IDs outside the board, duplicate and missing tiles, tiles
+ * placed outside the grid or on top of each other, ladders and chutes leading to a missing tile
+ * or to their own tile, ladders leading onto another action, which the game does not follow,
+ * and loops formed by such chains. It also follows every possible roll from the start tile to
+ * find tiles that can never be landed on, and tiles a player can reach but never get from to
+ * the final tile.
+ *
+ * <p>Rolls are assumed to be between 1 and 6 unless other bounds are given, which covers the
+ * moves of a single die. The reachability checks depend on these bounds, so boards played with
+ * more dice should be validated with {@link #forDice(int, int, int)}; the report states the
+ * rolls it assumed.
+ */
+public class BoardValidator {
+  public static final int START_TILE = 1;
+  public static final int DIE_FACES = 6;
+
+  private static final byte PRESENT = 1;
+  private static final byte LADDER = 2;
+  private static final byte SKIP = 4;
+  private static final byte LANDED = 8;
+  private static final byte STOOD = 16;
+  private static final byte FINISHES = 32;
+
+  private final int rows;
+  private final int cols;
+  private final int finalTileId;
+  private final int minRoll;
+  private final int maxRoll;
+  private final byte[] flags;
+  private final int[] destinations;
+  private final BitSet positions;
+  private final ValidationReport report;
+  private boolean finished;
+
+  /**
+   * Constructs a validator for a board of the given size, assuming rolls of a single die.
+   *
+   * @param rows the number of rows of the board
+   * @param cols the number of columns of the board
+   */
+  public BoardValidator(int rows, int cols) {
+    this(rows, cols, 1, 6);
+  }
+
+  /**
+   * Constructs a validator for a board of the given size.
+   *
+   * @param rows    the number of rows of the board
+   * @param cols    the number of columns of the board
+   * @param minRoll the smallest total a player can roll
+   * @param maxRoll the largest total a player can roll
+   */
+  public BoardValidator(int rows, int cols, int minRoll, int maxRoll) {
+    if (rows <= 0 || cols <= 0) {
+      throw new IllegalArgumentException("Invalid board dimensions: " + rows + "x" + cols);
+    }
+    if (minRoll < 1 || maxRoll < minRoll) {
+      throw new IllegalArgumentException("Invalid roll range: " + minRoll + "-" + maxRoll);
+    }
+    this.rows = rows;
+    this.cols = cols;
+    this.finalTileId = Math.multiplyExact(rows, cols);
+    this.minRoll = minRoll;
+    this.maxRoll = maxRoll;
+    this.report = new ValidationReport(minRoll, maxRoll);
+    this.flags = new byte[finalTileId + 1];
+    this.destinations = new int[finalTileId + 1];
+    this.positions = new BitSet(finalTileId);
+  }
+
+  /**
+   * Constructs a validator for a board played with the given number of dice, which roll totals
+   * from the number of dice up to six times as much.
+   *
+   * @param rows         the number of rows of the board
+   * @param cols         the number of columns of the board
+   * @param numberOfDice the number of dice rolled every turn
+   * @return the validator
+   */
+  public static BoardValidator forDice(int rows, int cols, int numberOfDice) {
+    if (numberOfDice < 1) {
+      throw new IllegalArgumentException("At least one die is required");
+    }
+    return new BoardValidator(rows, cols, numberOfDice, numberOfDice * DIE_FACES);
+  }
+
+  /**
+   * Validates an already created board, assuming rolls of a single die.
+   *
+   * @param board the board to validate
+   * @return the report of all defects found
+   */
+  public static ValidationReport validate(Board board) {
+    return validate(board, 1);
+  }
+
+  /**
+   * Validates an already created board played with the given number of dice.
+   *
+   * @param board        the board to validate
+   * @param numberOfDice the number of dice rolled every turn
+   * @return the report of all defects found
+   */
+  public static ValidationReport validate(Board board, int numberOfDice) {
+    BoardValidator validator = forDice(board.getNumRows(), board.getNumCols(), numberOfDice);
+    for (Tile tile : board.getAllTiles().values()) {
+      if (!validator.acceptTile(tile.getTileId(), tile.getRow(), tile.getCol())) {
+        continue;
+      }
+      TileAction action = tile.getTileAction();
+      if (action instanceof LadderAction) {
+        validator.acceptLadder(tile.getTileId(), ((LadderAction) action).getDestinationTileId());
+      } else if (action instanceof SkipTurnAction) {
+        validator.acceptSkip(tile.getTileId());
+      } else if (action != null) {
+        validator.acceptUnknownAction(tile.getTileId(), action.getClass().getSimpleName());
+      }
+    }
+    return validator.finish();
+  }
+
+  /**
+   * Records a tile. A tile with the same ID as an earlier one replaces it, like on the board.
+   *
+   * @param tileId the ID of the tile
+   * @param row    the row the tile is placed in
+   * @param col    the column the tile is placed in
+   * @return true if the tile ID is on the board, so actions of the tile can be recorded
+   */
+  public boolean acceptTile(int tileId, int row, int col) {
+    if (tileId < START_TILE || tileId > finalTileId) {
+      report.add(new BoardDefect(BoardDefect.Type.INVALID_TILE_ID, tileId,
+          "Tile ID is outside the board (1-" + finalTileId + ")"));
+      return false;
+    }
+    if ((flags[tileId] & PRESENT) != 0) {
+      report.add(new BoardDefect(BoardDefect.Type.DUPLICATE_TILE, tileId, "Tile is defined twice"));
+      flags[tileId] = PRESENT;
+      return true;
+    }
+    flags[tileId] = PRESENT;
+
+    if (row < 0 || row >= rows || col < 0 || col >= cols) {
+      report.add(new BoardDefect(BoardDefect.Type.INVALID_POSITION, tileId,
+          "Position (" + row + ", " + col + ") is outside the " + rows + "x" + cols + " grid"));
+    } else {
+      int position = row * cols + col;
+      if (positions.get(position)) {
+        report.add(new BoardDefect(BoardDefect.Type.DUPLICATE_POSITION, tileId,
+            "Another tile is already placed at (" + row + ", " + col + ")"));
+      }
+      positions.set(position);
+    }
+    return true;
+  }
+
+  /**
+   * Records a ladder or chute on a tile accepted before.
+   *
+   * @param tileId      the ID of the tile
+   * @param destination the ID of the tile the ladder or chute leads to
+   */
+  public void acceptLadder(int tileId, int destination) {
+    flags[tileId] = (byte) ((flags[tileId] & ~SKIP) | LADDER);
+    destinations[tileId] = destination;
+  }
+
+  /**
+   * Records a skip turn action on a tile accepted before.
+   *
+   * @param tileId the ID of the tile
+   */
+  public void acceptSkip(int tileId) {
+    flags[tileId] = (byte) ((flags[tileId] & ~LADDER) | SKIP);
+  }
+
+  /**
+   * Records an action the game does not know, which is ignored when the board is loaded.
+   *
+   * @param tileId     the ID of the tile
+   * @param actionType the name of the action type
+   */
+  public void acceptUnknownAction(int tileId, String actionType) {
+    report.add(new BoardDefect(BoardDefect.Type.UNKNOWN_ACTION, tileId,
+        "Unknown action type " + actionType + " is ignored"));
+  }
+
+  /**
+   * Runs the checks that need the complete board and returns the report.
+   *
+   * @return the report of all defects found
+   */
+  public ValidationReport finish() {
+    if (finished) {
+      return report;
+    }
+    finished = true;
+
+    checkTilesAndLinks();
+    checkCycles();
+    if (isPresent(START_TILE)) {
+      int[] landing = resolveLandings();
+      followRolls(landing);
+      checkReachability();
+      checkDeadEnds(landing);
+    }
+    return report;
+  }
+
+  private boolean isPresent(int tileId) {
+    return tileId >= START_TILE && tileId <= finalTileId && (flags[tileId] & PRESENT) != 0;
+  }
+
+  private boolean hasAction(int tileId) {
+    return (flags[tileId] & (LADDER | SKIP)) != 0;
+  }
+
+  /**
+   * Checks whether the tile has a ladder or chute leading to another existing tile.
+   */
+  private boolean hasValidLink(int tileId) {
+    if ((flags[tileId] & LADDER) == 0) {
+      return false;
+    }
+    int destination = destinations[tileId];
+    return destination != tileId && isPresent(destination);
+  }
+
+  private void checkTilesAndLinks() {
+    for (int tileId = START_TILE; tileId <= finalTileId; tileId++) {
+      if (!isPresent(tileId)) {
+        report.add(new BoardDefect(BoardDefect.Type.MISSING_TILE, tileId, "Tile is missing"));
+        continue;
+      }
+      if (tileId == finalTileId && hasAction(tileId)) {
+        report.add(new BoardDefect(BoardDefect.Type.ACTION_ON_FINAL_TILE, tileId,
+            "The final tile has an action, so landing on it may not win"));
+      }
+      if ((flags[tileId] & LADDER) == 0) {
+        continue;
+      }
+
+      int destination = destinations[tileId];
+      if (destination == tileId) {
+        report.add(new BoardDefect(BoardDefect.Type.SELF_LINK, tileId,
+            "Ladder or chute leads to its own tile"));
+      } else if (!isPresent(destination)) {
+        report.add(new BoardDefect(BoardDefect.Type.BROKEN_LINK, tileId,
+            "Ladder or chute leads to missing tile " + destination));
+      } else if (hasAction(destination)) {
+        report.add(new BoardDefect(BoardDefect.Type.CHAINED_ACTION, tileId,
+            "Ladder or chute leads onto the action of tile " + destination
+                + ", which is not performed"));
+      }
+    }
+  }
+
+  /**
+   * Finds loops of ladders and chutes. Every tile has at most one link, so each loop is found
+   * by following links from every tile once, marking visited tiles.
+   */
+  private void checkCycles() {
+    byte[] color = new byte[finalTileId + 1];
+    for (int start = START_TILE; start <= finalTileId; start++) {
+      if (color[start] != 0 || !hasValidLink(start)) {
+        continue;
+      }
+
+      int current = start;
+      while (hasValidLink(current) && color[current] == 0) {
+        color[current] = 1;
+        current = destinations[current];
+      }
+      if (hasValidLink(current) && color[current] == 1) {
+        reportCycle(current);
+      }
+
+      current = start;
+      while (hasValidLink(current) && color[current] == 1) {
+        color[current] = 2;
+        current = destinations[current];
+      }
+    }
+  }
+
+  private void reportCycle(int entry) {
+    int smallest = entry;
+    StringBuilder path = new StringBuilder().append(entry);
+    int current = destinations[entry];
+    while (current != entry) {
+      smallest = Math.min(smallest, current);
+      path.append(" -> ").append(current);
+      current = destinations[current];
+    }
+    path.append(" -> ").append(entry);
+    report.add(new BoardDefect(BoardDefect.Type.CYCLE, smallest,
+        "Ladders and chutes form a loop: " + path));
+  }
+
+  /**
+   * Calculates where a player ends up after landing on every tile, following the rules of the
+   * game where only the action of the tile landed on is performed.
+   */
+  private int[] resolveLandings() {
+    int[] landing = new int[finalTileId + 1];
+    for (int tileId = START_TILE; tileId <= finalTileId; tileId++) {
+      landing[tileId] = hasValidLink(tileId) ? destinations[tileId] : tileId;
+    }
+    return landing;
+  }
+
+  /**
+   * Follows every possible roll from the start tile, marking the tiles that can be landed on
+   * and the tiles a player can stand on after their turn.
+   */
+  private void followRolls(int[] landing) {
+    int[] queue = new int[finalTileId + 1];
+    int head = 0;
+    int tail = 0;
+    flags[START_TILE] |= STOOD | LANDED;
+    queue[tail++] = START_TILE;
+
+    while (head < tail) {
+      int position = queue[head++];
+      if (position >= finalTileId) {
+        continue;
+      }
+      for (int roll = minRoll; roll <= maxRoll; roll++) {
+        int target = Math.min(position + roll, finalTileId);
+        if (isPresent(target)) {
+          flags[target] |= LANDED;
+          int standing = landing[target];
+          if ((flags[standing] & STOOD) == 0) {
+            flags[standing] |= STOOD | LANDED;
+            queue[tail++] = standing;
+          }
+        }
+        if (target == finalTileId) {
+          break;
+        }
+      }
+    }
+  }
+
+  private void checkReachability() {
+    for (int tileId = START_TILE; tileId <= finalTileId; tileId++) {
+      if (isPresent(tileId) && (flags[tileId] & LANDED) == 0) {
+        report.add(new BoardDefect(BoardDefect.Type.UNREACHABLE_TILE, tileId,
+            "No roll from the start tile ever lands on this tile"));
+      }
+    }
+  }
+
+  /**
+   * Finds tiles a player can stand on but never reach the final tile from, by searching
+   * backwards from the final tile over the reversed moves.
+   */
+  private void checkDeadEnds(int[] landing) {
+    // Count the incoming moves of every tile, then store the sources grouped by target
+    int[] offsets = new int[finalTileId + 2];
+    forEachMove(landing, (from, to) -> offsets[to + 1]++);
+    for (int tileId = 1; tileId < offsets.length; tileId++) {
+      offsets[tileId] += offsets[tileId - 1];
+    }
+    int[] sources = new int[offsets[finalTileId + 1]];
+    int[] fill = new int[finalTileId + 1];
+    System.arraycopy(offsets, 0, fill, 0, finalTileId + 1);
+    forEachMove(landing, (from, to) -> sources[fill[to]++] = from);
+
+    int[] queue = new int[finalTileId + 1];
+    int head = 0;
+    int tail = 0;
+    if ((flags[finalTileId] & STOOD) != 0) {
+      flags[finalTileId] |= FINISHES;
+      queue[tail++] = finalTileId;
+    }
+    while (head < tail) {
+      int tileId = queue[head++];
+      for (int i = offsets[tileId]; i < offsets[tileId + 1]; i++) {
+        int source = sources[i];
+        if ((flags[source] & FINISHES) == 0) {
+          flags[source] |= FINISHES;
+          queue[tail++] = source;
+        }
+      }
+    }
+
+    for (int tileId = START_TILE; tileId < finalTileId; tileId++) {
+      if ((flags[tileId] & STOOD) != 0 && (flags[tileId] & FINISHES) == 0) {
+        report.add(new BoardDefect(BoardDefect.Type.DEAD_END, tileId,
+            "The final tile cannot be reached from this tile"));
+      }
+    }
+  }
+
+  private interface MoveConsumer {
+    void accept(int from, int to);
+  }
+
+  /**
+   * Calls the consumer for every move between tiles a player can stand on.
+   */
+  private void forEachMove(int[] landing, MoveConsumer consumer) {
+    for (int position = START_TILE; position < finalTileId; position++) {
+      if ((flags[position] & STOOD) == 0) {
+        continue;
+      }
+      for (int roll = minRoll; roll <= maxRoll; roll++) {
+        int target = Math.min(position + roll, finalTileId);
+        if (isPresent(target)) {
+          consumer.accept(position, landing[target]);
+        }
+        if (target == finalTileId) {
+          break;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package edu.ntnu.idi.idatt.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The ValidationReport class holds every defect found by a {@link BoardValidator}, in the
+ * order they were found, together with the range of rolls the validator assumed. Unreachable
+ * tiles and dead ends are only found for that range.
+ */
+public class ValidationReport {
+  private static final int SUMMARY_LIMIT = 5;
+
+  private final List<BoardDefect> defects = new ArrayList<>();
+  private final int minRoll;
+  private final int maxRoll;
+  private int errorCount;
+
+  ValidationReport(int minRoll, int maxRoll) {
+    this.minRoll = minRoll;
+    this.maxRoll = maxRoll;
+  }
+
+  void add(BoardDefect defect) {
+    defects.add(defect);
+    if (defect.isError()) {
+      errorCount++;
+    }
+  }
+
+  public List<BoardDefect> getDefects() {
+    return Collections.unmodifiableList(defects);
+  }
+
+  /**
+   * Retrieves the defects of the given severity.
+   *
+   * @param severity the severity to look for
+   * @return the defects with that severity
+   */
+  public List<BoardDefect> getDefects(BoardDefect.Severity severity) {
+    List<BoardDefect> matching = new ArrayList<>();
+    for (BoardDefect defect : defects) {
+      if (defect.getSeverity() == severity) {
+        matching.add(defect);
+      }
+    }
+    return matching;
+  }
+
+  public int getMinRoll() {
+    return minRoll;
+  }
+
+  public int getMaxRoll() {
+    return maxRoll;
+  }
+
+  public boolean hasErrors() {
+    return errorCount > 0;
+  }
+
+  public int getErrorCount() {
+    return errorCount;
+  }
+
+  public int getWarningCount() {
+    return defects.size() - errorCount;
+  }
+
+  /**
+   * Creates a short description of the report listing the first errors, suitable for an
+   * exception message.
+   *
+   * @return the summary
+   */
+  public String summary() {
+    StringBuilder summary = new StringBuilder();
+    summary.append(errorCount).append(" error(s), ").append(getWarningCount()).append(" warning(s)");
+    int listed = 0;
+    for (BoardDefect defect : defects) {
+      if (defect.isError() && listed < SUMMARY_LIMIT) {
+        summary.append(listed == 0 ? ": " : "; ").append("tile ").append(defect.getTileId())
+            .append(" ").append(defect.getMessage());
+        listed++;
+      }
+    }
+    if (errorCount > SUMMARY_LIMIT) {
+      summary.append("; ...");
+    }
+    return summary.toString();
+  }
+
+  @Override
+  public String toString() {
+    return summary();
+  }
+}
@@ -0,0 +1,128 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import edu.ntnu.idi.idatt.exception.BoardGameException;
+import edu.ntnu.idi.idatt.io.BoardJsonHandler;
+import edu.ntnu.idi.idatt.model.Board;
+import edu.ntnu.idi.idatt.model.BoardFingerprint;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class AnalysisDiskCacheTest {
+  private final DiceDistribution dice = new DiceDistribution(2);
+  private Path directory;
+  private BoardFingerprint fingerprint;
+  private CompiledBoard standard;
+
+  @BeforeEach
+  void setUp() throws BoardGameException, IOException {
+    directory = Files.createTempDirectory("analysis-cache");
+    Board board = new BoardJsonHandler().readFromResource("/boards/standard_board.json");
+    fingerprint = board.getFingerprint();
+    standard = CompiledBoard.compile(board);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    for (Path entry : entries()) {
+      Files.delete(entry);
+    }
+    Files.deleteIfExists(directory);
+  }
+
+  private List<Path> entries() throws IOException {
+    List<Path> entries = new ArrayList<>();
+    if (Files.isDirectory(directory)) {
+      try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+        stream.forEach(entries::add);
+      }
+    }
+    return entries;
+  }
+
+  @Test
+  @DisplayName("Results read back from the files equal the calculated results")
+  void testRoundTrip() throws BoardGameException {
+    AnalysisDiskCache cache = new AnalysisDiskCache(directory, AnalysisDiskCache.DEFAULT_MAX_BYTES);
+    double[] expected = cache.expectedTurnsPerTile(fingerprint, standard, dice);
+    double[] landings = cache.landingFrequencies(fingerprint, standard, dice);
+    assertEquals(0, cache.getHits());
+
+    // A new cache on the same directory stands for a later run of the program
+    AnalysisDiskCache reopened =
+        new AnalysisDiskCache(directory, AnalysisDiskCache.DEFAULT_MAX_BYTES);
+    assertArrayEquals(expected, reopened.expectedTurnsPerTile(fingerprint, standard, dice));
+    assertArrayEquals(landings, reopened.landingFrequencies(fingerprint, standard, dice));
+    assertEquals(2, reopened.getHits());
+    assertEquals(0, reopened.getMisses());
+    assertArrayEquals(new BoardAnalyzer(standard, dice).expectedTurnsPerTile(), expected);
+  }
+
+  @Test
+  @DisplayName("A win probability table read back gives the same answers")
+  void testWinProbabilityTable() {
+    AnalysisDiskCache cache = new AnalysisDiskCache(directory, AnalysisDiskCache.DEFAULT_MAX_BYTES);
+    WinProbabilityTable computed = cache.winProbabilityTable(fingerprint, standard, dice);
+    WinProbabilityTable read = cache.winProbabilityTable(fingerprint, standard, dice);
+
+    assertNotSame(computed, read);
+    assertEquals(1, cache.getHits());
+    assertEquals(computed.getHorizon(), read.getHorizon());
+    int[] positions = {1, 40, 72};
+    boolean[] skipping = {false, true, false};
+    assertArrayEquals(computed.winProbabilities(positions, skipping, 1),
+        read.winProbabilities(positions, skipping, 1));
+    assertEquals(computed.expectedRemainingTurns(40, true), read.expectedRemainingTurns(40, true));
+  }
+
+  @Test
+  @DisplayName("Other dice and damaged files are calculated again")
+  void testMisses() throws BoardGameException, IOException {
+    AnalysisDiskCache cache = new AnalysisDiskCache(directory, AnalysisDiskCache.DEFAULT_MAX_BYTES);
+    double[] expected = cache.expectedTurnsPerTile(fingerprint, standard, dice);
+    cache.expectedTurnsPerTile(fingerprint, standard, new DiceDistribution(1));
+    assertEquals(2, cache.getMisses());
+
+    Path entry = entries().get(0);
+    byte[] content = Files.readAllBytes(entry);
+    Files.write(entry, Arrays.copyOf(content, content.length - 3));
+
+    assertArrayEquals(expected, cache.expectedTurnsPerTile(fingerprint, standard, dice));
+    assertEquals(cache.expectedTurnsPerTile(fingerprint, standard, new DiceDistribution(1))[1],
+        new BoardAnalyzer(standard, new DiceDistribution(1)).expectedTurns(), 1e-9);
+    assertEquals(3, cache.getMisses());
+  }
+
+  @Test
+  @DisplayName("The least recently used entries are deleted when the cache is full")
+  void testEviction() throws BoardGameException, IOException {
+    AnalysisDiskCache sizing = new AnalysisDiskCache(directory, AnalysisDiskCache.DEFAULT_MAX_BYTES);
+    sizing.expectedTurnsPerTile(fingerprint, standard, dice);
+    long entrySize = sizing.size();
+    tearDown();
+
+    AnalysisDiskCache cache = new AnalysisDiskCache(directory, 2 * entrySize);
+    DiceDistribution one = new DiceDistribution(1);
+    DiceDistribution three = new DiceDistribution(3);
+    cache.expectedTurnsPerTile(fingerprint, standard, dice);
+    cache.expectedTurnsPerTile(fingerprint, standard, one);
+    // Using the first entry makes the second the least recently used
+    cache.expectedTurnsPerTile(fingerprint, standard, dice);
+    cache.expectedTurnsPerTile(fingerprint, standard, three);
+
+    assertEquals(2, entries().size());
+    assertTrue(cache.size() <= cache.getMaxBytes());
+    int hits = cache.getHits();
+    cache.expectedTurnsPerTile(fingerprint, standard, dice);
+    cache.expectedTurnsPerTile(fingerprint, standard, three);
+    assertEquals(hits + 2, cache.getHits());
+    cache.expectedTurnsPerTile(fingerprint, standard, one);
+    assertEquals(hits + 2, cache.getHits());
+  }
+}
@@ -0,0 +1,94 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.exception.BoardGameException;
+import edu.ntnu.idi.idatt.model.Board;
+
+class BoardAnalyzerTest {
+  private Board board;
+
+  @BeforeEach
+  void setUp() {
+    board = new Board(1, 7);
+    board.setupGameBoard();
+  }
+
+  @Test
+  @DisplayName("expectedTurns() matches the closed form of a board without actions")
+  void testExpectedTurnsPlainBoard() throws BoardGameException {
+    BoardAnalyzer analyzer = new BoardAnalyzer(CompiledBoard.compile(board), new DiceDistribution(1));
+
+    // With one die, E(d) = (7/6)^(d-1) for a distance d of at most 6 tiles
+    assertEquals(Math.pow(7.0 / 6.0, 5), analyzer.expectedTurns(), 1e-9);
+  }
+
+  @Test
+  @DisplayName("A ladder to the final tile shortens the expected game")
+  void testLadderShortensGame() throws BoardGameException {
+    double plain = new BoardAnalyzer(CompiledBoard.compile(board), new DiceDistribution(1)).expectedTurns();
+    board.getTile(2).setTileAction(new LadderAction(7));
+
+    double withLadder = new BoardAnalyzer(CompiledBoard.compile(board), new DiceDistribution(1)).expectedTurns();
+
+    assertTrue(withLadder < plain);
+  }
+
+  @Test
+  @DisplayName("A skip tile adds the skipped turn to the expected game length")
+  void testSkipAddsTurn() throws BoardGameException {
+    board.getTile(6).setTileAction(new SkipTurnAction());
+    BoardAnalyzer analyzer = new BoardAnalyzer(CompiledBoard.compile(board), new DiceDistribution(1));
+
+    // From tile 5: 1/6 lands on 6 and skips, so E(5) = 1 + (1 + E(6)) / 6 with E(6) = 1
+    assertEquals(1 + 2.0 / 6.0, analyzer.expectedTurnsPerTile()[5], 1e-9);
+  }
+
+  @Test
+  @DisplayName("expectedTurns() agrees with simulated games on the standard board")
+  void testAgreesWithSimulation() throws BoardGameException {
+    Board standard = new edu.ntnu.idi.idatt.io.BoardJsonHandler()
+        .readFromResource("/boards/standard_board.json");
+    CompiledBoard compiled = CompiledBoard.compile(standard);
+    DiceDistribution dice = new DiceDistribution(2);
+
+    double expected = new BoardAnalyzer(compiled, dice).expectedTurns();
+    SimulationResult result = new GameSimulator(compiled, dice, 1).simulate(20_000, 42);
+
+    assertEquals(expected, result.getMeanTurns(), expected * 0.03);
+  }
+
+  @Test
+  @DisplayName("turnVariance() is zero when every roll ends the game")
+  void testVarianceOfDeterministicGame() throws BoardGameException {
+    Board tiny = new Board(1, 2);
+    tiny.setupGameBoard();
+
+    assertEquals(0.0, new BoardAnalyzer(CompiledBoard.compile(tiny), new DiceDistribution(1)).turnVariance(), 1e-12);
+  }
+
+  @Test
+  @DisplayName("turnVariance() agrees with the spread of simulated games on the standard board")
+  void testVarianceAgreesWithSimulation() throws BoardGameException {
+    Board standard = new edu.ntnu.idi.idatt.io.BoardJsonHandler()
+        .readFromResource("/boards/standard_board.json");
+    CompiledBoard compiled = CompiledBoard.compile(standard);
+    DiceDistribution dice = new DiceDistribution(2);
+
+    double stdDev = Math.sqrt(new BoardAnalyzer(compiled, dice).turnVariance());
+    SimulationResult result = new GameSimulator(compiled, dice, 1).simulate(20_000, 7);
+
+    assertEquals(stdDev, result.getStandardDeviation(), stdDev * 0.05);
+  }
+
+  @Test
+  @DisplayName("compile() rejects a board with missing tiles")
+  void testCompileRejectsMissingTiles() {
+    Board incomplete = new Board(2, 2);
+    incomplete.addTile(new edu.ntnu.idi.idatt.model.Tile(1, 1, 0));
+
+    assertThrows(BoardGameException.class, () -> CompiledBoard.compile(incomplete));
+  }
+}
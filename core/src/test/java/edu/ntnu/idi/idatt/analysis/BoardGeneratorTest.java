@@ -0,0 +1,59 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import edu.ntnu.idi.idatt.exception.BoardGameException;
+import edu.ntnu.idi.idatt.model.Board;
+import edu.ntnu.idi.idatt.validation.BoardDefect;
+import edu.ntnu.idi.idatt.validation.BoardValidator;
+
+class BoardGeneratorTest {
+
+  @Test
+  @DisplayName("generate() finds a valid board close to the target difficulty")
+  void testReachesTarget() throws BoardGameException {
+    BoardGenerator generator = new BoardGenerator(6, 6, 8.0, 0, 3, 3, 2, 2);
+
+    BoardGenerator.Result result = generator.generate(2_000, 2, 11);
+    Board board = result.getBoard();
+    BoardAnalyzer analyzer = new BoardAnalyzer(CompiledBoard.compile(board), new DiceDistribution(2));
+
+    assertEquals(8.0, result.getMean(), 0.2);
+    assertEquals(result.getMean(), analyzer.expectedTurns(), 1e-6);
+    assertEquals(Math.sqrt(analyzer.turnVariance()), result.getStdDev(), 1e-6);
+    assertFalse(BoardValidator.validate(board).hasErrors());
+    assertEquals(2 * 2_000, result.getEvaluations());
+  }
+
+  @Test
+  @DisplayName("generate() returns the same board for the same seed")
+  void testDeterministic() throws BoardGameException {
+    BoardGenerator generator = new BoardGenerator(5, 5, 9.0, 4.0, 2, 2, 1, 2);
+
+    BoardGenerator.Result first = generator.generate(500, 2, 99);
+    BoardGenerator.Result second = generator.generate(500, 2, 99);
+
+    assertEquals(first.getMean(), second.getMean());
+    assertEquals(first.getStdDev(), second.getStdDev());
+  }
+
+  @Test
+  @DisplayName("Links on a crowded board never lead to a tile with an action")
+  void testCrowdedBoardStaysValid() throws BoardGameException {
+    BoardGenerator generator = new BoardGenerator(3, 4, 6.0, 0, 2, 2, 2, 1);
+
+    for (long seed = 0; seed < 20; seed++) {
+      Board board = generator.generate(200, 1, seed).getBoard();
+
+      assertTrue(BoardValidator.validate(board).getDefects().stream()
+          .noneMatch(defect -> defect.getType() == BoardDefect.Type.CHAINED_ACTION), "seed " + seed);
+    }
+  }
+
+  @Test
+  @DisplayName("The constructor rejects more actions than the board has room for")
+  void testRejectsCrowdedBoard() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new BoardGenerator(2, 2, 3.0, 0, 2, 2, 2, 2));
+  }
+}
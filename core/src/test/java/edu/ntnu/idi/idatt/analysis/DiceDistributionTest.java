@@ -0,0 +1,51 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.SplittableRandom;
+
+class DiceDistributionTest {
+
+  @Test
+  @DisplayName("Probabilities of two dice match the known distribution")
+  void testTwoDice() {
+    DiceDistribution dice = new DiceDistribution(2);
+
+    assertEquals(2, dice.getMinTotal());
+    assertEquals(12, dice.getMaxTotal());
+    assertEquals(6.0 / 36.0, dice.probability(7), 1e-12);
+    assertEquals(1.0 / 36.0, dice.probability(12), 1e-12);
+    assertEquals(0.0, dice.probability(1));
+  }
+
+  @Test
+  @DisplayName("Probabilities sum to one")
+  void testProbabilitiesSumToOne() {
+    DiceDistribution dice = new DiceDistribution(5);
+    double sum = 0;
+    for (int total = dice.getMinTotal(); total <= dice.getMaxTotal(); total++) {
+      sum += dice.probability(total);
+    }
+    assertEquals(1.0, sum, 1e-12);
+  }
+
+  @Test
+  @DisplayName("sample() returns totals within range with the expected mean")
+  void testSample() {
+    DiceDistribution dice = new DiceDistribution(3);
+    SplittableRandom random = new SplittableRandom(7);
+    long sum = 0;
+    for (int i = 0; i < 100_000; i++) {
+      int total = dice.sample(random);
+      assertTrue(total >= 3 && total <= 18);
+      sum += total;
+    }
+    assertEquals(10.5, sum / 100_000.0, 0.05);
+  }
+
+  @Test
+  @DisplayName("Constructor rejects fewer than one die")
+  void testInvalidDiceCount() {
+    assertThrows(IllegalArgumentException.class, () -> new DiceDistribution(0));
+  }
+}
@@ -0,0 +1,80 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+class GameLengthHistogramTest {
+  private GameLengthHistogram histogram;
+
+  @BeforeEach
+  void setUp() {
+    histogram = new GameLengthHistogram();
+  }
+
+  @Test
+  @DisplayName("Short games are counted exactly")
+  void testExactBelowSubBuckets() {
+    for (int length = 1; length <= 100; length++) {
+      histogram.record(length);
+    }
+
+    assertEquals(100, histogram.getTotalCount());
+    assertEquals(50, histogram.quantile(0.5));
+    assertEquals(90, histogram.quantile(0.9));
+    assertEquals(1, histogram.quantile(0));
+    assertEquals(100, histogram.quantile(1));
+  }
+
+  @Test
+  @DisplayName("Long games are rounded up by less than the bucket precision")
+  void testRelativeError() {
+    int[] lengths = {128, 129, 1_000, 65_537, 1_000_000, Integer.MAX_VALUE};
+    for (int length : lengths) {
+      int highest = GameLengthHistogram.highestLength(GameLengthHistogram.bucket(length));
+      assertTrue(highest >= length, "Bucket of " + length + " ends at " + highest);
+      assertTrue(highest - length <= length / GameLengthHistogram.HALF_SUB_BUCKETS,
+          "Bucket of " + length + " ends at " + highest);
+    }
+    assertTrue(GameLengthHistogram.bucket(Integer.MAX_VALUE) < GameLengthHistogram.BUCKETS);
+  }
+
+  @Test
+  @DisplayName("Quantiles agree with sorting all lengths")
+  void testAgainstSorting() {
+    SplittableRandom random = new SplittableRandom(3);
+    int[] lengths = new int[100_000];
+    for (int i = 0; i < lengths.length; i++) {
+      // Long tail like real game lengths
+      lengths[i] = 5 + (int) (-40 * Math.log(1 - random.nextDouble()));
+      histogram.record(lengths[i]);
+    }
+    Arrays.sort(lengths);
+
+    for (double quantile : new double[] {0.5, 0.9, 0.99, 0.999}) {
+      int exact = lengths[(int) Math.ceil(quantile * lengths.length) - 1];
+      int reported = histogram.quantile(quantile);
+      assertTrue(reported >= exact && reported <= exact * 1.02,
+          "Quantile " + quantile + ": exact " + exact + ", reported " + reported);
+    }
+  }
+
+  @Test
+  @DisplayName("Merged histograms equal one histogram of all games")
+  void testMerge() {
+    GameLengthHistogram first = new GameLengthHistogram();
+    GameLengthHistogram second = new GameLengthHistogram();
+    for (int length = 1; length <= 5_000; length++) {
+      (length % 3 == 0 ? first : second).record(length);
+      histogram.record(length);
+    }
+
+    first.merge(second);
+
+    assertEquals(histogram.getTotalCount(), first.getTotalCount());
+    for (double quantile : new double[] {0.1, 0.5, 0.75, 0.99}) {
+      assertEquals(histogram.quantile(quantile), first.quantile(quantile));
+    }
+  }
+}
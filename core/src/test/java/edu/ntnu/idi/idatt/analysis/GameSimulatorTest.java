@@ -0,0 +1,154 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.exception.BoardGameException;
+import edu.ntnu.idi.idatt.model.Board;
+
+class GameSimulatorTest {
+  private CompiledBoard board;
+
+  @BeforeEach
+  void setUp() throws BoardGameException {
+    Board plain = new Board(3, 4);
+    plain.setupGameBoard();
+    plain.getTile(3).setTileAction(new LadderAction(10));
+    plain.getTile(11).setTileAction(new LadderAction(2));
+    board = CompiledBoard.compile(plain);
+  }
+
+  @Test
+  @DisplayName("The same seed gives the same result")
+  void testDeterministic() {
+    GameSimulator simulator = new GameSimulator(board, new DiceDistribution(1), 3);
+
+    SimulationResult first = simulator.simulate(1_000, 99);
+    SimulationResult second = simulator.simulate(1_000, 99);
+
+    assertEquals(first.getMeanTurns(), second.getMeanTurns());
+    assertArrayEquals(first.getWinsPerSeat(), second.getWinsPerSeat());
+  }
+
+  @Test
+  @DisplayName("Every simulated game has exactly one winner")
+  void testWinsAddUp() {
+    SimulationResult result = new GameSimulator(board, new DiceDistribution(2), 4).simulate(5_000, 1);
+
+    long wins = 0;
+    for (long seatWins : result.getWinsPerSeat()) {
+      wins += seatWins;
+    }
+    assertEquals(5_000, result.getGames() + result.getUnfinished());
+    assertEquals(result.getGames(), wins);
+  }
+
+  @Test
+  @DisplayName("Games over the turn limit are counted as unfinished")
+  void testTurnLimit() {
+    SimulationResult result = new GameSimulator(board, new DiceDistribution(1), 2, 1).simulate(100, 5);
+
+    assertEquals(0, result.getGames());
+    assertEquals(100, result.getUnfinished());
+  }
+
+  @Test
+  @DisplayName("Simulated landings per game match the analytic landing frequencies")
+  void testTileStatistics() throws BoardGameException {
+    DiceDistribution dice = new DiceDistribution(1);
+    SimulationResult result = new GameSimulator(board, dice, 1).simulate(200_000, 5);
+    TileStatistics tiles = result.getTileStatistics();
+    double[] expected = new IncrementalBoardAnalysis(board, dice).landingFrequencies();
+
+    for (int tileId = 2; tileId <= board.getFinalTileId(); tileId++) {
+      assertEquals(expected[tileId], (double) tiles.getLandings(tileId) / result.getGames(), 0.02,
+          "Landings on tile " + tileId);
+    }
+    assertEquals(tiles.getLandings(3), tiles.getActions(3));
+    assertEquals(0, tiles.getActions(4));
+  }
+
+  @Test
+  @DisplayName("Parallel simulations are repeatable and play every game")
+  void testParallel() throws BoardGameException {
+    GameSimulator simulator = new GameSimulator(board, new DiceDistribution(2), 3);
+
+    SimulationResult first = simulator.simulate(10_001, 7, 4);
+    SimulationResult second = simulator.simulate(10_001, 7, 4);
+
+    assertEquals(10_001, first.getGames() + first.getUnfinished());
+    assertEquals(first.getMeanTurns(), second.getMeanTurns());
+    assertEquals(first.getTileStatistics().getTotalLandings(),
+        second.getTileStatistics().getTotalLandings());
+  }
+
+  @Test
+  @DisplayName("The simulated median game length matches the exact distribution")
+  void testQuantiles() throws BoardGameException {
+    DiceDistribution dice = new DiceDistribution(1);
+    SimulationResult result = new GameSimulator(board, dice, 2).simulate(100_000, 11);
+    double[] lengths = TurnDistribution.compute(board, dice).gameLengthDistribution(2);
+
+    double below = 0;
+    int median = 0;
+    while (below + lengths[median] < 0.5) {
+      below += lengths[median++];
+    }
+    assertEquals(median, result.getQuantileTurns(0.5), 1);
+    assertTrue(result.getQuantileTurns(0.99) <= result.getMaxTurns());
+    assertTrue(result.getQuantileTurns(0.99) >= result.getQuantileTurns(0.9));
+  }
+
+  @Test
+  @DisplayName("A stopping rule plays batches until the intervals are narrow enough")
+  void testStoppingRule() throws BoardGameException {
+    GameSimulator simulator = new GameSimulator(board, new DiceDistribution(2), 2);
+    StoppingRule rule = new StoppingRule(0.05, 0.01, 0, 0.95, 1_000, 10_000_000);
+    int[] batches = {0};
+
+    SimulationResult result = simulator.simulate(rule, 3, 2, progress -> batches[0]++);
+
+    assertTrue(rule.isSatisfied(result));
+    assertTrue(rule.turnHalfWidth(result) <= 0.05);
+    assertTrue(rule.winRateHalfWidth(result) <= 0.01);
+    assertEquals(0, result.getGames() % 1_000);
+    assertEquals(result.getGames() / 1_000, batches[0]);
+    // One batch fewer would not have been enough
+    assertTrue(batches[0] > 1);
+    assertEquals(1.96, StoppingRule.zScore(0.95), 1e-3);
+  }
+
+  @Test
+  @DisplayName("A stopping rule stops at its maximum number of games and its time budget")
+  void testStoppingRuleLimits() throws BoardGameException {
+    GameSimulator simulator = new GameSimulator(board, new DiceDistribution(1), 2);
+    StoppingRule capped = new StoppingRule(0, 0, 0, 0.95, 2_000, 5_000);
+    int[] batches = {0};
+
+    SimulationResult result = simulator.simulate(capped, 3, 1, progress -> batches[0]++);
+    assertEquals(5_000, result.getGames() + result.getUnfinished());
+    assertEquals(3, batches[0]);
+    assertFalse(capped.isSatisfied(result));
+
+    StoppingRule timed = new StoppingRule(0, 0, 200, 0.95, 1_000, Long.MAX_VALUE);
+    long start = System.nanoTime();
+    result = simulator.simulate(timed, 3, 1, progress -> { });
+    assertTrue(result.getGames() >= 1_000);
+    assertTrue(System.nanoTime() - start < 5_000_000_000L);
+  }
+
+  @Test
+  @DisplayName("A stopping rule gives up after a batch in which no game finished")
+  void testStoppingRuleWithoutFinishedGames() throws BoardGameException {
+    GameSimulator simulator = new GameSimulator(board, new DiceDistribution(1), 2, 1);
+    StoppingRule rule = new StoppingRule(0.05, 0.01, 0, 0.95, 1_000, 10_000_000);
+    int[] batches = {0};
+
+    SimulationResult result = simulator.simulate(rule, 3, 1, progress -> batches[0]++);
+
+    assertEquals(1, batches[0]);
+    assertEquals(0, result.getGames());
+    assertEquals(1_000, result.getUnfinished());
+    assertFalse(rule.isSatisfied(result));
+  }
+}
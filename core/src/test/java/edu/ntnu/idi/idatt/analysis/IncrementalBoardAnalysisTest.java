@@ -0,0 +1,114 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.exception.BoardGameException;
+import edu.ntnu.idi.idatt.io.BoardJsonHandler;
+import edu.ntnu.idi.idatt.model.Board;
+import edu.ntnu.idi.idatt.model.Tile;
+import java.util.SplittableRandom;
+
+class IncrementalBoardAnalysisTest {
+  private final DiceDistribution dice = new DiceDistribution(2);
+  private Board board;
+
+  @BeforeEach
+  void setUp() throws BoardGameException {
+    board = new BoardJsonHandler().readFromResource("/boards/standard_board.json");
+  }
+
+  private void assertMatchesFullSolve(IncrementalBoardAnalysis analysis) throws BoardGameException {
+    BoardAnalyzer analyzer = new BoardAnalyzer(CompiledBoard.compile(board), dice);
+    double[] expected = analyzer.expectedTurnsPerTile();
+    double[] incremental = analysis.expectedTurnsPerTile();
+    for (int tileId = 1; tileId <= board.getFinalTileId(); tileId++) {
+      assertEquals(expected[tileId], incremental[tileId], 1e-6);
+    }
+    assertEquals(analyzer.turnVariance(), analysis.turnVariance(), 1e-4);
+  }
+
+  @Test
+  @DisplayName("The direct solve agrees with the iterative BoardAnalyzer")
+  void testMatchesAnalyzer() throws BoardGameException {
+    assertMatchesFullSolve(new IncrementalBoardAnalysis(board, dice));
+  }
+
+  @Test
+  @DisplayName("Edits to ladders, chutes and skip tiles give the same result as a full solve")
+  void testEditsMatchFullSolve() throws BoardGameException {
+    IncrementalBoardAnalysis analysis = new IncrementalBoardAnalysis(board, dice);
+    SplittableRandom random = new SplittableRandom(5);
+
+    // More edits than MAX_UPDATES, so the matrix is also factored again on the way
+    for (int edit = 0; edit < 2 * IncrementalBoardAnalysis.MAX_UPDATES + 5; edit++) {
+      Tile tile = board.getTile(random.nextInt(2, board.getFinalTileId()));
+      switch (random.nextInt(3)) {
+        case 0:
+          tile.setTileAction(new LadderAction(random.nextInt(2, board.getFinalTileId() + 1)));
+          break;
+        case 1:
+          tile.setTileAction(new SkipTurnAction());
+          break;
+        default:
+          tile.setTileAction(null);
+      }
+      try {
+        analysis.tileChanged(tile);
+      } catch (BoardGameException e) {
+        tile.setTileAction(null);
+        analysis.tileChanged(tile);
+      }
+      if (edit % 8 == 0) {
+        assertMatchesFullSolve(analysis);
+      }
+    }
+    assertMatchesFullSolve(analysis);
+  }
+
+  @Test
+  @DisplayName("landingFrequencies() agrees with simulated landings")
+  void testLandingFrequencies() throws BoardGameException {
+    Board small = new Board(1, 10);
+    small.setupGameBoard();
+    small.getTile(8).setTileAction(new LadderAction(3));
+    double[] landings = new IncrementalBoardAnalysis(small, new DiceDistribution(1)).landingFrequencies();
+
+    // Simulate the chute by hand: count every tile landed on before its action
+    SplittableRandom random = new SplittableRandom(1);
+    DiceDistribution die = new DiceDistribution(1);
+    CompiledBoard compiled = CompiledBoard.compile(small);
+    double[] counted = new double[11];
+    int games = 200_000;
+    for (int game = 0; game < games; game++) {
+      int position = 1;
+      while (!compiled.isFinished(position)) {
+        int target = compiled.target(position, die.sample(random));
+        counted[target]++;
+        position = compiled.landing(target);
+      }
+    }
+    for (int tileId = 2; tileId <= 10; tileId++) {
+      assertEquals(counted[tileId] / games, landings[tileId], 0.01);
+    }
+  }
+
+  @Test
+  @DisplayName("An edit that traps the players is rejected and undone")
+  void testRejectsTrap() throws BoardGameException {
+    Board small = new Board(1, 4);
+    small.setupGameBoard();
+    IncrementalBoardAnalysis analysis = new IncrementalBoardAnalysis(small, new DiceDistribution(1));
+    double before = analysis.expectedTurns();
+
+    // With one die every roll from tile 1 lands on 2, 3 or the final tile 4
+    analysis.setLanding(2, 1);
+    analysis.setLanding(3, 1);
+    assertThrows(BoardGameException.class, () -> analysis.setLanding(4, 1));
+
+    analysis.setLanding(2, 2);
+    analysis.setLanding(3, 3);
+    assertEquals(before, analysis.expectedTurns(), 1e-9);
+  }
+}
@@ -0,0 +1,71 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.exception.BoardGameException;
+import edu.ntnu.idi.idatt.model.Board;
+import java.util.List;
+
+class SensitivityAnalyzerTest {
+  private Board board;
+
+  @BeforeEach
+  void setUp() {
+    board = new Board(4, 5);
+    board.setupGameBoard();
+    board.getTile(3).setTileAction(new LadderAction(15));
+    board.getTile(18).setTileAction(new LadderAction(6));
+  }
+
+  @Test
+  @DisplayName("Removing a ladder lengthens the game and removing a chute shortens it")
+  void testRemovalDirection() throws BoardGameException {
+    List<SensitivityAnalyzer.Entry> entries =
+        new SensitivityAnalyzer(CompiledBoard.compile(board), new DiceDistribution(1)).analyze(2);
+
+    for (SensitivityAnalyzer.Entry entry : entries) {
+      if (entry.getChange() == SensitivityAnalyzer.Change.REMOVED) {
+        assertEquals(entry.isLadder(), entry.getMeanDelta() > 0);
+      }
+    }
+    assertEquals(6, entries.size());
+  }
+
+  @Test
+  @DisplayName("Every change matches solving the changed board from scratch")
+  void testMatchesFullSolve() throws BoardGameException {
+    DiceDistribution dice = new DiceDistribution(1);
+    double mean = new BoardAnalyzer(CompiledBoard.compile(board), dice).expectedTurns();
+    double variance = new BoardAnalyzer(CompiledBoard.compile(board), dice).turnVariance();
+    List<SensitivityAnalyzer.Entry> entries =
+        new SensitivityAnalyzer(CompiledBoard.compile(board), dice).analyze(3);
+
+    for (SensitivityAnalyzer.Entry entry : entries) {
+      Board changed = new Board(4, 5);
+      changed.setupGameBoard();
+      changed.getTile(3).setTileAction(new LadderAction(15));
+      changed.getTile(18).setTileAction(new LadderAction(6));
+      if (entry.getChange() == SensitivityAnalyzer.Change.REMOVED) {
+        changed.getTile(entry.getTileId()).setTileAction(null);
+      } else {
+        changed.getTile(entry.getTileId()).setTileAction(new LadderAction(entry.getChangedDestination()));
+      }
+      BoardAnalyzer analyzer = new BoardAnalyzer(CompiledBoard.compile(changed), dice);
+
+      assertEquals(analyzer.expectedTurns() - mean, entry.getMeanDelta(), 1e-6);
+      assertEquals(analyzer.turnVariance() - variance, entry.getVarianceDelta(), 1e-5);
+    }
+  }
+
+  @Test
+  @DisplayName("analyze() ranks the largest change in expected turns first")
+  void testRanking() throws BoardGameException {
+    List<SensitivityAnalyzer.Entry> entries =
+        new SensitivityAnalyzer(CompiledBoard.compile(board), new DiceDistribution(1)).analyze(1);
+
+    for (int i = 1; i < entries.size(); i++) {
+      assertTrue(Math.abs(entries.get(i - 1).getMeanDelta()) >= Math.abs(entries.get(i).getMeanDelta()));
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TileStatisticsTest {
+  private TileStatistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = new TileStatistics(10);
+  }
+
+  @Test
+  @DisplayName("Counters are kept per tile and IDs outside the board are ignored")
+  void testRecord() {
+    statistics.recordLanding(4);
+    statistics.recordLanding(4);
+    statistics.recordAction(4);
+    statistics.recordSkip(7);
+    statistics.recordLanding(0);
+    statistics.recordLanding(11);
+
+    assertEquals(2, statistics.getLandings(4));
+    assertEquals(1, statistics.getActions(4));
+    assertEquals(1, statistics.getSkips(7));
+    assertEquals(0, statistics.getLandings(11));
+    assertEquals(2, statistics.getTotalLandings());
+    assertEquals(2, statistics.getMaxLandings());
+  }
+
+  @Test
+  @DisplayName("merge() adds the counts of another collector")
+  void testMerge() {
+    TileStatistics other = new TileStatistics(10);
+    statistics.recordLanding(2);
+    other.recordLanding(2);
+    other.recordLanding(9);
+    other.recordSkip(9);
+
+    statistics.merge(other);
+
+    assertEquals(2, statistics.getLandings(2));
+    assertEquals(1, statistics.getLandings(9));
+    assertEquals(1, statistics.getSkips(9));
+    assertThrows(IllegalArgumentException.class, () -> statistics.merge(new TileStatistics(12)));
+  }
+
+  @Test
+  @DisplayName("mostLandedTiles() lists the tiles with landings, most landed on first")
+  void testMostLandedTiles() {
+    for (int i = 0; i < 3; i++) {
+      statistics.recordLanding(5);
+    }
+    statistics.recordLanding(8);
+    statistics.recordLanding(8);
+    statistics.recordLanding(1);
+
+    assertArrayEquals(new int[] {5, 8}, statistics.mostLandedTiles(2));
+    assertArrayEquals(new int[] {5, 8, 1}, statistics.mostLandedTiles(10));
+
+    statistics.clear();
+    assertEquals(0, statistics.mostLandedTiles(10).length);
+  }
+}
@@ -0,0 +1,79 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.exception.BoardGameException;
+import edu.ntnu.idi.idatt.io.BoardJsonHandler;
+import edu.ntnu.idi.idatt.model.Board;
+
+class TurnDistributionTest {
+  private final DiceDistribution dice = new DiceDistribution(2);
+  private CompiledBoard standard;
+
+  @BeforeEach
+  void setUp() throws BoardGameException {
+    standard = CompiledBoard.compile(
+        new BoardJsonHandler().readFromResource("/boards/standard_board.json"));
+  }
+
+  @Test
+  @DisplayName("The mean of the distribution equals the expected turns of the BoardAnalyzer")
+  void testMeanMatchesAnalyzer() throws BoardGameException {
+    TurnDistribution distribution = TurnDistribution.compute(standard, dice);
+
+    assertEquals(new BoardAnalyzer(standard, dice).expectedTurns(), distribution.mean(), 1e-6);
+    assertTrue(distribution.survival(distribution.getMaxTurns()) <= TurnDistribution.DEFAULT_TAIL);
+  }
+
+  @Test
+  @DisplayName("A skip tile delays finishing by exactly one turn")
+  void testSkipCountsAsTurn() throws BoardGameException {
+    // With one die from tile 1 on a board of 3 tiles: a 1 lands on the skip tile 2
+    Board board = new Board(1, 3);
+    board.setupGameBoard();
+    board.getTile(2).setTileAction(new SkipTurnAction());
+    TurnDistribution distribution =
+        TurnDistribution.compute(CompiledBoard.compile(board), new DiceDistribution(1));
+
+    assertEquals(5.0 / 6.0, distribution.probability(1), 1e-12);
+    assertEquals(0.0, distribution.probability(2), 1e-12);
+    assertEquals(1.0 / 6.0, distribution.probability(3), 1e-12);
+  }
+
+  @Test
+  @DisplayName("Win probabilities favor the first seat, sum to 1 and agree with simulation")
+  void testWinProbabilities() throws BoardGameException {
+    TurnDistribution distribution = TurnDistribution.compute(standard, dice);
+    double[] wins = distribution.winProbabilities(3);
+    SimulationResult simulated = new GameSimulator(standard, dice, 3).simulate(50_000, 3);
+
+    assertEquals(1.0, wins[0] + wins[1] + wins[2], 1e-9);
+    assertTrue(wins[0] > wins[1] && wins[1] > wins[2]);
+    for (int seat = 0; seat < 3; seat++) {
+      assertEquals(simulated.getWinRate(seat), wins[seat], 0.01);
+    }
+  }
+
+  @Test
+  @DisplayName("The game length distribution agrees with the mean length of simulated games")
+  void testGameLength() throws BoardGameException {
+    double[] lengths = TurnDistribution.compute(standard, dice).gameLengthDistribution(4);
+    double mean = 0;
+    for (int turns = 0; turns < lengths.length; turns++) {
+      mean += turns * lengths[turns];
+    }
+    SimulationResult simulated = new GameSimulator(standard, dice, 4).simulate(50_000, 9);
+
+    assertEquals(simulated.getMeanTurns(), mean, mean * 0.02);
+  }
+
+  @Test
+  @DisplayName("compute() gives up when the final tile cannot be reached")
+  void testUnreachable() {
+    CompiledBoard trapped = new CompiledBoard(4, new int[] {0, 1, 1, 1, 1}, new boolean[5]);
+
+    assertThrows(BoardGameException.class,
+        () -> TurnDistribution.compute(trapped, new DiceDistribution(1), 1e-12, 1000));
+  }
+}
@@ -0,0 +1,103 @@
+package edu.ntnu.idi.idatt.analysis;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import edu.ntnu.idi.idatt.exception.BoardGameException;
+import edu.ntnu.idi.idatt.io.BoardJsonHandler;
+import edu.ntnu.idi.idatt.model.Board;
+
+class WinProbabilityTableTest {
+  private final DiceDistribution dice = new DiceDistribution(2);
+  private CompiledBoard standard;
+  private WinProbabilityTable table;
+
+  @BeforeEach
+  void setUp() throws BoardGameException {
+    standard = CompiledBoard.compile(
+        new BoardJsonHandler().readFromResource("/boards/standard_board.json"));
+    table = WinProbabilityTable.compute(standard, dice);
+  }
+
+  @Test
+  @DisplayName("Expected remaining turns match the BoardAnalyzer, plus one for a pending skip")
+  void testExpectedRemainingTurns() throws BoardGameException {
+    double[] expected = new BoardAnalyzer(standard, dice).expectedTurnsPerTile();
+
+    assertEquals(expected[1], table.expectedRemainingTurns(1, false), 1e-6);
+    assertEquals(expected[50], table.expectedRemainingTurns(50, false), 1e-6);
+    assertEquals(1 + expected[50], table.expectedRemainingTurns(50, true), 1e-6);
+    assertEquals(0.0, table.expectedRemainingTurns(100, false));
+  }
+
+  @Test
+  @DisplayName("Win probabilities at the start of a game match the exact turn distribution")
+  void testStartMatchesTurnDistribution() throws BoardGameException {
+    double[] exact = TurnDistribution.compute(standard, dice).winProbabilities(4);
+    double[] looked = table.winProbabilities(new int[] {1, 1, 1, 1}, new boolean[4], 0);
+
+    assertArrayEquals(exact, looked, 1e-5);
+  }
+
+  @Test
+  @DisplayName("The seat about to move is treated as the first seat")
+  void testCurrentSeatRotates() {
+    double[] fromSeatTwo = table.winProbabilities(new int[] {1, 1, 1}, new boolean[3], 2);
+
+    assertTrue(fromSeatTwo[2] > fromSeatTwo[0] && fromSeatTwo[0] > fromSeatTwo[1]);
+    assertEquals(1.0, fromSeatTwo[0] + fromSeatTwo[1] + fromSeatTwo[2], 1e-9);
+  }
+
+  @Test
+  @DisplayName("A pending skip lowers the chance of winning, and a finished player has won")
+  void testSkipAndFinished() {
+    double[] plain = table.winProbabilities(new int[] {60, 60}, new boolean[] {false, false}, 0);
+    double[] skipping = table.winProbabilities(new int[] {60, 60}, new boolean[] {true, false}, 0);
+
+    assertTrue(skipping[0] < plain[0]);
+    assertArrayEquals(new double[] {0, 1},
+        table.winProbabilities(new int[] {40, 100}, new boolean[2], 0), 0);
+  }
+
+  @Test
+  @DisplayName("A board with 10 000 tiles is followed to the end of every game")
+  void testLargeBoard() throws BoardGameException {
+    Board board = new Board(100, 100);
+    board.setupGameBoard();
+    CompiledBoard large = CompiledBoard.compile(board);
+    WinProbabilityTable largeTable = WinProbabilityTable.compute(large, dice);
+
+    assertTrue(largeTable.isComplete());
+    assertTrue(largeTable.getHorizon() > 1428);
+    assertEquals(new BoardAnalyzer(large, dice).expectedTurnsPerTile()[1],
+        largeTable.expectedRemainingTurns(1, false), 1e-6);
+    assertArrayEquals(TurnDistribution.compute(large, dice).winProbabilities(2),
+        largeTable.winProbabilities(new int[] {1, 1}, new boolean[2], 0), 1e-5);
+  }
+
+  @Test
+  @DisplayName("A table cut off at its size limit gives NaN instead of win probabilities")
+  void testIncompleteTable() throws BoardGameException {
+    WinProbabilityTable cut = WinProbabilityTable.compute(standard, dice,
+        WinProbabilityTable.DEFAULT_TAIL, 1000);
+    double[] wins = cut.winProbabilities(new int[] {1, 1}, new boolean[2], 0);
+
+    assertFalse(cut.isComplete());
+    assertTrue(table.isComplete());
+    assertTrue(Double.isNaN(wins[0]) && Double.isNaN(wins[1]));
+    assertEquals(table.expectedRemainingTurns(1, false), cut.expectedRemainingTurns(1, false));
+    assertArrayEquals(new double[] {0, 1},
+        cut.winProbabilities(new int[] {40, 100}, new boolean[2], 0), 0);
+  }
+
+  @Test
+  @DisplayName("The cache returns the same table for a board with the same content")
+  void testCacheReusesTable() throws Exception {
+    Board first = new BoardJsonHandler().readFromResource("/boards/standard_board.json");
+    Board second = new BoardJsonHandler().readFromResource("/boards/standard_board.json");
+
+    WinProbabilityTable cached = WinProbabilityCache.getInstance().request(first, 2).get();
+
+    assertSame(cached, WinProbabilityCache.getInstance().request(second, 2).get());
+    assertNotSame(cached, WinProbabilityCache.getInstance().request(second, 1).get());
+  }
+}
@@ -0,0 +1,75 @@
+package edu.ntnu.idi.idatt.io;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.exception.BoardGameException;
+import edu.ntnu.idi.idatt.model.Board;
+import edu.ntnu.idi.idatt.model.Tile;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+class BoardCompactHandlerTest {
+  private BoardCompactHandler handler;
+  private File file;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    handler = new BoardCompactHandler();
+    file = File.createTempFile("board", BoardCompactHandler.EXTENSION);
+  }
+
+  @AfterEach
+  void tearDown() {
+    file.delete();
+  }
+
+  @Test
+  @DisplayName("A board written and read back keeps its actions and tile positions")
+  void testRoundTrip() throws BoardGameException {
+    Board board = new Board(4, 5);
+    board.setupGameBoard();
+    board.getTile(3).setTileAction(new LadderAction(12));
+    board.getTile(18).setTileAction(new LadderAction(6));
+    board.getTile(9).setTileAction(new SkipTurnAction());
+    // Swap the positions of tiles 7 and 8
+    Tile seven = board.getTile(7);
+    Tile eight = board.getTile(8);
+    board.addTile(new Tile(7, eight.getRow(), eight.getCol()));
+    board.addTile(new Tile(8, seven.getRow(), seven.getCol()));
+
+    handler.writeToFile(board, file.getPath());
+    Board read = handler.readFromFile(file.getPath());
+
+    assertEquals(4, read.getNumRows());
+    assertEquals(5, read.getNumCols());
+    assertEquals(20, read.getAllTiles().size());
+    assertEquals(12, ((LadderAction) read.getTile(3).getTileAction()).getDestinationTileId());
+    assertEquals(6, ((LadderAction) read.getTile(18).getTileAction()).getDestinationTileId());
+    assertInstanceOf(SkipTurnAction.class, read.getTile(9).getTileAction());
+    assertNull(read.getTile(4).getTileAction());
+    assertEquals(eight.getRow(), read.getTile(7).getRow());
+    assertEquals(eight.getCol(), read.getTile(7).getCol());
+    assertEquals(seven.getCol(), read.getTile(8).getCol());
+    assertEquals(board.getTile(14).getRow(), read.getTile(14).getRow());
+    assertEquals(board.getTile(14).getCol(), read.getTile(14).getCol());
+  }
+
+  @Test
+  @DisplayName("readFromFile() rejects a file without the header")
+  void testMissingHeader() throws IOException {
+    Files.writeString(file.toPath(), "L 3 12\n");
+
+    assertThrows(BoardGameException.class, () -> handler.readFromFile(file.getPath()));
+  }
+
+  @Test
+  @DisplayName("readFromFile() rejects unknown entries")
+  void testUnknownEntry() throws IOException {
+    Files.writeString(file.toPath(), "CNL1 2 2\nX 1\n");
+
+    assertThrows(BoardGameException.class, () -> handler.readFromFile(file.getPath()));
+  }
+}
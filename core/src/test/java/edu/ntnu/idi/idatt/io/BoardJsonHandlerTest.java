@@ -0,0 +1,21 @@
+package edu.ntnu.idi.idatt.io;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import edu.ntnu.idi.idatt.exception.BoardGameException;
+import edu.ntnu.idi.idatt.model.Board;
+
+class BoardJsonHandlerTest {
+  private final BoardJsonHandler handler = new BoardJsonHandler();
+
+  @Test
+  @DisplayName("A bundled board is found with and without a leading slash")
+  void testReadFromResource() throws BoardGameException {
+    Board absolute = handler.readFromResource("/boards/standard_board.json");
+    Board relative = handler.readFromResource("boards/standard_board.json");
+
+    assertEquals(absolute.getFingerprint(), relative.getFingerprint());
+    assertThrows(BoardGameException.class,
+        () -> handler.readFromResource("boards/no_such_board.json"));
+  }
+}
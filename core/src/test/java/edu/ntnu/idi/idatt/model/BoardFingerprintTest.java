@@ -0,0 +1,93 @@
+package edu.ntnu.idi.idatt.model;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.io.BoardJsonHandler;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+class BoardFingerprintTest {
+  private static final String STANDARD_BOARD = "src/main/resources/boards/standard_board.json";
+
+  private Board board;
+
+  @BeforeEach
+  void setUp() {
+    board = new Board(5, 5);
+    board.setupGameBoard();
+    board.getTile(3).setTileAction(new LadderAction(12));
+    board.getTile(17).setTileAction(new LadderAction(6));
+    board.getTile(9).setTileAction(new SkipTurnAction());
+  }
+
+  @Test
+  @DisplayName("The same board read twice has the same fingerprint")
+  void testSameFileSameFingerprint() throws Exception {
+    BoardJsonHandler handler = new BoardJsonHandler();
+    Board first = handler.readFromFile(STANDARD_BOARD);
+    Board second = handler.readFromFile(STANDARD_BOARD);
+
+    assertNotSame(first, second);
+    assertEquals(first.getFingerprint(), second.getFingerprint());
+    assertEquals(first.getFingerprint().hashCode(), second.getFingerprint().hashCode());
+  }
+
+  @Test
+  @DisplayName("The fingerprint does not depend on the order tiles are added in")
+  void testTileOrder() {
+    List<Tile> tiles = new ArrayList<>(board.getAllTiles().values());
+    Collections.reverse(tiles);
+    Board reversed = new Board(5, 5);
+    for (Tile tile : tiles) {
+      Tile copy = new Tile(tile.getTileId(), tile.getRow(), tile.getCol());
+      copy.setTileAction(tile.getTileAction());
+      reversed.addTile(copy);
+    }
+
+    assertEquals(board.getFingerprint(), reversed.getFingerprint());
+  }
+
+  @Test
+  @DisplayName("Changing an action changes the fingerprint")
+  void testActionChange() {
+    BoardFingerprint before = board.getFingerprint();
+
+    board.getTile(17).setTileAction(new LadderAction(7));
+    BoardFingerprint moved = board.getFingerprint();
+    assertNotEquals(before, moved);
+
+    board.getTile(17).setTileAction(new LadderAction(6));
+    assertEquals(before, board.getFingerprint());
+
+    board.getTile(9).setTileAction(null);
+    assertNotEquals(before, board.getFingerprint());
+  }
+
+  @Test
+  @DisplayName("Boards with different dimensions have different fingerprints")
+  void testDimensions() {
+    Board wide = new Board(5, 6);
+    wide.setupGameBoard();
+    Board tall = new Board(6, 5);
+    tall.setupGameBoard();
+
+    assertNotEquals(wide.getFingerprint(), tall.getFingerprint());
+    assertNotEquals(board.getFingerprint(), wide.getFingerprint());
+  }
+
+  @Test
+  @DisplayName("parse() reads what toString() writes")
+  void testParseRoundTrip() {
+    BoardFingerprint fingerprint = board.getFingerprint();
+    String text = fingerprint.toString();
+
+    assertEquals(32, text.length());
+    assertEquals(fingerprint, BoardFingerprint.parse(text));
+    assertThrows(IllegalArgumentException.class, () -> BoardFingerprint.parse("abc"));
+    assertThrows(IllegalArgumentException.class,
+        () -> BoardFingerprint.parse("zz" + text.substring(2)));
+  }
+}
@@ -0,0 +1,149 @@
+package edu.ntnu.idi.idatt.validation;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.model.Board;
+import edu.ntnu.idi.idatt.model.Tile;
+import java.util.List;
+
+class BoardValidatorTest {
+  private Board board;
+
+  @BeforeEach
+  void setUp() {
+    board = new Board(5, 5);
+    board.setupGameBoard();
+  }
+
+  private List<BoardDefect> defectsOfType(ValidationReport report, BoardDefect.Type type) {
+    return report.getDefects().stream().filter(defect -> defect.getType() == type).toList();
+  }
+
+  @Test
+  @DisplayName("A plain board has no defects")
+  void testValidBoard() {
+    board.getTile(3).setTileAction(new LadderAction(12));
+    board.getTile(20).setTileAction(new LadderAction(4));
+    board.getTile(8).setTileAction(new SkipTurnAction());
+
+    ValidationReport report = BoardValidator.validate(board);
+
+    assertFalse(report.hasErrors());
+    assertEquals(0, report.getDefects().size());
+  }
+
+  @Test
+  @DisplayName("Ladders to missing tiles and to their own tile are errors")
+  void testBrokenLinks() {
+    board.getTile(3).setTileAction(new LadderAction(40));
+    board.getTile(6).setTileAction(new LadderAction(6));
+
+    ValidationReport report = BoardValidator.validate(board);
+
+    assertEquals(3, defectsOfType(report, BoardDefect.Type.BROKEN_LINK).get(0).getTileId());
+    assertEquals(6, defectsOfType(report, BoardDefect.Type.SELF_LINK).get(0).getTileId());
+    assertEquals(2, report.getErrorCount());
+  }
+
+  @Test
+  @DisplayName("Chained ladders and loops are reported as warnings")
+  void testChainsAndCycles() {
+    board.getTile(4).setTileAction(new LadderAction(14));
+    board.getTile(14).setTileAction(new LadderAction(9));
+    board.getTile(9).setTileAction(new LadderAction(14));
+
+    ValidationReport report = BoardValidator.validate(board);
+
+    assertEquals(3, defectsOfType(report, BoardDefect.Type.CHAINED_ACTION).size());
+    List<BoardDefect> cycles = defectsOfType(report, BoardDefect.Type.CYCLE);
+    assertEquals(1, cycles.size());
+    assertEquals(9, cycles.get(0).getTileId());
+    assertFalse(report.hasErrors());
+  }
+
+  @Test
+  @DisplayName("Missing tiles, duplicates and positions outside the grid are errors")
+  void testStreamedTiles() {
+    BoardValidator validator = new BoardValidator(2, 2);
+    validator.acceptTile(1, 1, 0);
+    validator.acceptTile(2, 1, 1);
+    validator.acceptTile(2, 0, 1);
+    validator.acceptTile(3, 5, 0);
+    validator.acceptTile(9, 0, 0);
+
+    ValidationReport report = validator.finish();
+
+    assertEquals(1, defectsOfType(report, BoardDefect.Type.DUPLICATE_TILE).size());
+    assertEquals(3, defectsOfType(report, BoardDefect.Type.INVALID_POSITION).get(0).getTileId());
+    assertEquals(9, defectsOfType(report, BoardDefect.Type.INVALID_TILE_ID).get(0).getTileId());
+    assertEquals(4, defectsOfType(report, BoardDefect.Type.MISSING_TILE).get(0).getTileId());
+  }
+
+  @Test
+  @DisplayName("Tiles that trap the player are dead ends")
+  void testDeadEnd() {
+    // Every roll from tile 19 and beyond lands on a chute back to tile 19
+    for (int tileId = 20; tileId <= 25; tileId++) {
+      board.getTile(tileId).setTileAction(new LadderAction(19));
+    }
+
+    ValidationReport report = BoardValidator.validate(board);
+
+    assertTrue(report.hasErrors());
+    assertTrue(defectsOfType(report, BoardDefect.Type.DEAD_END).stream()
+        .anyMatch(defect -> defect.getTileId() == 1));
+    assertEquals(1, defectsOfType(report, BoardDefect.Type.ACTION_ON_FINAL_TILE).size());
+  }
+
+  @Test
+  @DisplayName("Tiles no roll can land on are reported as unreachable")
+  void testUnreachable() {
+    BoardValidator validator = new BoardValidator(1, 10, 6, 6);
+    for (int tileId = 1; tileId <= 10; tileId++) {
+      validator.acceptTile(tileId, 0, tileId - 1);
+    }
+
+    ValidationReport report = validator.finish();
+
+    List<BoardDefect> unreachable = defectsOfType(report, BoardDefect.Type.UNREACHABLE_TILE);
+    assertEquals(7, unreachable.size());
+    assertFalse(report.hasErrors());
+  }
+
+  @Test
+  @DisplayName("Reachability is checked for the rolls of the given dice")
+  void testDice() {
+    ValidationReport single = BoardValidator.validate(board);
+    ValidationReport pair = BoardValidator.validate(board, 2);
+
+    assertEquals(1, single.getMinRoll());
+    assertEquals(6, single.getMaxRoll());
+    assertEquals(0, defectsOfType(single, BoardDefect.Type.UNREACHABLE_TILE).size());
+    assertEquals(2, pair.getMinRoll());
+    assertEquals(12, pair.getMaxRoll());
+    // Two dice roll at least 2, so nothing lands on tile 2
+    List<BoardDefect> unreachable = defectsOfType(pair, BoardDefect.Type.UNREACHABLE_TILE);
+    assertEquals(List.of(2), unreachable.stream().map(BoardDefect::getTileId).toList());
+  }
+
+  @Test
+  @DisplayName("Validation of a million tiles stays fast")
+  void testLargeBoard() {
+    BoardValidator validator = new BoardValidator(1000, 1000);
+    for (int tileId = 1; tileId <= 1_000_000; tileId++) {
+      validator.acceptTile(tileId, (tileId - 1) / 1000, (tileId - 1) % 1000);
+      if (tileId % 97 == 0 && tileId + 50 <= 1_000_000) {
+        validator.acceptLadder(tileId, tileId + 50);
+      }
+    }
+
+    long start = System.nanoTime();
+    ValidationReport report = validator.finish();
+    long millis = (System.nanoTime() - start) / 1_000_000;
+
+    assertFalse(report.hasErrors());
+    assertTrue(millis < 2_000, "Validation took " + millis + " ms");
+  }
+}
@@ -1,22 +0,0 @@
-package edu.ntnu.idi.idatt;
-
-/**
- * Launcher class that serves as the application entry point.
- * This class delegates to the main application.
- */
-public class Launcher {
-
-  /**
-   * Default constructor for Launcher.
-   */
-  public Launcher() {
-
-  }
-  /**
-   * Main method that launches the Main application.
-   *
-   * @param args command line arguments
-   */
-  public static void main(String[] args) {Main.main(args);
-  }
-}
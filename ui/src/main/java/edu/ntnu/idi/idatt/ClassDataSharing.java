@@ -0,0 +1,230 @@
+package edu.ntnu.idi.idatt;
+
+import edu.ntnu.idi.idatt.exception.BoardGameException;
+import edu.ntnu.idi.idatt.factory.BoardGameFactory;
+import edu.ntnu.idi.idatt.io.BoardJsonHandler;
+import edu.ntnu.idi.idatt.io.PlayerCsvHandler;
+import edu.ntnu.idi.idatt.model.Board;
+import edu.ntnu.idi.idatt.model.BoardGame;
+import edu.ntnu.idi.idatt.model.Player;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The ClassDataSharing class supports starting the application from an AppCDS archive, which
+ * holds the classes loaded during startup already parsed and verified so the JVM can map them
+ * instead of loading them from the jar.
+ *
+ * <p>The archive is created by a training run: the shaded jar is started with
+ * {@value #TRAINING_ARGUMENT} and {@code -XX:ArchiveClassesAtExit}, which plays a short
+ * scripted game on every bundled board without opening a window, loads the classes of the
+ * screens and exits. The {@code cds} Maven profile runs this after packaging and reports
+ * the run time with and without the archive.
+ *
+ * <p>An archive can only be used by passing {@code -XX:SharedArchiveFile} to the JVM.
+ * Starting the application with {@value #USE_ARCHIVE_ARGUMENT} makes the launcher start a
+ * new JVM with that option when the archive exists next to the jar.
+ */
+public final class ClassDataSharing {
+  public static final String TRAINING_ARGUMENT = "--cds-training";
+  public static final String USE_ARCHIVE_ARGUMENT = "--use-cds";
+  public static final String ARCHIVE_PROPERTY = "chutes.cdsArchive";
+  public static final String ARCHIVE_NAME = "ChutesNLadders.jsa";
+
+  private static final String CHILD_PROPERTY = "chutes.cdsChild";
+  private static final int TRAINING_TURNS = 500;
+  private static final String[] TRAINING_TOKENS = {"TopHat", "RaceCar", "Shoe"};
+
+  // Classes of the user interface loaded, but not initialized, during training so they end up
+  // in the archive without starting the JavaFX toolkit
+  private static final String[] UI_CLASSES = {
+      "edu.ntnu.idi.idatt.Main",
+      "edu.ntnu.idi.idatt.navigation.NavigationManager",
+      "edu.ntnu.idi.idatt.view.ImageCache",
+      "edu.ntnu.idi.idatt.view.MainMenuView",
+      "edu.ntnu.idi.idatt.view.BoardSelectionView",
+      "edu.ntnu.idi.idatt.view.CharacterSelectionView",
+      "edu.ntnu.idi.idatt.view.BoardGameViewImpl",
+      "edu.ntnu.idi.idatt.view.ClippyNotification",
+      "edu.ntnu.idi.idatt.view.components.PlayerPanel",
+      "edu.ntnu.idi.idatt.view.ingame.BoardView",
+      "edu.ntnu.idi.idatt.view.ingame.BoardCanvasLayer",
+      "edu.ntnu.idi.idatt.view.ingame.DiceView",
+      "edu.ntnu.idi.idatt.view.ingame.PlayerInfoView",
+      "edu.ntnu.idi.idatt.view.ingame.PlayerInfoRow",
+      "edu.ntnu.idi.idatt.view.ingame.SettingsPanel",
+      "edu.ntnu.idi.idatt.view.ingame.TokenPathAnimator",
+      "edu.ntnu.idi.idatt.controller.BoardGameController",
+      "edu.ntnu.idi.idatt.controller.CharacterSelectionController",
+      "javafx.application.Platform",
+      "javafx.scene.Scene",
+      "javafx.stage.Stage",
+      "javafx.scene.image.Image",
+      "javafx.animation.Timeline"
+  };
+
+  private ClassDataSharing() {
+  }
+
+  /**
+   * Checks whether the given command line arguments contain the given option.
+   *
+   * @param args   the command line arguments
+   * @param option the option to look for
+   * @return true if the option is present
+   */
+  public static boolean hasArgument(String[] args, String option) {
+    for (String arg : args) {
+      if (option.equals(arg)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Runs the headless training workload: every bundled board is loaded, written and read back,
+   * a scripted game is played on it and the player file handling is exercised. Finally the
+   * user interface classes are loaded. Prints how long the run took since the JVM started.
+   *
+   * @throws BoardGameException if a bundled board or the temporary files cannot be handled
+   */
+  public static void train() throws BoardGameException {
+    BoardJsonHandler boardHandler = new BoardJsonHandler();
+    int turns = 0;
+    try {
+      Path boardFile = Files.createTempFile("cds-board", ".json");
+      Path playerFile = Files.createTempFile("cds-players", ".csv");
+      try {
+        for (String resource : BoardGameFactory.BUNDLED_BOARDS) {
+          Board board = BoardGameFactory.createBundledBoard(resource);
+          boardHandler.writeToFile(board, boardFile.toString());
+          boardHandler.readFromFile(boardFile.toString());
+          turns += playScriptedGame(board, playerFile);
+        }
+      } finally {
+        Files.deleteIfExists(boardFile);
+        Files.deleteIfExists(playerFile);
+      }
+    } catch (IOException e) {
+      throw new BoardGameException("Cannot create training files", e);
+    }
+
+    int loaded = loadUiClasses();
+    System.out.println("[cds] played " + turns + " turns on "
+        + BoardGameFactory.BUNDLED_BOARDS.size() + " boards, loaded " + loaded + " UI classes");
+    ProcessHandle.current().info().startInstant().ifPresent(start ->
+        System.out.println("[cds] training run finished "
+            + Duration.between(start, Instant.now()).toMillis() + " ms after JVM start"));
+  }
+
+  private static int playScriptedGame(Board board, Path playerFile) throws BoardGameException {
+    BoardGame game = new BoardGame();
+    game.setBoard(board);
+    game.createDice(2);
+    for (String token : TRAINING_TOKENS) {
+      Player player = new Player("Trainer " + token, game, token);
+      player.placeOnTile(board.getTile(1));
+      game.addPlayer(player);
+    }
+
+    PlayerCsvHandler playerHandler = new PlayerCsvHandler(game);
+    playerHandler.writeToFile(game.getPlayers(), playerFile.toString());
+    playerHandler.readFromFile(playerFile.toString());
+
+    int turns = 0;
+    while (!game.isFinished() && turns < TRAINING_TURNS) {
+      Player current = game.getCurrentPlayer();
+      if (current.getSkipsNextTurn()) {
+        current.setSkipsNextTurn(false);
+        game.advanceToNextPlayer();
+      } else {
+        game.playTurn(current);
+      }
+      turns++;
+    }
+    return turns;
+  }
+
+  private static int loadUiClasses() {
+    ClassLoader loader = ClassDataSharing.class.getClassLoader();
+    int loaded = 0;
+    for (String className : UI_CLASSES) {
+      try {
+        Class.forName(className, false, loader);
+        loaded++;
+      } catch (ClassNotFoundException | LinkageError e) {
+        System.err.println("[cds] could not load " + className + ": " + e.getMessage());
+      }
+    }
+    return loaded;
+  }
+
+  /**
+   * Starts the application again in a new JVM using the AppCDS archive, if the archive exists
+   * and this JVM was not already started that way. The archive is looked up through the
+   * system property {@value #ARCHIVE_PROPERTY}, or as {@value #ARCHIVE_NAME} next to the jar.
+   *
+   * @param args the command line arguments, passed on without {@value #USE_ARCHIVE_ARGUMENT}
+   * @return the exit code of the new JVM, or -1 if the application should start in this JVM
+   */
+  public static int relaunchWithArchive(String[] args) {
+    if (Boolean.getBoolean(CHILD_PROPERTY)) {
+      return -1;
+    }
+    File jar = locateJar();
+    File archive = locateArchive(jar);
+    if (jar == null || archive == null || !archive.isFile()) {
+      System.err.println("[cds] no class data sharing archive found, starting without it");
+      return -1;
+    }
+
+    List<String> command = new ArrayList<>();
+    command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    command.add("-XX:SharedArchiveFile=" + archive.getPath());
+    command.add("-D" + CHILD_PROPERTY + "=true");
+    command.add("-cp");
+    command.add(jar.getPath());
+    command.add(Launcher.class.getName());
+    for (String arg : args) {
+      if (!USE_ARCHIVE_ARGUMENT.equals(arg)) {
+        command.add(arg);
+      }
+    }
+
+    try {
+      return new ProcessBuilder(command).inheritIO().start().waitFor();
+    } catch (IOException e) {
+      System.err.println("[cds] could not start with archive: " + e.getMessage());
+      return -1;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return 1;
+    }
+  }
+
+  private static File locateJar() {
+    try {
+      File location = new File(ClassDataSharing.class.getProtectionDomain()
+          .getCodeSource().getLocation().toURI());
+      return location.isFile() ? location : null;
+    } catch (URISyntaxException | SecurityException e) {
+      return null;
+    }
+  }
+
+  private static File locateArchive(File jar) {
+    String configured = System.getProperty(ARCHIVE_PROPERTY);
+    if (configured != null) {
+      return new File(configured);
+    }
+    return jar != null ? new File(jar.getParentFile(), ARCHIVE_NAME) : null;
+  }
+}
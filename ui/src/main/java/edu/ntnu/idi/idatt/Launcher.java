@@ -0,0 +1,49 @@
+package edu.ntnu.idi.idatt;
+
+import edu.ntnu.idi.idatt.cli.BoardGameCli;
+import edu.ntnu.idi.idatt.exception.BoardGameException;
+
+/**
+ * Launcher class that serves as the application entry point.
+ * This class delegates to the main application.
+ *
+ * <p>With {@value ClassDataSharing#TRAINING_ARGUMENT} the launcher runs the headless training
+ * workload for the class data sharing archive instead, and with
+ * {@value ClassDataSharing#USE_ARCHIVE_ARGUMENT} it starts the application using that archive.
+ * When the first argument is a {@link BoardGameCli} subcommand, the command is run without
+ * starting the user interface.
+ */
+public class Launcher {
+
+  /**
+   * Default constructor for Launcher.
+   */
+  public Launcher() {
+
+  }
+  /**
+   * Main method that launches the Main application.
+   *
+   * @param args command line arguments
+   * @throws BoardGameException if the class data sharing training run fails
+   */
+  public static void main(String[] args) throws BoardGameException {
+    if (args.length > 0 && BoardGameCli.isCommand(args[0])) {
+      System.exit(BoardGameCli.run(args, System.out, System.err));
+    }
+    if (ClassDataSharing.hasArgument(args, ClassDataSharing.TRAINING_ARGUMENT)) {
+      ClassDataSharing.train();
+      return;
+    }
+    if (ClassDataSharing.hasArgument(args, ClassDataSharing.USE_ARCHIVE_ARGUMENT)) {
+      int exitCode = ClassDataSharing.relaunchWithArchive(args);
+      if (exitCode >= 0) {
+        System.exit(exitCode);
+      }
+    }
+
+    StartupProfiler.configure(args);
+    StartupProfiler.markLaunch();
+    Main.main(args);
+  }
+}
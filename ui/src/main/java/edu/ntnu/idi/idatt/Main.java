@@ -2,6 +2,9 @@ package edu.ntnu.idi.idatt;
 
 import edu.ntnu.idi.idatt.navigation.NavTo;
 import edu.ntnu.idi.idatt.navigation.NavigationManager;
+import edu.ntnu.idi.idatt.view.ImageCache;
+import edu.ntnu.idi.idatt.view.components.PlayerPanel;
+import edu.ntnu.idi.idatt.view.ingame.BoardView;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
@@ -14,20 +17,35 @@ import javafx.stage.Stage;
  * <p>This class extends the {@code Application} class, which is the base class
  * for JavaFX application development. The {@code start} method is overridden
  * to configure the application's primary stage.
+ *
+ * <p>Only the main menu is built before the first frame. Decoding shared images and building
+ * the next screens is deferred until the first frame has been shown. Startup can be profiled
+ * with {@link StartupProfiler}.
  */
 public class Main extends Application {
   @Override
 
   public void start(Stage primaryStage) {
-
+    StartupProfiler.begin("navigation setup");
     NavigationManager nav = NavigationManager.getInstance();
     nav.initialize(primaryStage, "Board Game", 800, 600);
+
+    StartupProfiler.begin("main menu");
     nav.navigateTo(NavTo.START_SCREEN);
 
+    // Image decoding and preloading of other screens wait until the first frame is shown
+    StartupProfiler.begin("first scene");
+    StartupProfiler.awaitFirstFrame(primaryStage.getScene(), () -> {
+      StartupProfiler.trackImages(ImageCache.getInstance()
+          .preload(PlayerPanel.TOKEN_PREVIEW_SIZE, BoardView.TOKEN_SIZE));
+      nav.startPreloading();
+    });
+
     primaryStage.show();
   }
 
   public static void main(String[] args) {
+    StartupProfiler.configure(args);
     launch(args);
   }
-}
\ No newline at end of file
+}
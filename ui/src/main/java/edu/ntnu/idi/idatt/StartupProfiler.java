@@ -0,0 +1,170 @@
+package edu.ntnu.idi.idatt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+
+/**
+ * The StartupProfiler class records how long the phases of application startup take, up to the
+ * first frame being shown. Profiling is enabled with the {@code --profile-startup} command line
+ * argument or the system property {@value #PROPERTY}; when disabled, every method returns
+ * immediately.
+ *
+ * <p>The report lists the time from JVM start to the launcher, the time spent loading classes
+ * and starting the JavaFX toolkit, each named phase recorded by the application, the CSS and
+ * layout pass of the first pulse and the total time to first frame. Images decoded in the
+ * background are reported separately once they are ready.
+ */
+public final class StartupProfiler {
+  public static final String PROPERTY = "chutes.profileStartup";
+  public static final String ARGUMENT = "--profile-startup";
+
+  private static boolean enabled = Boolean.getBoolean(PROPERTY);
+  private static long launchNanos;
+  private static long jvmToLaunchMillis = -1;
+  private static final Map<String, Double> phases = new LinkedHashMap<>();
+  private static String currentPhase;
+  private static long phaseStart;
+
+  private StartupProfiler() {
+  }
+
+  /**
+   * Enables profiling if the command line arguments contain {@value #ARGUMENT}.
+   *
+   * @param args the command line arguments of the application
+   */
+  public static void configure(String[] args) {
+    for (String arg : args) {
+      if (ARGUMENT.equals(arg)) {
+        enabled = true;
+      }
+    }
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Marks the moment the launcher's main method starts. Everything before this point is
+   * JVM startup.
+   */
+  public static void markLaunch() {
+    if (!enabled) {
+      return;
+    }
+    launchNanos = System.nanoTime();
+    jvmToLaunchMillis = ProcessHandle.current().info().startInstant()
+        .map(start -> Duration.between(start, Instant.now()).toMillis())
+        .orElse(-1L);
+  }
+
+  /**
+   * Starts timing a named phase, ending the current phase if there is one.
+   *
+   * @param phase the name of the phase
+   */
+  public static void begin(String phase) {
+    if (!enabled) {
+      return;
+    }
+    long now = System.nanoTime();
+    if (currentPhase != null) {
+      phases.put(currentPhase, (now - phaseStart) / 1_000_000.0);
+    } else if (launchNanos != 0 && phases.isEmpty()) {
+      phases.put("class loading and toolkit start", (now - launchNanos) / 1_000_000.0);
+    }
+    currentPhase = phase;
+    phaseStart = now;
+  }
+
+  /**
+   * Ends the current phase and measures the first pulse of the given scene. The CSS and layout
+   * pass of the pulse is timed separately, and the report is printed once the pulse finished.
+   *
+   * @param scene        the scene shown first
+   * @param onFirstFrame called after the first frame has been laid out, also when profiling
+   *                     is disabled; used to start work that was deferred until after startup
+   */
+  public static void awaitFirstFrame(Scene scene, Runnable onFirstFrame) {
+    long[] cssStart = new long[1];
+    Runnable preLayout = new Runnable() {
+      @Override
+      public void run() {
+        scene.removePreLayoutPulseListener(this);
+        cssStart[0] = System.nanoTime();
+      }
+    };
+    Runnable postLayout = new Runnable() {
+      @Override
+      public void run() {
+        scene.removePostLayoutPulseListener(this);
+        if (enabled) {
+          long now = System.nanoTime();
+          if (currentPhase != null) {
+            phases.put(currentPhase, (cssStart[0] - phaseStart) / 1_000_000.0);
+            currentPhase = null;
+          }
+          phases.put("CSS and layout of first pulse", (now - cssStart[0]) / 1_000_000.0);
+          printReport(now);
+        }
+        onFirstFrame.run();
+      }
+    };
+    scene.addPreLayoutPulseListener(preLayout);
+    scene.addPostLayoutPulseListener(postLayout);
+  }
+
+  /**
+   * Reports how long the given images take to finish decoding in the background.
+   *
+   * @param images the images being decoded
+   */
+  public static void trackImages(List<Image> images) {
+    if (!enabled) {
+      return;
+    }
+    long start = System.nanoTime();
+    int[] remaining = {images.size()};
+    for (Image image : images) {
+      if (image.getProgress() >= 1.0) {
+        remaining[0]--;
+        continue;
+      }
+      image.progressProperty().addListener((obs, oldValue, newValue) -> {
+        if (newValue.doubleValue() >= 1.0 && --remaining[0] == 0) {
+          System.out.println("[startup] images decoded in background: "
+              + format((System.nanoTime() - start) / 1_000_000.0) + " ms");
+        }
+      });
+    }
+    if (remaining[0] == 0) {
+      System.out.println("[startup] images already decoded");
+    }
+  }
+
+  private static void printReport(long now) {
+    System.out.println("[startup] JVM start to launcher: "
+        + (jvmToLaunchMillis >= 0 ? jvmToLaunchMillis + " ms" : "unknown"));
+    for (Map.Entry<String, Double> phase : phases.entrySet()) {
+      System.out.println("[startup] " + phase.getKey() + ": " + format(phase.getValue()) + " ms");
+    }
+    if (launchNanos != 0) {
+      double launchToFrame = (now - launchNanos) / 1_000_000.0;
+      System.out.println("[startup] launcher to first frame: " + format(launchToFrame) + " ms");
+      if (jvmToLaunchMillis >= 0) {
+        System.out.println("[startup] time to first frame: "
+            + format(jvmToLaunchMillis + launchToFrame) + " ms");
+      }
+    }
+  }
+
+  private static String format(double millis) {
+    return String.format("%.1f", millis);
+  }
+}
@@ -1,6 +1,10 @@
 package edu.ntnu.idi.idatt.controller;
 
 
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.action.TileAction;
+import edu.ntnu.idi.idatt.analysis.TileStatistics;
 import edu.ntnu.idi.idatt.exception.BoardGameException;
 import edu.ntnu.idi.idatt.model.BoardGame;
 import edu.ntnu.idi.idatt.model.Player;
@@ -8,18 +12,40 @@ import edu.ntnu.idi.idatt.model.Tile;
 import edu.ntnu.idi.idatt.navigation.NavTo;
 import edu.ntnu.idi.idatt.view.BoardGameView;
 import edu.ntnu.idi.idatt.view.BoardGameViewImpl;
+import javafx.animation.AnimationTimer;
 
 /**
  * The BoardGameController class acts as a controller component within
  * the MVC architecture of a board game application. It handles user
  * input, updates the model, and interacts with the view to ensure the
  * game progresses correctly.
+ *
+ * <p>Besides normal animated turns, the controller offers a turbo mode which resolves turns at
+ * full engine speed without animations. Turns are played within a fixed time budget on every
+ * JavaFX pulse, and the view is refreshed once per pulse with the resulting state.
+ *
+ * <p>Every landing, tile action and skipped turn is counted in {@link TileStatistics}, which
+ * the view can show as a heatmap of the board.
  */
 
 public class BoardGameController {
   private BoardGame model;
   private BoardGameView view;
   private boolean animationInProgress = false;
+  private TileStatistics tileStatistics;
+
+  // Time spent resolving turns per frame pulse in turbo mode, leaving room for rendering
+  private static final long TURBO_FRAME_BUDGET_NANOS = 8_000_000L;
+
+  private final AnimationTimer turboTimer = new AnimationTimer() {
+    @Override
+    public void handle(long now) {
+      playTurboTurns();
+    }
+  };
+  private boolean turboRunning = false;
+  private int turboTurnLimit;
+  private int turboTurnsPlayed;
 
   /**
    * Constructs a new BoardGameController to manage interactions between the game model and view.
@@ -42,7 +68,10 @@ public class BoardGameController {
     // Set up dice count change handler for integrated settings
     if (view instanceof BoardGameViewImpl) {
       ((BoardGameViewImpl) view).setDiceCountChangeHandler(this::handleDiceCountChange);
+      ((BoardGameViewImpl) view).setTurboHandler(this::startTurbo);
+      ((BoardGameViewImpl) view).setTurboStopHandler(this::stopTurbo);
     }
+    resetTileStatistics();
 
     // Initialize view with current game state
     view.renderBoard(model.getBoard());
@@ -63,6 +92,7 @@ public class BoardGameController {
    */
 
   private void handleReturnToMenu() {
+    stopTurbo();
     try {
       model.getPlayers().clear();
       model.resetGameState();
@@ -75,7 +105,7 @@ public class BoardGameController {
   }
 
   private void handleRollDice() {
-    if (animationInProgress) {
+    if (animationInProgress || turboRunning) {
       return; // Prevent actions during animations
     }
 
@@ -90,6 +120,8 @@ public class BoardGameController {
       // Check if player should skip turn
       if (currentPlayer.getSkipsNextTurn()) {
         currentPlayer.setSkipsNextTurn(false);
+        tileStatistics.recordSkip(currentPlayer.getCurrentTile().getTileId());
+        refreshHeatmap();
         view.showMessage("Skip Turn",
             currentPlayer.getName() + " skips this turn.");
 
@@ -106,20 +138,9 @@ public class BoardGameController {
       // Show dice roll
       view.showDiceRoll(currentPlayer, total, diceValues);
 
-      // Get current position
+      // Get current position and the destination tile
       int oldPosition = currentPlayer.getCurrentTile().getTileId();
-
-      // Calculate new position
-      int newPosition = oldPosition + total;
-      int maxTileId = model.getBoard().getFinalTileId();
-
-      // Handle case where player would move beyond the board
-      if (newPosition > maxTileId) {
-        newPosition = maxTileId;
-      }
-
-      // Get the destination tile
-      final int destinationTileId = newPosition;
+      final int destinationTileId = calculateDestination(oldPosition, total);
 
       // Start animation sequence
       animationInProgress = true;
@@ -131,6 +152,8 @@ public class BoardGameController {
 
         // Get the tile the player landed on
         Tile landedTile = model.getBoard().getTile(destinationTileId);
+        recordLanding(landedTile);
+        refreshHeatmap();
 
         // Check if player landed on a tile with an action
         if (landedTile != null && landedTile.getTileAction() != null) {
@@ -164,6 +187,188 @@ public class BoardGameController {
   }
 
 
+  /**
+   * Calculates the tile a player moves to before any tile action is applied.
+   *
+   * @param oldPosition the ID of the tile the player starts on
+   * @param total       the total of the dice roll
+   * @return the ID of the destination tile, never beyond the final tile
+   */
+  private int calculateDestination(int oldPosition, int total) {
+    int newPosition = oldPosition + total;
+    int maxTileId = model.getBoard().getFinalTileId();
+
+    // Handle case where player would move beyond the board
+    if (newPosition > maxTileId) {
+      newPosition = maxTileId;
+    }
+    return newPosition;
+  }
+
+  /**
+   * Starts playing turns in turbo mode. Turns are resolved without animations until a player
+   * wins, the turn limit is reached or {@link #stopTurbo()} is called.
+   *
+   * @param turnLimit the number of turns to play, or 0 to play until a player wins
+   */
+  private void startTurbo(int turnLimit) {
+    if (turboRunning) {
+      return;
+    }
+    if (animationInProgress || model.getPlayers().isEmpty()) {
+      view.setTurboActive(false);
+      return;
+    }
+    if (model.isFinished()) {
+      view.showMessage("Game Over", "The game is already finished. Start a new game to play again.");
+      view.setTurboActive(false);
+      return;
+    }
+
+    turboRunning = true;
+    turboTurnLimit = turnLimit;
+    turboTurnsPlayed = 0;
+    view.setTurboActive(true);
+    turboTimer.start();
+  }
+
+  /**
+   * Stops turbo mode, leaving the game in the state reached so far.
+   */
+  private void stopTurbo() {
+    if (!turboRunning) {
+      return;
+    }
+    turboTimer.stop();
+    turboRunning = false;
+    view.setTurboActive(false);
+  }
+
+  /**
+   * Plays as many turbo turns as fit in the time budget of one frame pulse, then refreshes
+   * the view once with the resulting game state.
+   */
+  private void playTurboTurns() {
+    long deadline = System.nanoTime() + TURBO_FRAME_BUDGET_NANOS;
+    boolean finished = false;
+
+    try {
+      while (!finished && !isTurboLimitReached() && System.nanoTime() < deadline) {
+        finished = playTurnInstantly();
+        turboTurnsPlayed++;
+      }
+    } catch (Exception e) {
+      stopTurbo();
+      view.showError("Error during turbo play", e.getMessage());
+      return;
+    }
+
+    view.refreshGameState(model.getCurrentPlayer(), turboTurnsPlayed);
+    refreshHeatmap();
+
+    if (finished) {
+      stopTurbo();
+      view.showGameOver(model.getWinner());
+    } else if (isTurboLimitReached()) {
+      stopTurbo();
+      view.showMessage("Turbo", "Played " + turboTurnsPlayed + " turns");
+    }
+  }
+
+  private boolean isTurboLimitReached() {
+    return turboTurnLimit > 0 && turboTurnsPlayed >= turboTurnLimit;
+  }
+
+  /**
+   * Resolves a complete turn for the current player without involving the view. Follows the
+   * same rules as an animated turn: skipped turns are consumed, the landed tile's action is
+   * performed and the turn passes to the next player unless the current player won.
+   *
+   * @return true if the turn ended the game
+   */
+  private boolean playTurnInstantly() {
+    Player currentPlayer = model.getCurrentPlayer();
+
+    if (currentPlayer.getSkipsNextTurn()) {
+      currentPlayer.setSkipsNextTurn(false);
+      tileStatistics.recordSkip(currentPlayer.getCurrentTile().getTileId());
+      model.advanceToNextPlayer();
+      return false;
+    }
+
+    model.getDice().rollAllDice();
+    int oldPosition = currentPlayer.getCurrentTile().getTileId();
+    int destinationTileId = calculateDestination(oldPosition, model.getDice().getTotal());
+
+    Tile landedTile = model.getBoard().getTile(destinationTileId);
+    recordLanding(landedTile);
+    if (landedTile != null) {
+      currentPlayer.setCurrentTile(landedTile);
+      performActionQuietly(currentPlayer, landedTile);
+    }
+
+    if (currentPlayer.hasWon(model.getBoard().getFinalTileId())) {
+      model.setWinner(currentPlayer);
+      model.setGameFinished(true);
+      return true;
+    }
+    model.advanceToNextPlayer();
+    return false;
+  }
+
+  /**
+   * Performs the action of the tile a player landed on. Ladders, chutes and skip tiles are
+   * resolved here without the console output of their actions, which would limit how many
+   * turns turbo mode plays per frame; other actions are performed as usual.
+   *
+   * @param player     the player who landed on the tile
+   * @param landedTile the tile landed on
+   */
+  private void performActionQuietly(Player player, Tile landedTile) {
+    TileAction action = landedTile.getTileAction();
+    if (action instanceof LadderAction) {
+      Tile destination = model.getBoard().getTile(((LadderAction) action).getDestinationTileId());
+      if (destination != null) {
+        player.setCurrentTile(destination);
+      }
+    } else if (action instanceof SkipTurnAction) {
+      player.setSkipsNextTurn(true);
+    } else if (action != null) {
+      landedTile.landAction(player);
+    }
+  }
+
+  /**
+   * Counts a landing on a tile, and the tile's action if it has one, in the tile statistics.
+   *
+   * @param landedTile the tile landed on, before its action is performed
+   */
+  private void recordLanding(Tile landedTile) {
+    if (landedTile == null) {
+      return;
+    }
+    tileStatistics.recordLanding(landedTile.getTileId());
+    if (landedTile.getTileAction() != null) {
+      tileStatistics.recordAction(landedTile.getTileId());
+    }
+  }
+
+  /**
+   * Starts new tile statistics for the board of the game and hands them to the view.
+   */
+  private void resetTileStatistics() {
+    tileStatistics = new TileStatistics(Math.max(1, model.getBoard().getFinalTileId()));
+    if (view instanceof BoardGameViewImpl) {
+      ((BoardGameViewImpl) view).setTileStatistics(tileStatistics);
+    }
+  }
+
+  private void refreshHeatmap() {
+    if (view instanceof BoardGameViewImpl) {
+      ((BoardGameViewImpl) view).refreshHeatmap();
+    }
+  }
+
   /**
    * Completes the current player's turn in the board game.
    *
@@ -200,6 +405,10 @@ public class BoardGameController {
    * to the user.
    */
   private void handleNewGame() {
+    if (animationInProgress) {
+      return; // The moving token would finish its turn in the new game
+    }
+    stopTurbo();
     try {
       model.getPlayers().clear();
       model.resetGameState();
@@ -219,10 +428,15 @@ public class BoardGameController {
    * game data into the model, and updating the view with the loaded game state.
    */
   private void handleLoadGame() {
+    if (animationInProgress) {
+      return; // The moving token would finish its turn in the new game
+    }
+    stopTurbo();
     try {
       String filename = view.showLoadDialog();
       if (filename != null && !filename.isEmpty()) {
         model.loadGame(filename);
+        resetTileStatistics();
         view.renderBoard(model.getBoard());
         view.updatePlayersList(model.getPlayers());
         view.highlightCurrentPlayer(model.getCurrentPlayer());
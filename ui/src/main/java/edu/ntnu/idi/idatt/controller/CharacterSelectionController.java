@@ -32,13 +32,25 @@ public class CharacterSelectionController {
 
   public CharacterSelectionController(CharacterSelectionView view) {
     this.view = view;
-    this.csvHandler = new PlayerCsvHandler(new BoardGame()); // Temporary game for CSV operations
 
     // Set up view event handlers
     view.setSavePlayersHandler(this::handleSavePlayers);
     view.setLoadPlayersHandler(this::handleLoadPlayers);
   }
 
+  /**
+   * Retrieves the CSV handler, creating it on first use so the character selection screen
+   * does not set up file handling until players are saved or loaded.
+   *
+   * @return the CSV handler used for saving and loading players
+   */
+  private PlayerCsvHandler getCsvHandler() {
+    if (csvHandler == null) {
+      csvHandler = new PlayerCsvHandler(new BoardGame()); // Temporary game for CSV operations
+    }
+    return csvHandler;
+  }
+
   /**
    * Handles the saving of active players to a CSV file. This method retrieves the list of
    * active players from the view and prompts the user to specify a file location for saving.
@@ -57,7 +69,7 @@ public class CharacterSelectionController {
       String filename = view.showSaveDialog();
       if (filename != null) {
         List<Player> players = convertToPlayers(activePlayers);
-        csvHandler.writeToFile(players, filename);
+        getCsvHandler().writeToFile(players, filename);
 
         String fileName = new File(filename).getName();
         view.showAlert("Success",
@@ -84,7 +96,7 @@ public class CharacterSelectionController {
     try {
       String filename = view.showLoadDialog();
       if (filename != null) {
-        List<Player> loadedPlayers = csvHandler.readFromFile(filename);
+        List<Player> loadedPlayers = getCsvHandler().readFromFile(filename);
         List<PlayerData> playerDataList = convertToPlayerData(loadedPlayers);
 
         view.updatePlayersFromData(playerDataList);
@@ -0,0 +1,426 @@
+package edu.ntnu.idi.idatt.navigation;
+
+import edu.ntnu.idi.idatt.StartupProfiler;
+import edu.ntnu.idi.idatt.analysis.WinProbabilityCache;
+import edu.ntnu.idi.idatt.controller.BoardGameController;
+import edu.ntnu.idi.idatt.factory.BoardGameFactory;
+import edu.ntnu.idi.idatt.model.BoardGame;
+import edu.ntnu.idi.idatt.model.Player;
+import edu.ntnu.idi.idatt.model.PlayerData;
+import edu.ntnu.idi.idatt.view.BoardGameViewImpl;
+import edu.ntnu.idi.idatt.view.BoardSelectionView;
+import edu.ntnu.idi.idatt.view.CharacterSelectionView;
+import edu.ntnu.idi.idatt.view.MainMenuView;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+/**
+ * The NavigationManager class is a Singleton class responsible for handling navigation between
+ * different screens of the application. It manages the navigation history, the primary
+ * stage and scene, and connects views and controllers for various game states.
+ * This class implements the NavigationHandler interface.
+ *
+ * <p>Views are cached after they are first shown and only have their state reset when they
+ * are shown again. Once a screen has been shown and the user has stayed on it for a moment,
+ * the screen the user is most likely to open next is built on the JavaFX thread, so it is not
+ * part of the frame after the switch. The time from a navigation request until the new screen
+ * has been laid out is measured for every switch, and printed when startup profiling is
+ * enabled.
+ */
+public class NavigationManager implements NavigationHandler {
+  private static final double PRELOAD_DELAY_MILLIS = 300;
+
+  private static NavigationManager instance;
+
+  private Stage primaryStage;
+  private Scene scene;
+  private Stack<NavTo> navigationHistory;
+
+  // Game components
+  private BoardGame boardGame;
+
+  // Cached views, kept alive between navigations
+  private MainMenuView mainMenuView;
+  private BoardSelectionView boardSelectionView;
+  private CharacterSelectionView characterSelectionView;
+  private BoardGameViewImpl gameView;
+
+  private final Map<NavTo, Double> switchMillis = new EnumMap<>(NavTo.class);
+  private double lastSwitchMillis;
+  private boolean preloadingEnabled = false;
+
+  /**
+   * Constructs a new instance of NavigationManager and initializes
+   * the navigation history stack. This constructor is private to
+   * enforce the Singleton design pattern, ensuring that only one
+   * instance of NavigationManager exists throughout the application.
+   */
+  private NavigationManager() {
+    navigationHistory = new Stack<>();
+  }
+
+  /**
+   * Retrieves the instance of the NavigationManager. If the instance
+   * does not already exist, it creates a new one.
+   *
+   * @return The instance of the NavigationManager.
+   */
+  public static NavigationManager getInstance() {
+    if (instance == null) {
+      instance = new NavigationManager();
+    }
+    return instance;
+  }
+
+  /**
+   * Initializes the primary stage and scene for the application with specified parameters
+   * and sets up the initial game model. This method configures the stage properties
+   * such as title, dimensions, minimum size requirements, and enables full-screen mode.
+   * Additionally, a new instance of the game model {@code BoardGame} is created.
+   *
+   * @param stage The primary stage of the JavaFX application. This Stage object acts as the
+   *              top-level container for the UI.
+   * @param title The title of the application window, displayed in the stage's title bar.
+   * @param width The width of the application window in pixels.
+   * @param height The height of the application window in pixels.
+   */
+  public void initialize(Stage stage, String title, int width, int height) {
+    this.primaryStage = stage;
+    this.scene = new Scene(new javafx.scene.layout.StackPane(), width, height);
+    primaryStage.setScene(scene);
+    primaryStage.setTitle(title);
+    primaryStage.setMinWidth(800);
+    primaryStage.setMinHeight(600);
+    primaryStage.setFullScreen(true);
+    primaryStage.setFullScreenExitHint("");
+
+    // Create initial game model
+    this.boardGame = new BoardGame();
+  }
+
+  /**
+   * Navigates to a specified screen or game state within the application.
+   * The method updates the navigation history and displays the appropriate screen
+   * based on the target destination provided.
+   *
+   * @param target The target screen or state to navigate to. This value is of the
+   *               {@code NavTo} enumeration type, which includes options such as
+   *               START_SCREEN, CHARACTER_SELECTION, GAME_SCREEN, LOAD_GAME_SCREEN,
+   *               and BOARD_SELECTION_SCREEN.
+   */
+  @Override
+  public void navigateTo(NavTo target) {
+    long start = System.nanoTime();
+    navigationHistory.push(target);
+
+    switch (target) {
+      case START_SCREEN:
+        showMainMenu();
+        break;
+      case CHARACTER_SELECTION:
+        showCharacterSelection();
+        break;
+      case GAME_SCREEN:
+        showGameScreen();
+        break;
+      case BOARD_SELECTION_SCREEN:
+        showBoardSelectionScreen();
+        break;
+    }
+
+    measureSwitch(target, start);
+    preloadNext(target);
+  }
+
+  /**
+   * Records how long it takes from the navigation request until the new screen has been
+   * laid out during the next pulse.
+   *
+   * @param target the screen that was navigated to
+   * @param start  the time of the navigation request, from {@link System#nanoTime()}
+   */
+  private void measureSwitch(NavTo target, long start) {
+    Runnable listener = new Runnable() {
+      @Override
+      public void run() {
+        scene.removePostLayoutPulseListener(this);
+        lastSwitchMillis = (System.nanoTime() - start) / 1_000_000.0;
+        switchMillis.put(target, lastSwitchMillis);
+        if (StartupProfiler.isEnabled()) {
+          System.out.println("[navigation] switched to " + target + " in "
+              + String.format("%.2f", lastSwitchMillis) + " ms");
+        }
+      }
+    };
+    scene.addPostLayoutPulseListener(listener);
+  }
+
+  /**
+   * Builds the screen the user is most likely to open next, so navigating to it only has to
+   * reset its state. The view has to be built on the JavaFX thread; to keep it out of the frame
+   * after the switch, building waits until the current screen has been laid out and then for
+   * {@value #PRELOAD_DELAY_MILLIS} ms, and is skipped if the user has moved on by then.
+   *
+   * @param current the screen that is currently shown
+   */
+  private void preloadNext(NavTo current) {
+    if (!preloadingEnabled) {
+      return;
+    }
+    Runnable listener = new Runnable() {
+      @Override
+      public void run() {
+        scene.removePostLayoutPulseListener(this);
+        PauseTransition delay = new PauseTransition(Duration.millis(PRELOAD_DELAY_MILLIS));
+        delay.setOnFinished(event -> {
+          if (!navigationHistory.isEmpty() && navigationHistory.peek() == current) {
+            preload(current);
+          }
+        });
+        delay.play();
+      }
+    };
+    scene.addPostLayoutPulseListener(listener);
+    Platform.requestNextPulse();
+  }
+
+  private void preload(NavTo current) {
+    switch (current) {
+      case START_SCREEN:
+        getBoardSelectionView();
+        break;
+      case BOARD_SELECTION_SCREEN:
+        getCharacterSelectionView();
+        break;
+      case CHARACTER_SELECTION:
+        if (boardGame.getBoard() != null && boardGame.getDice() != null) {
+          getGameView();
+        }
+        break;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * Enables building likely next screens ahead of time. Preloading is disabled at startup
+   * so it does not delay the first frame; this method enables it and preloads the screen
+   * following the one currently shown.
+   */
+  public void startPreloading() {
+    preloadingEnabled = true;
+    if (!navigationHistory.isEmpty()) {
+      preloadNext(navigationHistory.peek());
+    }
+  }
+
+  /**
+   * Retrieves the time the most recent screen switch took.
+   *
+   * @return the duration of the last screen switch in milliseconds
+   */
+  public double getLastSwitchMillis() {
+    return lastSwitchMillis;
+  }
+
+  /**
+   * Retrieves the time the most recent switch to the given screen took.
+   *
+   * @param target the screen
+   * @return the duration in milliseconds, or -1 if the screen has not been shown yet
+   */
+  public double getSwitchMillis(NavTo target) {
+    return switchMillis.getOrDefault(target, -1.0);
+  }
+
+  /**
+   * Drops all cached views, so they are built again the next time they are shown.
+   */
+  public void clearViewCache() {
+    mainMenuView = null;
+    boardSelectionView = null;
+    characterSelectionView = null;
+    gameView = null;
+  }
+
+  /**
+   * Navigates to the previous screen in the navigation history, if available.
+   */
+  @Override
+  public void navigateBack() {
+    if (navigationHistory.size() > 1) {
+      navigationHistory.pop();
+      NavTo previous = navigationHistory.pop();
+      navigateTo(previous);
+    }
+  }
+
+  /**
+   * Sets the root node of the scene to the specified {@code Parent} object.
+   * This updates the currently displayed view in the application.
+   *
+   * @param newRoot The new root node to be set for the scene. This {@code Parent}
+   *                object represents the top-level container of the current UI hierarchy.
+   */
+  @Override
+  public void setRoot(Parent newRoot) {
+    scene.setRoot(newRoot);
+  }
+
+  /**
+   * Displays the main menu screen for the application. The {@link MainMenuView} is created
+   * and its event handlers for navigation and exit actions configured on first use; later
+   * calls reuse it. This method sets the main menu as the root view of the application's scene.
+   */
+  private void showMainMenu() {
+    if (mainMenuView == null) {
+      mainMenuView = new MainMenuView();
+      mainMenuView.setNewGameHandler(() -> navigateTo(NavTo.BOARD_SELECTION_SCREEN));
+      //mainMenuView.setLoadGameHandler(() -> navigateTo(NavTo.LOAD_GAME_SCREEN));
+      mainMenuView.setExitHandler(() -> primaryStage.close());
+    }
+
+    setRoot(mainMenuView.getRoot());
+  }
+
+  /**
+   * Displays the character selection screen within the application.
+   * This method initializes any required components for character selection and
+   * resets the cached view to its initial player setup.
+   */
+  private void showCharacterSelection() {
+    // Initialize a new game
+    //boardGame = new BoardGame();
+    //boardGame.createBoard();
+    boardGame.createDice(2);
+
+    CharacterSelectionView view = getCharacterSelectionView();
+    view.resetState();
+    setRoot(view.getRoot());
+  }
+
+  /**
+   * Retrieves the cached character selection view, creating it and setting up event handlers
+   * for starting the game or navigating back to the previous screen if needed.
+   *
+   * @return the character selection view
+   */
+  private CharacterSelectionView getCharacterSelectionView() {
+    if (characterSelectionView == null) {
+      CharacterSelectionView view = new CharacterSelectionView();
+      view.setStartGameHandler(() -> {
+        // Add selected players to the game
+        List<PlayerData> selectedPlayers = view.getSelectedPlayers();
+        for (PlayerData data : selectedPlayers) {
+          Player player = new Player(data.getName(), boardGame, data.getToken());
+          boardGame.addPlayer(player);
+          player.placeOnTile(boardGame.getBoard().getTile(1));
+        }
+
+        navigateTo(NavTo.GAME_SCREEN);
+      });
+      view.setBackHandler(() -> navigateBack());
+      characterSelectionView = view;
+    }
+    return characterSelectionView;
+  }
+
+  /**
+   * Displays the game screen by connecting the cached game view to a new
+   * {@code BoardGameController}, which facilitates interaction between the model and the view.
+   * The controller brings the view up to date with the current board and players, so only the
+   * parts that differ from the previous game are rebuilt. The view's root node is then set as
+   * the current root of the application scene, effectively transitioning to the game screen.
+   */
+  private void showGameScreen() {
+    BoardGameViewImpl view = getGameView();
+    view.resetState();
+
+    // Connect view with controller
+    BoardGameController controller = new BoardGameController(boardGame, view);
+
+    // Set the view as root
+    setRoot(view.getRoot());
+  }
+
+  /**
+   * Retrieves the cached game view, creating it for the board game model if needed.
+   *
+   * @return the game view
+   */
+  private BoardGameViewImpl getGameView() {
+    if (gameView == null) {
+      // Create the actual implementation of BoardGameView
+      gameView = new BoardGameViewImpl(boardGame);
+    }
+    return gameView;
+  }
+
+  private void showBoardSelectionScreen() {
+    setRoot(getBoardSelectionView().getRoot());
+  }
+
+  private BoardSelectionView getBoardSelectionView() {
+    if (boardSelectionView == null) {
+      boardSelectionView = new BoardSelectionView();
+      boardSelectionView.getRoot();
+    }
+    return boardSelectionView;
+  }
+
+  /**
+   * Starts calculating the win probability table of the selected board in the background, so
+   * it is ready by the time the game starts. Games start with two dice.
+   */
+  private void precomputeProbabilityTable() {
+    int numberOfDice = boardGame.getDice() != null ? boardGame.getDice().getNumberOfDice() : 2;
+    WinProbabilityCache.getInstance().request(boardGame.getBoard(), numberOfDice);
+  }
+
+  /**
+   * Selects a game board from the specified file path and proceeds to the
+   * character selection screen.
+   *
+   * @param filepath The path to the file containing the board configuration.
+   *                 This should be a valid path to a JSON file describing
+   *                 the board setup.
+   */
+  public void selectBoardAndContinue(String filepath) {
+    try {
+      boardGame.loadBoardFromFile(filepath);
+      precomputeProbabilityTable();
+
+      navigateTo(NavTo.CHARACTER_SELECTION);
+    } catch (Exception e) {
+      System.err.println("Error loading board: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Selects one of the boards bundled with the application and proceeds to the character
+   * selection screen. Bundled boards are read from the classpath, so this works regardless
+   * of the working directory.
+   *
+   * @param resourcePath the classpath path of the board, for example
+   *                     {@code /boards/standard_board.json}
+   */
+  public void selectBundledBoardAndContinue(String resourcePath) {
+    try {
+      boardGame.setBoard(BoardGameFactory.createBundledBoard(resourcePath));
+      precomputeProbabilityTable();
+
+      navigateTo(NavTo.CHARACTER_SELECTION);
+    } catch (RuntimeException e) {
+      System.err.println("Error loading board: " + e.getMessage());
+    }
+  }   //This was generated with help by ChatGPT for aid with debugging (hence the language mismatch)
+      //EDIT: Since been patched
+}
\ No newline at end of file
@@ -22,6 +22,8 @@ public interface BoardGameView {
   void showActionWithAnimation(Player player, TileAction action, int destinationTileId, Runnable onComplete);
   void highlightCurrentPlayer(Player player);
   void showGameOver(Player winner);
+  void refreshGameState(Player currentPlayer, int turnsPlayed);
+  void setTurboActive(boolean active);
 
   void showError(String title, String message);
   void showMessage(String title, String message);
@@ -2,6 +2,9 @@ package edu.ntnu.idi.idatt.view;
 
 import edu.ntnu.idi.idatt.action.LadderAction;
 import edu.ntnu.idi.idatt.action.TileAction;
+import edu.ntnu.idi.idatt.analysis.TileStatistics;
+import edu.ntnu.idi.idatt.analysis.WinProbabilityCache;
+import edu.ntnu.idi.idatt.analysis.WinProbabilityTable;
 import edu.ntnu.idi.idatt.model.Board;
 import edu.ntnu.idi.idatt.model.BoardGame;
 import edu.ntnu.idi.idatt.model.Player;
@@ -11,8 +14,8 @@ import edu.ntnu.idi.idatt.view.ingame.PlayerInfoView;
 import edu.ntnu.idi.idatt.view.ingame.SettingsPanel;
 import java.io.File;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
-import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -22,7 +25,6 @@ import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.stage.FileChooser;
-import javafx.util.Duration;
 
 
 /**
@@ -32,6 +34,9 @@ import javafx.util.Duration;
  * actions.
  */
 public class BoardGameViewImpl implements BoardGameView {
+  // Pause before a ladder or chute is animated, so the player sees where the token landed
+  private static final double ACTION_PAUSE_MILLIS = 500;
+
   private BorderPane root;
   private StackPane centerStack; // Stack to overlay settings on board
   private StackPane mainStack; // Main stack to overlay Clippy on everything
@@ -44,19 +49,26 @@ public class BoardGameViewImpl implements BoardGameView {
   private Button newGameButton;
   private Button loadButton;
   private Button settingsButton;
+  private ToggleButton turboButton;
   private HBox controls;
 
   private SettingsPanel settingsPanel;
   private ClippyNotification clippyNotification;
   private boolean settingsVisible = false;
+  private boolean turboActive = false;
+  // A token is moving and the controller waits for its callback to finish the turn
+  private boolean animationActive = false;
 
   private Runnable returnToMenu;
   private Runnable rollDiceHandler;
   private Runnable newGameHandler;
   private Runnable loadGameHandler;
   private Consumer<Integer> diceCountChangeHandler;
+  private Consumer<Integer> turboHandler;
+  private Runnable turboStopHandler;
 
   private BoardGame model;
+  private CompletableFuture<WinProbabilityTable> probabilityTableRequest;
 
   /**
    * Constructs a new instance of the BoardGameViewImpl class, initializing the
@@ -110,6 +122,8 @@ public class BoardGameViewImpl implements BoardGameView {
       }
     });
 
+    settingsPanel.setOnHeatmapToggled(visible -> boardView.setHeatmapVisible(visible));
+
     settingsPanel.setOnClose(() -> hideSettings());
 
     centerStack.getChildren().add(settingsPanel);
@@ -126,6 +140,7 @@ public class BoardGameViewImpl implements BoardGameView {
     rollButton = new Button("Roll Dice");
     newGameButton = new Button("New Game");
     loadButton = new Button("Load Game");
+    turboButton = new ToggleButton("Turbo");
 
     diceView = new DiceView(model.getDice().getNumberOfDice());
 
@@ -153,7 +168,17 @@ public class BoardGameViewImpl implements BoardGameView {
       }
     });
 
-    controls = new HBox(15, menuButton, rollButton, diceView, newGameButton, loadButton);
+    turboButton.setOnAction(e -> {
+      if (turboButton.isSelected()) {
+        if (turboHandler != null) {
+          turboHandler.accept(settingsPanel.getTurboTurns());
+        }
+      } else if (turboStopHandler != null) {
+        turboStopHandler.run();
+      }
+    });
+
+    controls = new HBox(15, menuButton, rollButton, diceView, newGameButton, loadButton, turboButton);
     controls.setAlignment(Pos.CENTER);
     controls.setPadding(new Insets(15, 0, 0, 0));
 
@@ -169,6 +194,17 @@ public class BoardGameViewImpl implements BoardGameView {
     StackPane.setMargin(clippyNotification, new Insets(0, 20, 20, 0));
   }
 
+  /**
+   * Resets the controls of the view to the state of a new game, so a cached view can be shown
+   * again. The board, dice and players are brought up to date by the controller.
+   */
+  public void resetState() {
+    hideSettings();
+    setTurboActive(false);
+    statusLabel.setText("Game ready to start");
+    diceView.setDiceCount(model.getDice().getNumberOfDice());
+  }
+
   /**
    * Toggles the visibility of the settings panel in the game view.
    * If the settings panel is currently visible, it is hidden and the game controls are re-enabled.
@@ -193,9 +229,7 @@ public class BoardGameViewImpl implements BoardGameView {
     settingsButton.setText("Hide Settings");
 
     // Disable game controls while settings are open
-    rollButton.setDisable(true);
-    newGameButton.setDisable(true);
-    loadButton.setDisable(true);
+    updateControls();
   }
 
   /**
@@ -208,29 +242,32 @@ public class BoardGameViewImpl implements BoardGameView {
     settingsButton.setText("Settings");
 
     // Re-enable game controls
-    rollButton.setDisable(false);
-    newGameButton.setDisable(false);
-    loadButton.setDisable(false);
+    updateControls();
+  }
+
+  /**
+   * Enables or disables the game controls for the current state. Starting a new game and
+   * loading a game are disabled while the settings are open, turbo mode runs or a token moves,
+   * and rolling the dice also once the game is finished.
+   */
+  private void updateControls() {
+    boolean busy = settingsVisible || turboActive || animationActive;
+    rollButton.setDisable(busy || model.isFinished());
+    newGameButton.setDisable(busy);
+    loadButton.setDisable(busy);
   }
 
   /**
    * Updates the dice view to reflect the specified number of dice.
-   * Removes the current dice view, creates a new one with the provided dice count,
-   * and re-adds it to the appropriate position in the control panel.
+   * The existing dice view grows or shrinks its pool of dice in place.
    * If the settings panel is currently visible, it updates the displayed dice count as well.
    *
    * @param diceCount the number of dice to display in the dice view
    */
   @Override
   public void updateDiceView(int diceCount) {
-    // Remove old dice view
-    controls.getChildren().remove(diceView);
-
-    // Create new dice view
-    diceView = new DiceView(diceCount);
-
-    // Add back at the same position (index 1)
-    controls.getChildren().add(1, diceView);
+    diceView.setDiceCount(diceCount);
+    requestProbabilityTable();
 
     // Update settings panel if visible
     if (settingsVisible) {
@@ -239,18 +276,20 @@ public class BoardGameViewImpl implements BoardGameView {
   }
 
   /**
-   * Renders the game board by creating a new visual representation of it and placing it in the game view.
-   * Removes the currently displayed board view, if any, and updates the view to display the new board.
-   * Additionally, places all players on their respective current tile positions.
+   * Renders the game board by handing it to the existing board view, which only redraws the parts
+   * of the board that differ from the one already shown. Player tokens are kept when the same
+   * players are still in the game, and all players are placed on their current tile positions.
    *
    * @param board The game board to be rendered. Contains the configuration and state of the tiles that
    *              make up the board.
    */
   @Override
   public void renderBoard(Board board) {
-    centerStack.getChildren().remove(boardView);
-    boardView = new BoardView(board);
-    centerStack.getChildren().add(0, boardView); // Add at index 0 to keep it behind settings
+    boardView.setBoard(board);
+    requestProbabilityTable();
+    if (!boardView.hasTokensFor(model.getPlayers())) {
+      boardView.clearPlayerTokens();
+    }
 
     // Place all players at their current positions
     for (Player player : model.getPlayers()) {
@@ -258,12 +297,40 @@ public class BoardGameViewImpl implements BoardGameView {
         updatePlayerPos(player, player.getCurrentTile().getTileId());
       }
     }
+    // A loaded game may be unfinished after a finished one
+    updateControls();
   }
 
   /**
-   * Updates the list of players displayed in the view. Reconstructs the
-   * player information view with the updated list of players, ensuring
-   * that the board view remains synchronized with the player positions
+   * Requests the win probability table of the current board and dice. The player list shows
+   * no probabilities until the table is ready; a table arriving after the board or dice
+   * changed again is ignored.
+   */
+  private void requestProbabilityTable() {
+    playerInfoView.setProbabilityTable(null);
+    if (model.getBoard() == null || model.getDice() == null) {
+      probabilityTableRequest = null;
+      return;
+    }
+    CompletableFuture<WinProbabilityTable> request = WinProbabilityCache.getInstance()
+        .request(model.getBoard(), model.getDice().getNumberOfDice());
+    probabilityTableRequest = request;
+    request.whenComplete((table, error) -> Platform.runLater(() -> {
+      if (request != probabilityTableRequest) {
+        return;
+      }
+      if (error != null) {
+        System.err.println("Win probabilities unavailable: " + error.getMessage());
+      } else {
+        playerInfoView.setProbabilityTable(table);
+      }
+    }));
+  }
+
+  /**
+   * Updates the list of players displayed in the view. The existing player
+   * information view keeps the rows of players that are still in the game,
+   * ensuring that the board view remains synchronized with the player positions
    * and statuses.
    *
    * @param players the list of players whose details are to be displayed.
@@ -272,8 +339,7 @@ public class BoardGameViewImpl implements BoardGameView {
    */
   @Override
   public void updatePlayersList(List<Player> players) {
-    playerInfoView = new PlayerInfoView(players, boardView);
-    root.setRight(playerInfoView);
+    playerInfoView.setPlayers(players, boardView);
   }
 
   /**
@@ -303,7 +369,7 @@ public class BoardGameViewImpl implements BoardGameView {
   @Override
   public void movePlayer(Player player, int oldPosition, int newPosition) {
     boardView.updatePlayerPos(player, newPosition);
-    playerInfoView.updatePlayerInfo(boardView);
+    playerInfoView.updatePlayerInfo(player);
   }
 
   /**
@@ -322,11 +388,13 @@ public class BoardGameViewImpl implements BoardGameView {
    */
   @Override
   public void movePlayerWithAnimation(Player player, int oldPosition, int newPosition, Runnable onComplete) {
-    rollButton.setDisable(true);
+    animationActive = true;
+    updateControls();
 
     boardView.animatePlayerMove(player, newPosition, () -> {
-      playerInfoView.updatePlayerInfo(boardView);
-      rollButton.setDisable(false);
+      playerInfoView.updatePlayerInfo(player);
+      animationActive = false;
+      updateControls();
 
       if (onComplete != null) {
         onComplete.run();
@@ -423,7 +491,8 @@ public class BoardGameViewImpl implements BoardGameView {
    */
   @Override
   public void showActionWithAnimation(Player player, TileAction action, int destinationTileId, Runnable onComplete) {
-    rollButton.setDisable(true);
+    animationActive = true;
+    updateControls();
 
     String actionDesc = "special action";
     if (action != null) {
@@ -437,19 +506,15 @@ public class BoardGameViewImpl implements BoardGameView {
 
     statusLabel.setText(player.getName() + " " + actionDesc);
 
-    PauseTransition pause = new PauseTransition(Duration.millis(500));
-    pause.setOnFinished(event -> {
-      boardView.animatePlayerMove(player, destinationTileId, () -> {
-        playerInfoView.updatePlayerInfo(boardView);
-        rollButton.setDisable(false);
+    boardView.animatePlayerJump(player, destinationTileId, ACTION_PAUSE_MILLIS, () -> {
+      playerInfoView.updatePlayerInfo(player);
+      animationActive = false;
+      updateControls();
 
-        if (onComplete != null) {
-          onComplete.run();
-        }
-      });
+      if (onComplete != null) {
+        onComplete.run();
+      }
     });
-
-    pause.play();
   }
 
 
@@ -461,9 +526,80 @@ public class BoardGameViewImpl implements BoardGameView {
   @Override
   public void highlightCurrentPlayer(Player player) {
     statusLabel.setText(player.getName() + "'s turn");
+    playerInfoView.setCurrentPlayer(player);
     playerInfoView.updatePlayerInfo(boardView);
   }
 
+  /**
+   * Shows the current game state at once, without animations. Used in turbo mode, where many
+   * turns are resolved between two frames: every token is placed on its tile, the player list
+   * is refreshed and the status shows how many turns were played.
+   *
+   * @param currentPlayer the player whose turn it is
+   * @param turnsPlayed   the number of turns played in turbo mode so far
+   */
+  @Override
+  public void refreshGameState(Player currentPlayer, int turnsPlayed) {
+    for (Player player : model.getPlayers()) {
+      if (player.getCurrentTile() != null) {
+        boardView.placePlayer(player, player.getCurrentTile().getTileId());
+      }
+    }
+    playerInfoView.setCurrentPlayer(currentPlayer);
+    playerInfoView.updatePlayerInfo(boardView);
+    statusLabel.setText("Turbo: " + turnsPlayed + " turns played");
+  }
+
+  /**
+   * Sets the statistics of the tiles landed on in this game, shown as a heatmap on the board
+   * when it is switched on in the settings.
+   *
+   * @param tileStatistics the statistics collected by the controller
+   */
+  public void setTileStatistics(TileStatistics tileStatistics) {
+    boardView.setTileStatistics(tileStatistics);
+  }
+
+  /**
+   * Updates the heatmap after new turns were recorded in the tile statistics. The board
+   * recolors the tiles at most once per frame.
+   */
+  public void refreshHeatmap() {
+    boardView.refreshHeatmap();
+  }
+
+  /**
+   * Updates the controls to reflect whether turbo mode is running. Rolling the dice, starting a
+   * new game and loading a game are disabled while turbo mode plays turns.
+   *
+   * @param active true if turbo mode is running
+   */
+  @Override
+  public void setTurboActive(boolean active) {
+    turboButton.setSelected(active);
+    turboActive = active;
+    updateControls();
+  }
+
+  /**
+   * Sets the handler invoked when the user starts turbo mode. The handler receives the
+   * number of turns to play, where 0 means playing until a player wins.
+   *
+   * @param handler the handler starting turbo mode
+   */
+  public void setTurboHandler(Consumer<Integer> handler) {
+    this.turboHandler = handler;
+  }
+
+  /**
+   * Sets the handler invoked when the user stops turbo mode.
+   *
+   * @param handler the handler stopping turbo mode
+   */
+  public void setTurboStopHandler(Runnable handler) {
+    this.turboStopHandler = handler;
+  }
+
   /**
    * Displays the game over message and notifies the winner.
    *
@@ -486,10 +622,7 @@ public class BoardGameViewImpl implements BoardGameView {
    */
   @Override
   public void showError(String title, String message) {
-
-    Platform.runLater(() -> {
-      clippyNotification.showNotification("❌ " + title, message);
-    });
+    showNotification("❌ " + title, message);
   }
 
   /**
@@ -500,10 +633,23 @@ public class BoardGameViewImpl implements BoardGameView {
    */
   @Override
   public void showMessage(String title, String message) {
+    showNotification("ℹ️ " + title, message);
+  }
 
-    Platform.runLater(() -> {
-      clippyNotification.showNotification("ℹ️ " + title, message);
-    });
+  /**
+   * Hands a notification to the Clippy notification queue. Calls made on the JavaFX
+   * application thread are queued directly; calls from other threads are passed on
+   * to the application thread.
+   *
+   * @param title   the title of the notification
+   * @param message the content of the notification
+   */
+  private void showNotification(String title, String message) {
+    if (Platform.isFxApplicationThread()) {
+      clippyNotification.showNotification(title, message);
+    } else {
+      Platform.runLater(() -> clippyNotification.showNotification(title, message));
+    }
   }
 
   /**
@@ -520,9 +666,10 @@ public class BoardGameViewImpl implements BoardGameView {
     fileChooser.getExtensionFilters().add(
       new FileChooser.ExtensionFilter("JSON Files", "*.json")
     );
-    fileChooser.setInitialDirectory(
-      new File(System.getProperty("user.dir") + "/src/main/resources/boards")
-    );
+    File boardDirectory = new File(System.getProperty("user.dir"), "core/src/main/resources/boards");
+    if (boardDirectory.isDirectory()) {
+      fileChooser.setInitialDirectory(boardDirectory);
+    }
 
     File file = fileChooser.showOpenDialog(mainStack.getScene().getWindow());
     return file != null ? file.getAbsolutePath() : null;
@@ -8,6 +8,7 @@ import javafx.scene.control.Button;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
 
 /**
  * The BoardSelectionView class represents the view for selecting a board size in the application.
@@ -16,6 +17,7 @@ import javafx.scene.layout.VBox;
  * user interactions such as button clicks.
  */
 public class BoardSelectionView {
+  private BorderPane root;
 
   public BoardSelectionView() {
 
@@ -55,16 +57,16 @@ public class BoardSelectionView {
     BorderPane.setMargin(exitButton, new Insets(10));
 
     smallBoardButton.setOnAction(e -> {
-      NavigationManager.getInstance().selectBoardAndContinue(
-            "src/main/resources/boards/small_board.json");
+      NavigationManager.getInstance().selectBundledBoardAndContinue(
+            "/boards/small_board.json");
     });
     standardBoardButton.setOnAction(e -> {
-      NavigationManager.getInstance().selectBoardAndContinue(
-            "src/main/resources/boards/standard_board.json");
+      NavigationManager.getInstance().selectBundledBoardAndContinue(
+            "/boards/standard_board.json");
     });
     largeBoardButton.setOnAction(e -> {
-      NavigationManager.getInstance().selectBoardAndContinue(
-            "src/main/resources/boards/large_board.json");
+      NavigationManager.getInstance().selectBundledBoardAndContinue(
+            "/boards/large_board.json");
     });
 
     exitButton.setOnAction(e -> {
@@ -77,14 +79,23 @@ public class BoardSelectionView {
 
     /**
      * Retrieves the root layout for the board selection view, applying necessary styles
-     * and ensuring proper configuration for the main menu interface.
+     * and ensuring proper configuration for the main menu interface. The layout is built
+     * on the first call and reused afterwards.
      *
      * @return a Parent object representing the root layout of the board selection view,
      *         styled with the designated CSS and containing the main menu components.
      */
   public Parent getRoot() {
+    if (root != null) {
+      return root;
+    }
+
     BorderPane layout = getMainMenuLayout();
     layout.getStyleClass().add("main-menu");
+    // The background is set from the shared image cache instead of the stylesheet,
+    // so it is not decoded again every time the screen is shown
+    layout.setBackground(ImageCache.getInstance()
+        .getCoverBackground(ImageCache.HD_BACKGROUND, Color.web("#eef")));
 
 
     try {
@@ -96,6 +107,7 @@ public class BoardSelectionView {
       System.err.println("CSS not found: " + e.getMessage());
     }
 
+    root = layout;
     return layout;
   }
 }
\ No newline at end of file
@@ -226,6 +226,18 @@ public class CharacterSelectionView {
     return selectedPlayers;
   }
 
+  /**
+   * Resets the player panels to their initial state: the first two players active with
+   * default names, the others inactive, and no tokens selected. Used when the view is
+   * shown again after being cached.
+   */
+  public void resetState() {
+    for (PlayerPanel panel : playerPanels) {
+      panel.setActive(panel.getPlayerId() <= 2);
+      panel.clearData();
+    }
+  }
+
   /**
    * Updates the state of the player panels based on the provided list of player data.
    * This method resets all player panels to their default state and then updates
@@ -269,13 +281,26 @@ public class CharacterSelectionView {
     fileChooser.getExtensionFilters().add(
       new FileChooser.ExtensionFilter("CSV Files", "*.csv")
     );
-    fileChooser.setInitialDirectory(new File("src/main/resources/playerFiles"));
+    setPlayerFileDirectory(fileChooser);
     fileChooser.setInitialFileName("players.csv");
 
     File file = fileChooser.showSaveDialog(root.getScene().getWindow());
     return file != null ? file.getAbsolutePath() : null;
   }
 
+  /**
+   * Opens the file chooser in the player file folder of the project when it exists, which is
+   * the case when the application is started from the project root.
+   *
+   * @param fileChooser the file chooser to configure
+   */
+  private void setPlayerFileDirectory(FileChooser fileChooser) {
+    File directory = new File("core/src/main/resources/playerFiles");
+    if (directory.isDirectory()) {
+      fileChooser.setInitialDirectory(directory);
+    }
+  }
+
   /**
    * Displays a "Load File" dialog to the user, allowing them to select a file for loading player data.
    * The dialog restricts the file selection to `.csv` files and opens in a predefined directory.
@@ -289,7 +314,7 @@ public class CharacterSelectionView {
     fileChooser.getExtensionFilters().add(
       new FileChooser.ExtensionFilter("CSV Files", "*.csv")
     );
-    fileChooser.setInitialDirectory(new File("src/main/resources/playerFiles"));
+    setPlayerFileDirectory(fileChooser);
 
     File file = fileChooser.showOpenDialog(root.getScene().getWindow());
     return file != null ? file.getAbsolutePath() : null;
@@ -1,6 +1,9 @@
 package edu.ntnu.idi.idatt.view;
 
+import java.util.ArrayDeque;
+import javafx.animation.Animation;
 import javafx.animation.FadeTransition;
+import javafx.animation.ParallelTransition;
 import javafx.animation.PauseTransition;
 import javafx.animation.SequentialTransition;
 import javafx.animation.TranslateTransition;
@@ -20,6 +23,10 @@ import javafx.util.Duration;
 /**
  * Clippy-style notification component that appears in the bottom-right corner
  * with smooth animations and non-intrusive behavior.
+ *
+ * <p>Notifications are shown one at a time from a small bounded queue. Bursts of notifications
+ * with the same title are merged into a single one, and the same animation sequence is reused
+ * for every notification.
  */
 public class ClippyNotification extends VBox {
   private static final Duration FADE_IN_DURATION = Duration.millis(300);
@@ -32,6 +39,11 @@ public class ClippyNotification extends VBox {
   private Label messageLabel;
   private SequentialTransition animation;
 
+  // Notifications waiting while another one is shown
+  private static final int MAX_QUEUED = 5;
+  private final ArrayDeque<Notification> queue = new ArrayDeque<>();
+  private Notification current;
+
   /**
    * Creates an instance of the ClippyNotification class.
    * The notification consists of a UI layout featuring an animated Clippy-like character,
@@ -54,18 +66,16 @@ public class ClippyNotification extends VBox {
   private void createUI() {
     // Load Clippy image
     clippyImage = new ImageView();
-    try {
-      Image clippy = new Image(getClass().getResourceAsStream("/images/clippy.png"));
+    Image clippy = ImageCache.getInstance().getImage(ImageCache.CLIPPY, 70, 70);
+    if (clippy != null) {
       clippyImage.setImage(clippy);
-      clippyImage.setFitWidth(70);
-      clippyImage.setFitHeight(70);
       clippyImage.setPreserveRatio(true);
-    } catch (Exception e) {
-      // Fallback: create a simple representation if image not found
-      clippyImage.setFitWidth(70);
-      clippyImage.setFitHeight(70);
+    } else {
+      // Fallback: keep an empty placeholder if image not found
       System.out.println("Clippy image not found, using placeholder");
     }
+    clippyImage.setFitWidth(70);
+    clippyImage.setFitHeight(70);
 
     // Create speech bubble
     speechBubble = new VBox();
@@ -116,14 +126,17 @@ public class ClippyNotification extends VBox {
     setMaxWidth(400);
   }
 
+  /**
+   * Builds the animation sequence used for every notification: slide and fade in, stay
+   * visible, then fade out. The sequence is created once and replayed for each notification.
+   */
   private void setupAnimation() {
-    // Slide in from right
+    // Slide in from right while fading in
     TranslateTransition slideIn = new TranslateTransition(SLIDE_IN_DURATION, this);
     slideIn.setFromX(100);
     slideIn.setToX(0);
 
-    // Fade in
-    FadeTransition fadeIn = new FadeTransition(FADE_IN_DURATION, this);
+    FadeTransition fadeIn = new FadeTransition(SLIDE_IN_DURATION, this);
     fadeIn.setFromValue(0.0);
     fadeIn.setToValue(1.0);
 
@@ -134,14 +147,12 @@ public class ClippyNotification extends VBox {
     FadeTransition fadeOut = new FadeTransition(FADE_OUT_DURATION, this);
     fadeOut.setFromValue(1.0);
     fadeOut.setToValue(0.0);
-    fadeOut.setOnFinished(e -> hideNotification());
 
-    // Combine slide and fade in
-    FadeTransition combinedIn = new FadeTransition(SLIDE_IN_DURATION, this);
-    combinedIn.setFromValue(0.0);
-    combinedIn.setToValue(1.0);
-
-    animation = new SequentialTransition(combinedIn, pause, fadeOut);
+    animation = new SequentialTransition(new ParallelTransition(slideIn, fadeIn), pause, fadeOut);
+    animation.setOnFinished(e -> {
+      hideNotification();
+      showNext();
+    });
   }
 
   /**
@@ -150,62 +161,67 @@ public class ClippyNotification extends VBox {
    * @param message The message to display
    */
   public void showNotification(String message) {
-    messageLabel.setText(message);
-    displayNotification();
+    showNotification(message, null);
   }
 
   /**
-   * Shows a notification with title and message.
+   * Shows a notification with title and message. If a notification is already showing, the new
+   * one is queued. Notifications arriving in a burst with the same title are merged into one,
+   * showing the latest message and how many were merged. When the queue is full the oldest
+   * waiting notification is dropped, so a flood of messages never piles up.
    *
    * @param title The title of the notification
    * @param message The message content
    */
   public void showNotification(String title, String message) {
-    String fullMessage = title;
-    if (message != null && !message.trim().isEmpty()) {
-      fullMessage += "\n\n" + message;
+    if (current != null && current.title.equals(title) && isInDisplayPhase()) {
+      // Merge into the notification on screen and keep it visible a little longer
+      current.merge(message);
+      messageLabel.setText(current.text());
+      animation.jumpTo(SLIDE_IN_DURATION);
+      return;
     }
-    showNotification(fullMessage);
-  }
 
-  private void displayNotification() {
-    setVisible(true);
-    setManaged(true);
-    setOpacity(0.0);
-    setTranslateX(100); // Start off-screen to the right
-
-    if (animation.getStatus() == SequentialTransition.Status.RUNNING) {
-      animation.stop();
+    Notification last = queue.peekLast();
+    if (last != null && last.title.equals(title)) {
+      last.merge(message);
+      return;
     }
 
-    // Reset transforms
-    setTranslateX(100);
-    setOpacity(0.0);
-
-    // Create new slide-in animation
-    TranslateTransition slideIn = new TranslateTransition(SLIDE_IN_DURATION, this);
-    slideIn.setFromX(100);
-    slideIn.setToX(0);
-
-    FadeTransition fadeIn = new FadeTransition(SLIDE_IN_DURATION, this);
-    fadeIn.setFromValue(0.0);
-    fadeIn.setToValue(1.0);
+    if (queue.size() >= MAX_QUEUED) {
+      queue.pollFirst();
+    }
+    queue.addLast(new Notification(title, message));
 
-    PauseTransition pause = new PauseTransition(DISPLAY_DURATION);
+    if (current == null) {
+      showNext();
+    }
+  }
 
-    FadeTransition fadeOut = new FadeTransition(FADE_OUT_DURATION, this);
-    fadeOut.setFromValue(1.0);
-    fadeOut.setToValue(0.0);
-    fadeOut.setOnFinished(e -> hideNotification());
+  /**
+   * Checks whether the notification on screen is still fully visible, so a merged message can
+   * extend it without restarting the slide in.
+   */
+  private boolean isInDisplayPhase() {
+    return animation.getStatus() == Animation.Status.RUNNING
+        && animation.getCurrentTime().lessThan(SLIDE_IN_DURATION.add(DISPLAY_DURATION));
+  }
 
-    // Play animations simultaneously
-    slideIn.play();
-    fadeIn.play();
+  /**
+   * Shows the next queued notification, if any.
+   */
+  private void showNext() {
+    current = queue.pollFirst();
+    if (current == null) {
+      return;
+    }
 
-    fadeIn.setOnFinished(e -> {
-      pause.setOnFinished(ev -> fadeOut.play());
-      pause.play();
-    });
+    messageLabel.setText(current.text());
+    setVisible(true);
+    setManaged(true);
+    setOpacity(0.0);
+    setTranslateX(100); // Start off-screen to the right
+    animation.playFromStart();
   }
 
   private void hideNotification() {
@@ -214,5 +230,42 @@ public class ClippyNotification extends VBox {
     // Reset transforms for next use
     setTranslateX(0);
     setOpacity(1.0);
+    current = null;
+  }
+
+  /**
+   * Retrieves the number of notifications waiting to be shown.
+   *
+   * @return the number of queued notifications
+   */
+  public int getQueuedCount() {
+    return queue.size();
+  }
+
+  /**
+   * A notification waiting in the queue or on screen, with the number of messages merged into it.
+   */
+  private static final class Notification {
+    private final String title;
+    private String message;
+    private int count = 1;
+
+    private Notification(String title, String message) {
+      this.title = title;
+      this.message = message;
+    }
+
+    private void merge(String newMessage) {
+      message = newMessage;
+      count++;
+    }
+
+    private String text() {
+      String fullMessage = count > 1 ? title + " (x" + count + ")" : title;
+      if (message != null && !message.trim().isEmpty()) {
+        fullMessage += "\n\n" + message;
+      }
+      return fullMessage;
+    }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,163 @@
+package edu.ntnu.idi.idatt.view;
+
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.BackgroundPosition;
+import javafx.scene.layout.BackgroundRepeat;
+import javafx.scene.layout.BackgroundSize;
+import javafx.scene.paint.Paint;
+
+/**
+ * The ImageCache class is a Singleton holding the images used by the views of the application,
+ * such as player tokens, backgrounds and the Clippy character. Images are decoded in the
+ * background at the size they are displayed at, and shared by every view asking for the same
+ * image and size. Cached images are held through soft references, so the garbage collector may
+ * drop them when memory runs low; they are then decoded again on the next request.
+ */
+public class ImageCache {
+  public static final String HD_BACKGROUND = "/Images/hd_background.jpg";
+  public static final String CLIPPY = "/images/clippy.png";
+  public static final String[] TOKENS = {"cat", "racecar", "shoe", "thimble", "tophat"};
+
+  private static ImageCache instance;
+
+  private final Map<String, SoftReference<Image>> images = new ConcurrentHashMap<>();
+
+  private ImageCache() {
+  }
+
+  /**
+   * Retrieves the instance of the ImageCache, creating it on first use.
+   *
+   * @return the instance of the ImageCache
+   */
+  public static synchronized ImageCache getInstance() {
+    if (instance == null) {
+      instance = new ImageCache();
+    }
+    return instance;
+  }
+
+  /**
+   * Retrieves the classpath path of the image of a player token.
+   *
+   * @param tokenName the name of the token, case insensitive
+   * @return the resource path of the token image
+   */
+  public static String tokenPath(String tokenName) {
+    return "/images/tokens/" + tokenName.toLowerCase() + ".png";
+  }
+
+  /**
+   * Retrieves an image decoded at the given size, preserving its aspect ratio. If the image is
+   * not cached, decoding starts in the background and the returned image is filled in once it
+   * is ready; an {@code ImageView} showing it updates automatically.
+   *
+   * @param path   the classpath path of the image
+   * @param width  the width to decode the image at, or 0 for the natural width
+   * @param height the height to decode the image at, or 0 for the natural height
+   * @return the image, or null if there is no image at the given path
+   */
+  public Image getImage(String path, double width, double height) {
+    String key = path + "@" + width + "x" + height;
+    return getOrCreate(key, () -> {
+      URL url = getClass().getResource(path);
+      if (url == null) {
+        System.err.println("Image not found: " + path);
+        return null;
+      }
+      return new Image(url.toExternalForm(), width, height, true, true, true);
+    });
+  }
+
+  /**
+   * Retrieves an image at its natural size.
+   *
+   * @param path the classpath path of the image
+   * @return the image, or null if there is no image at the given path
+   * @see #getImage(String, double, double)
+   */
+  public Image getImage(String path) {
+    return getImage(path, 0, 0);
+  }
+
+  /**
+   * Retrieves a cached image by key, creating it with the given supplier if it is not cached.
+   * Used for images that are generated rather than loaded, such as fallback tokens.
+   *
+   * @param key     the key identifying the image
+   * @param creator creates the image when it is not cached; may return null
+   * @return the cached or newly created image, or null if the creator returned null
+   */
+  public Image getOrCreate(String key, Supplier<Image> creator) {
+    SoftReference<Image> reference = images.get(key);
+    Image image = reference != null ? reference.get() : null;
+    if (image == null) {
+      image = creator.get();
+      if (image != null) {
+        images.put(key, new SoftReference<>(image));
+      } else {
+        images.remove(key);
+      }
+    }
+    return image;
+  }
+
+  /**
+   * Creates a background filled with the given color and covered by the given image, similar
+   * to the CSS rule {@code -fx-background-size: cover}. The color shows while the image is
+   * still being decoded or if it could not be found.
+   *
+   * @param path the classpath path of the background image
+   * @param fill the color painted below the image
+   * @return the background
+   */
+  public Background getCoverBackground(String path, Paint fill) {
+    BackgroundFill[] fills = {new BackgroundFill(fill, null, null)};
+    Image image = getImage(path);
+    if (image == null) {
+      return new Background(fills, null);
+    }
+    BackgroundImage[] backgroundImages = {new BackgroundImage(image, BackgroundRepeat.NO_REPEAT,
+        BackgroundRepeat.NO_REPEAT, BackgroundPosition.CENTER,
+        new BackgroundSize(1, 1, true, true, false, true))};
+    return new Background(fills, backgroundImages);
+  }
+
+  /**
+   * Starts decoding the images used by the first screens in the background, so they are
+   * ready by the time a view needs them.
+   *
+   * @param tokenSizes the display sizes the token images should be prepared for
+   * @return the images being decoded
+   */
+  public List<Image> preload(double... tokenSizes) {
+    List<Image> started = new ArrayList<>();
+    started.add(getImage(HD_BACKGROUND));
+    started.add(getImage(CLIPPY, 70, 70));
+    for (String token : TOKENS) {
+      for (double size : tokenSizes) {
+        started.add(getImage(tokenPath(token), size, size));
+      }
+    }
+    started.removeIf(Objects::isNull);
+    return started;
+  }
+
+  /**
+   * Removes all images from the cache.
+   */
+  public void clear() {
+    images.clear();
+  }
+}
@@ -1,17 +1,16 @@
 package edu.ntnu.idi.idatt.view.components;
 
+import edu.ntnu.idi.idatt.view.ImageCache;
 import javafx.geometry.Insets;
 import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 
 import java.util.List;
-import java.util.Objects;
 
 /**
  * A graphical panel representing a player in a game. The panel allows user interaction for
@@ -19,6 +18,8 @@ import java.util.Objects;
  * It uses JavaFX components to provide a visual layout and manages internal state accordingly.
  */
 public class PlayerPanel {
+  public static final double TOKEN_PREVIEW_SIZE = 40;
+
   private final int playerId;
   private boolean active;
   private GridPane pane;
@@ -84,8 +85,8 @@ public class PlayerPanel {
     tokenComboBox.setPromptText("Select token");
 
     tokenImageView = new ImageView();
-    tokenImageView.setFitWidth(40);
-    tokenImageView.setFitHeight(40);
+    tokenImageView.setFitWidth(TOKEN_PREVIEW_SIZE);
+    tokenImageView.setFitHeight(TOKEN_PREVIEW_SIZE);
     tokenImageView.setPreserveRatio(true);
 
     toggleButton = new Button(active ? "Remove" : "Add");
@@ -129,23 +130,17 @@ public class PlayerPanel {
 
   /**
    * Updates the token preview image displayed in the UI.
-   * This method attempts to load an image corresponding to the specified token name
-   * and updates the token image view. If the token name is null or an exception occurs
-   * during image loading, the token image view is reset to null.
+   * This method retrieves the shared image corresponding to the specified token name
+   * from the {@link ImageCache} and updates the token image view. If the token name is null
+   * or no image exists for it, the token image view is reset to null.
    *
    * @param tokenName The name of the token whose preview image should be displayed.
    *                  If null, the preview image will be cleared.
    */
   private void updateTokenPreview(String tokenName) {
     if (tokenName != null) {
-      try {
-        Image tokenImage = new Image(Objects.requireNonNull(
-          getClass().getResourceAsStream("/images/tokens/" + tokenName.toLowerCase() + ".png")
-        ));
-        tokenImageView.setImage(tokenImage);
-      } catch (Exception e) {
-        tokenImageView.setImage(null);
-      }
+      tokenImageView.setImage(ImageCache.getInstance()
+          .getImage(ImageCache.tokenPath(tokenName), TOKEN_PREVIEW_SIZE, TOKEN_PREVIEW_SIZE));
     } else {
       tokenImageView.setImage(null);
     }
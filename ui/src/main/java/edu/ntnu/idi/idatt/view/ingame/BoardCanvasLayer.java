@@ -0,0 +1,256 @@
+package edu.ntnu.idi.idatt.view.ingame;
+
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.action.TileAction;
+import edu.ntnu.idi.idatt.analysis.TileStatistics;
+import edu.ntnu.idi.idatt.model.Board;
+import edu.ntnu.idi.idatt.model.Tile;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * The BoardCanvasLayer class draws the static parts of a game board (tiles, tile numbers,
+ * skip-turn indicators and ladder/chute connections) into a single canvas. It is used by
+ * {@link BoardView} for large boards, where creating one scene graph node per tile makes
+ * layout and CSS passes too slow. The drawing mirrors the node based renderer so both
+ * modes look the same.
+ *
+ * <p>The canvas has the size of the visible viewport rather than the whole board. Each redraw
+ * only paints the tiles and connections intersecting the visible region, using a simplified
+ * appearance when tiles become too small for details to be readable.
+ *
+ * <p>When {@link TileStatistics} are set, every tile is filled with its heatmap color instead
+ * of its normal color, so the heatmap costs no more than a normal redraw.
+ */
+public class BoardCanvasLayer extends Canvas {
+  // Below this many pixels per tile, tiles are drawn as plain squares without borders
+  private static final double OUTLINE_MIN_TILE_PIXELS = 8;
+
+  private Board board;
+  private final int[] tileIdAt;
+  private final double[] tileXs;
+  private final double[] tileYs;
+  private final double cellSize;
+  private final double tileSize;
+  private int[] connectionSources;
+  private TileStatistics heatmap;
+  private double lastRedrawMillis;
+
+  /**
+   * Constructs a canvas layer for the given board and its precomputed tile layout.
+   *
+   * @param board    the board to draw
+   * @param tileIdAt the tile ID occupying each grid cell (row * columns + column), or 0 if empty
+   * @param tileXs   the x coordinate of the top-left corner of each tile, indexed by tile ID
+   * @param tileYs   the y coordinate of the top-left corner of each tile, indexed by tile ID
+   * @param cellSize the distance between the top-left corners of two neighbouring tiles
+   * @param tileSize the width and height of a single tile
+   */
+  public BoardCanvasLayer(Board board, int[] tileIdAt, double[] tileXs, double[] tileYs,
+                          double cellSize, double tileSize) {
+    this.board = board;
+    this.tileIdAt = tileIdAt;
+    this.tileXs = tileXs;
+    this.tileYs = tileYs;
+    this.cellSize = cellSize;
+    this.tileSize = tileSize;
+    this.connectionSources = findConnectionSources();
+    setMouseTransparent(true);
+  }
+
+  /**
+   * Replaces the board drawn by this layer. The new board must have the same dimensions and
+   * tiles as the current one, since the tile layout is kept; only tile actions may differ.
+   * The layer is not redrawn until the next call to {@link #redraw}.
+   *
+   * @param board the board to draw
+   */
+  public void setBoard(Board board) {
+    this.board = board;
+    this.connectionSources = findConnectionSources();
+  }
+
+  /**
+   * Sets the statistics shown as a heatmap. The layer is not redrawn until the next call to
+   * {@link #redraw}.
+   *
+   * @param heatmap the statistics to color the tiles by, or null to draw the normal colors
+   */
+  public void setHeatmap(TileStatistics heatmap) {
+    this.heatmap = heatmap;
+  }
+
+  /**
+   * Calculates the heatmap color of a tile, from pale yellow for tiles rarely landed on to red
+   * for the tile landed on most. The scale is logarithmic, so a few very busy tiles do not
+   * wash out the differences between the others.
+   *
+   * @param landings    the landings on the tile
+   * @param maxLandings the landings on the most visited tile
+   * @return the fill color of the tile
+   */
+  static Color heatColor(long landings, long maxLandings) {
+    if (landings <= 0 || maxLandings <= 0) {
+      return Color.hsb(60, 0.05, 1);
+    }
+    double heat = Math.log1p(landings) / Math.log1p(maxLandings);
+    return Color.hsb(60 * (1 - heat), 0.15 + 0.85 * heat, 1);
+  }
+
+  /**
+   * Finds every tile with a ladder or chute leading to a tile that exists on the board.
+   *
+   * @return the IDs of the tiles where a connection starts
+   */
+  private int[] findConnectionSources() {
+    List<Integer> sources = new ArrayList<>();
+    for (int tileId = 1; tileId < tileXs.length; tileId++) {
+      Tile tile = board.getTile(tileId);
+      if (tile != null && tile.getTileAction() instanceof LadderAction) {
+        int destinationId = ((LadderAction) tile.getTileAction()).getDestinationTileId();
+        if (isRendered(tileId) && isRendered(destinationId)) {
+          sources.add(tileId);
+        }
+      }
+    }
+    return sources.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  private boolean isRendered(int tileId) {
+    return tileId >= 1 && tileId < tileXs.length && !Double.isNaN(tileXs[tileId]);
+  }
+
+  /**
+   * Redraws the visible part of the board.
+   *
+   * @param panX        the horizontal offset of the board in view coordinates
+   * @param panY        the vertical offset of the board in view coordinates
+   * @param zoom        the zoom level of the board
+   * @param showDetails whether tile numbers and skip-turn icons should be drawn
+   */
+  public void redraw(double panX, double panY, double zoom, boolean showDetails) {
+    long start = System.nanoTime();
+    GraphicsContext gc = getGraphicsContext2D();
+    gc.setTransform(1, 0, 0, 1, 0, 0);
+    gc.clearRect(0, 0, getWidth(), getHeight());
+    gc.setTransform(zoom, 0, 0, zoom, panX, panY);
+
+    double minX = -panX / zoom;
+    double minY = -panY / zoom;
+    double maxX = minX + getWidth() / zoom;
+    double maxY = minY + getHeight() / zoom;
+
+    int numRows = board.getNumRows();
+    int numCols = board.getNumCols();
+    int firstCol = Math.max(0, (int) Math.floor(minX / cellSize));
+    int lastCol = Math.min(numCols - 1, (int) Math.floor(maxX / cellSize));
+    int firstRow = Math.max(0, (int) Math.floor(minY / cellSize));
+    int lastRow = Math.min(numRows - 1, (int) Math.floor(maxY / cellSize));
+    boolean outlines = zoom * tileSize >= OUTLINE_MIN_TILE_PIXELS;
+    long maxLandings = heatmap != null ? heatmap.getMaxLandings() : 0;
+
+    for (int r = firstRow; r <= lastRow; r++) {
+      for (int c = firstCol; c <= lastCol; c++) {
+        int tileId = tileIdAt[r * numCols + c];
+        if (tileId != 0) {
+          drawTile(gc, board.getTile(tileId), outlines, showDetails, maxLandings);
+        }
+      }
+    }
+
+    gc.setLineWidth(Math.max(3, 1 / zoom));
+    for (int tileId : connectionSources) {
+      int destinationId = ((LadderAction) board.getTile(tileId).getTileAction()).getDestinationTileId();
+      double startX = tileXs[tileId] + tileSize / 2;
+      double startY = tileYs[tileId] + tileSize / 2;
+      double endX = tileXs[destinationId] + tileSize / 2;
+      double endY = tileYs[destinationId] + tileSize / 2;
+
+      if (Math.max(startX, endX) >= minX && Math.min(startX, endX) <= maxX
+          && Math.max(startY, endY) >= minY && Math.min(startY, endY) <= maxY) {
+        gc.setStroke(destinationId > tileId ? Color.LIGHTGREEN : Color.LIGHTPINK);
+        gc.strokeLine(startX, startY, endX, endY);
+      }
+    }
+
+    gc.setTransform(1, 0, 0, 1, 0, 0);
+    lastRedrawMillis = (System.nanoTime() - start) / 1_000_000.0;
+  }
+
+  /**
+   * Draws a single tile with its background, and depending on the level of detail its border,
+   * number and skip-turn indicator. With a heatmap the background is the heatmap color.
+   */
+  private void drawTile(GraphicsContext gc, Tile tile, boolean outlines, boolean showDetails,
+                        long maxLandings) {
+    int tileId = tile.getTileId();
+    double x = tileXs[tileId];
+    double y = tileYs[tileId];
+    TileAction action = tile.getTileAction();
+
+    Color fill = tileId % 2 == 0 ? Color.WHITE : Color.LIGHTGRAY;
+    if (action instanceof LadderAction) {
+      fill = ((LadderAction) action).getDestinationTileId() > tileId
+          ? Color.LIGHTGREEN : Color.LIGHTPINK;
+    }
+    if (heatmap != null) {
+      fill = heatColor(heatmap.getLandings(tileId), maxLandings);
+    }
+
+    gc.setFill(fill);
+    if (!outlines) {
+      gc.fillRect(x, y, tileSize, tileSize);
+      return;
+    }
+
+    gc.fillRoundRect(x, y, tileSize, tileSize, 10, 10);
+    gc.setStroke(Color.BLACK);
+    gc.setLineWidth(1);
+    gc.strokeRoundRect(x, y, tileSize, tileSize, 10, 10);
+
+    if (showDetails) {
+      gc.setFill(Color.BLACK);
+      gc.fillText(String.valueOf(tileId), x + tileSize / 2 - 10, y + tileSize / 2 + 10);
+
+      if (action instanceof SkipTurnAction) {
+        drawSkipTurnIndicator(gc, x + tileSize / 2, y + tileSize / 2);
+      }
+    }
+  }
+
+  /**
+   * Draws the red circle with a white cross used to mark skip-turn tiles.
+   */
+  private void drawSkipTurnIndicator(GraphicsContext gc, double centerX, double centerY) {
+    double radius = tileSize / 3;
+    double lineOffset = tileSize / 6;
+
+    gc.setGlobalAlpha(0.3);
+    gc.setFill(Color.RED);
+    gc.fillOval(centerX - radius, centerY - radius, radius * 2, radius * 2);
+    gc.setStroke(Color.DARKRED);
+    gc.setLineWidth(2);
+    gc.strokeOval(centerX - radius, centerY - radius, radius * 2, radius * 2);
+    gc.setGlobalAlpha(1.0);
+
+    gc.setStroke(Color.WHITE);
+    gc.setLineWidth(3);
+    gc.strokeLine(centerX - lineOffset, centerY - lineOffset,
+        centerX + lineOffset, centerY + lineOffset);
+    gc.strokeLine(centerX - lineOffset, centerY + lineOffset,
+        centerX + lineOffset, centerY - lineOffset);
+  }
+
+  /**
+   * Retrieves the time the most recent redraw took.
+   *
+   * @return the duration of the last redraw in milliseconds
+   */
+  public double getLastRedrawMillis() {
+    return lastRedrawMillis;
+  }
+}
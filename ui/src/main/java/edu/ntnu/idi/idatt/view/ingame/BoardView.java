@@ -0,0 +1,1004 @@
+package edu.ntnu.idi.idatt.view.ingame;
+
+import edu.ntnu.idi.idatt.StartupProfiler;
+import edu.ntnu.idi.idatt.action.LadderAction;
+import edu.ntnu.idi.idatt.action.SkipTurnAction;
+import edu.ntnu.idi.idatt.analysis.TileStatistics;
+import edu.ntnu.idi.idatt.model.Board;
+import edu.ntnu.idi.idatt.model.Player;
+import edu.ntnu.idi.idatt.model.Tile;
+import edu.ntnu.idi.idatt.view.ImageCache;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Text;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Translate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The BoardView class is responsible for rendering a visual representation of the game board and managing
+ * player interactions on the board. It extends the Pane class to provide a graphical layout for board tiles,
+ * player tokens, and other visual elements such as ladders or special tiles with actions.
+ *
+ * <p>Boards with more than {@value #CANVAS_TILE_THRESHOLD} tiles are drawn into a single
+ * {@link BoardCanvasLayer} instead of one node per tile, so only the player tokens stay live nodes.
+ *
+ * <p>The view acts as a viewport onto the board. Scrolling zooms around the mouse pointer,
+ * dragging pans the board and double-clicking fits the whole board into the view. Only tiles,
+ * labels and connections intersecting the visible region are rendered, and tile numbers and
+ * skip-turn icons are hidden when the board is zoomed far out.
+ *
+ * <p>Calling {@link #setBoard(Board)} compares the new board with the rendered one. Player tokens
+ * are always kept, an unchanged board keeps its static layer, and a board where only tile actions
+ * changed only has the affected tiles and connections updated.
+ *
+ * <p>The view can color the tiles as a heatmap of {@link TileStatistics}. Changes to the
+ * statistics only mark the heatmap as outdated, and it is recolored in the next layout pass,
+ * so it is updated at most once per frame however many turns are recorded in between.
+ *
+ * AI declaration: AI helped with methods where math implementation was required. As well as the animation
+ * method.
+ */
+public class BoardView extends Pane {
+  private Board board;
+  private Map<Integer, Rectangle> tileViews = new HashMap<>();
+  private Map<Integer, List<Node>> tileDetails = new HashMap<>();
+  private Map<Integer, Line> connections = new HashMap<>();
+  private Map<Player, ImageView> playerTokens = new HashMap<>();
+  private Map<Integer, Color> playerColors = new HashMap<>();
+  private Map<Player, Integer> tokenIndexes = new HashMap<>();
+  private int[] tileIdAt;
+  private int[] renderedActions;
+  private double[] tileXs;
+  private double[] tileYs;
+  private boolean canvasMode;
+  private BoardCanvasLayer canvasLayer;
+  private double lastRenderMillis;
+  private final FrameTimeMonitor frameTimeMonitor = new FrameTimeMonitor("BoardView");
+  private final TokenPathAnimator tokenAnimator = new TokenPathAnimator(this);
+
+  private final Group content = new Group();
+  private final Translate panTransform = new Translate();
+  private final Scale zoomTransform = new Scale(1, 1, 0, 0);
+  private double zoom = 1;
+  private boolean fitPending = true;
+  private boolean canvasDirty = true;
+  private TileStatistics tileStatistics;
+  private boolean heatmapVisible;
+  private boolean heatmapDirty;
+  private double dragStartX;
+  private double dragStartY;
+
+  /**
+   * Boards with more tiles than this are rendered into a canvas instead of the scene graph.
+   */
+  public static final int CANVAS_TILE_THRESHOLD = 144;
+
+  private static final double TILE_SIZE = 60;
+  private static final double TILE_GAP = 5;
+  private static final double CELL_SIZE = TILE_SIZE + TILE_GAP;
+  public static final double TOKEN_SIZE = 45; // Size for token images
+
+  private static final double MIN_ZOOM = 0.02;
+  private static final double MAX_ZOOM = 3.0;
+  private static final double MAX_PREF_SIZE = 800;
+  // Tile numbers and skip icons are hidden when a tile is drawn smaller than this (pixels)
+  private static final double DETAIL_MIN_TILE_PIXELS = 24;
+
+  private static final Color[] PLAYER_COLORS = {
+    Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW, Color.PURPLE
+  };
+
+  /**
+   * Constructs a BoardView for the given board and starts measuring frame times
+   * while the view is part of a scene.
+   *
+   * @param board the board to render
+   */
+  public BoardView(Board board) {
+    this.board = board;
+
+    Rectangle clip = new Rectangle();
+    clip.widthProperty().bind(widthProperty());
+    clip.heightProperty().bind(heightProperty());
+    setClip(clip);
+
+    content.getTransforms().addAll(panTransform, zoomTransform);
+    createBoardLayout();
+    getChildren().add(content);
+
+    setupViewportHandlers();
+
+    // Frame times are only measured while profiling, the monitor forces a pulse every frame
+    if (StartupProfiler.isEnabled()) {
+      sceneProperty().addListener((obs, oldScene, newScene) -> {
+        if (newScene != null) {
+          frameTimeMonitor.start();
+        } else {
+          frameTimeMonitor.stop();
+          if (frameTimeMonitor.getFrameCount() > 0) {
+            System.out.println("[frames] " + frameTimeMonitor.summary());
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * Constructs the visual layout for the game board. The position of every tile is calculated
+   * first, then the static board is drawn either into a canvas (large boards) or as individual
+   * nodes. The time spent building the static layer is recorded.
+   */
+  private void createBoardLayout() {
+    long start = System.nanoTime();
+    int numRows = board.getNumRows();
+    int numCols = board.getNumCols();
+
+    calculateTilePositions(numRows, numCols);
+    renderedActions = captureActions(board);
+    canvasMode = numRows * numCols > CANVAS_TILE_THRESHOLD;
+
+    if (canvasMode) {
+      canvasLayer = new BoardCanvasLayer(board, tileIdAt, tileXs, tileYs, CELL_SIZE, TILE_SIZE);
+      this.getChildren().add(0, canvasLayer);
+    } else {
+      createTileNodes(numRows, numCols);
+      drawConnections();
+    }
+
+    lastRenderMillis = (System.nanoTime() - start) / 1_000_000.0;
+  }
+
+  /**
+   * Calculates the top-left corner of every tile on the board and which tile occupies each
+   * grid cell. Tiles that do not exist in the board keep a NaN position and are not rendered.
+   *
+   * @param numRows The total number of rows in the grid.
+   * @param numCols The total number of columns in the grid.
+   */
+  private void calculateTilePositions(int numRows, int numCols) {
+    tileIdAt = new int[numRows * numCols];
+    tileXs = new double[numRows * numCols + 1];
+    tileYs = new double[numRows * numCols + 1];
+    Arrays.fill(tileXs, Double.NaN);
+    Arrays.fill(tileYs, Double.NaN);
+
+    for (int r = 0; r < numRows; r++) {
+      for (int c = 0; c < numCols; c++) {
+        int tileId = calculateTileId(r, c, numRows, numCols);
+        if (board.getTile(tileId) != null) {
+          tileIdAt[r * numCols + c] = tileId;
+          tileXs[tileId] = c * CELL_SIZE;
+          tileYs[tileId] = r * CELL_SIZE;
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates tile rectangles, text labels and indicators for special tile actions as
+   * individual scene graph nodes. Used for boards small enough for the node renderer.
+   *
+   * @param numRows The total number of rows in the grid.
+   * @param numCols The total number of columns in the grid.
+   */
+  private void createTileNodes(int numRows, int numCols) {
+    for (int tileId = 1; tileId <= numRows * numCols; tileId++) {
+      Tile tile = board.getTile(tileId);
+
+      if (!hasTile(tileId)) {
+        continue;
+      }
+
+      double x = tileXs[tileId];
+      double y = tileYs[tileId];
+
+      Rectangle tileRect = new Rectangle(x, y, TILE_SIZE, TILE_SIZE);
+      tileRect.setFill(tileFill(tile));
+      tileRect.setStroke(Color.BLACK);
+      tileRect.setArcHeight(10);
+      tileRect.setArcWidth(10);
+
+      Text tileText = new Text(String.valueOf(tileId));
+      tileText.setX(x + TILE_SIZE / 2 - 10);
+      tileText.setY(y + TILE_SIZE / 2 + 10);
+
+      List<Node> details = new ArrayList<>();
+      details.add(tileText);
+
+      tileViews.put(tileId, tileRect);
+      content.getChildren().addAll(tileRect, tileText);
+      tileText.toBack();
+      tileRect.toBack();
+
+      if (tile.getTileAction() != null && tile.getTileAction() instanceof SkipTurnAction) {
+        details.addAll(createSkipTurnIndicator(x, y));
+      }
+      tileDetails.put(tileId, details);
+    }
+  }
+
+  /**
+   * Determines the background color of a tile. Ladders are green, chutes are pink and
+   * other tiles alternate between white and light gray.
+   *
+   * @param tile the tile to color
+   * @return the fill color of the tile
+   */
+  private Color tileFill(Tile tile) {
+    if (tile.getTileAction() instanceof LadderAction) {
+      LadderAction ladderAction = (LadderAction) tile.getTileAction();
+      return ladderAction.getDestinationTileId() > tile.getTileId() ? Color.LIGHTGREEN : Color.LIGHTPINK;
+    }
+    return tile.getTileId() % 2 == 0 ? Color.WHITE : Color.LIGHTGRAY;
+  }
+
+  /**
+   * Draws visual connections between tiles on the board that are linked by special actions,
+   * such as ladders or chutes. These connections are represented as lines between the source
+   * and destination tiles.
+   *
+   * The method iterates through all tiles of the board and checks if a tile has a special
+   * action, specifically a {@link LadderAction}. If such an action exists, a line is drawn
+   * from the source tile to the destination tile determined by the action. The line's color
+   * represents the direction of the action:
+   * - Green for moving up (ladder).
+   * - Pink for moving down (chute).
+   *
+   * The visual components for the connections are added to the current pane for display.
+   */
+  private void drawConnections() {
+    for (int tileId = 1; tileId <= board.getNumRows() * board.getNumCols(); tileId++) {
+      createConnection(tileId);
+    }
+  }
+
+  /**
+   * Creates the connection line starting at the given tile, if the tile has a
+   * {@link LadderAction} leading to a tile shown on the board.
+   *
+   * @param tileId the ID of the tile where the connection starts
+   */
+  private void createConnection(int tileId) {
+    Tile tile = board.getTile(tileId);
+    if (tile != null && tile.getTileAction() != null && tile.getTileAction() instanceof LadderAction) {
+      LadderAction ladderAction = (LadderAction) tile.getTileAction();
+      int destinationTileId = ladderAction.getDestinationTileId();
+
+      Rectangle sourceTile = tileViews.get(tileId);
+      Rectangle destinationTile = tileViews.get(destinationTileId);
+
+      if (sourceTile != null && destinationTile != null) {
+        double startX = sourceTile.getX() + TILE_SIZE / 2;
+        double startY = sourceTile.getY() + TILE_SIZE / 2;
+        double endX = destinationTile.getX() + TILE_SIZE / 2;
+        double endY = destinationTile.getY() + TILE_SIZE / 2;
+
+        Line connection = new Line(startX, startY, endX, endY);
+        connection.setStrokeWidth(3);
+
+        if (destinationTileId > tileId) {
+          connection.setStroke(Color.LIGHTGREEN);
+        } else {
+          connection.setStroke(Color.LIGHTPINK);
+        }
+
+        connections.put(tileId, connection);
+        content.getChildren().add(connection);
+        // Keep connections below the player tokens
+        for (ImageView token : playerTokens.values()) {
+          token.toFront();
+        }
+      }
+    }
+  }
+
+  /**
+   * Replaces the board shown by this view. The new board is compared with the rendered one:
+   * <ul>
+   *   <li>If the dimensions or the set of tiles differ, the static layer is rebuilt.</li>
+   *   <li>If only tile actions differ, only the affected tiles and connections are updated.</li>
+   *   <li>If nothing differs, the static layer is kept as it is.</li>
+   * </ul>
+   * Player tokens are kept in all cases, so the caller only needs to reposition them.
+   *
+   * @param newBoard the board to show
+   */
+  public void setBoard(Board newBoard) {
+    Board oldBoard = board;
+    board = newBoard;
+
+    if (!hasSameLayout(oldBoard, newBoard)) {
+      clearStaticLayer();
+      createBoardLayout();
+      // Tile positions changed, so tokens are moved to their tiles in the new layout
+      for (Player player : playerTokens.keySet()) {
+        int tileId = tokenAnimator.getPlannedTile(player);
+        if (hasTile(tileId)) {
+          placePlayer(player, tileId);
+        }
+      }
+      fitPending = true;
+      heatmapDirty = true;
+      requestLayout();
+      return;
+    }
+
+    int[] newActions = captureActions(newBoard);
+    List<Integer> changedTiles = new ArrayList<>();
+    for (int tileId = 1; tileId < newActions.length; tileId++) {
+      if (newActions[tileId] != renderedActions[tileId]) {
+        changedTiles.add(tileId);
+      }
+    }
+    renderedActions = newActions;
+
+    if (canvasMode) {
+      canvasLayer.setBoard(newBoard);
+      if (!changedTiles.isEmpty()) {
+        canvasDirty = true;
+        requestLayout();
+      }
+    } else {
+      for (int tileId : changedTiles) {
+        updateTileNodes(tileId);
+      }
+      updateViewport();
+    }
+
+    if (!changedTiles.isEmpty()) {
+      // Updated tiles got their normal color back
+      refreshHeatmap();
+    }
+  }
+
+  /**
+   * Sets the statistics shown when the heatmap is visible.
+   *
+   * @param tileStatistics the statistics of the tiles, or null to show none
+   */
+  public void setTileStatistics(TileStatistics tileStatistics) {
+    this.tileStatistics = tileStatistics;
+    refreshHeatmap();
+  }
+
+  /**
+   * Shows or hides the heatmap, which colors every tile by how often players landed on it.
+   *
+   * @param visible true to show the heatmap, false to show the normal tile colors
+   */
+  public void setHeatmapVisible(boolean visible) {
+    if (visible != heatmapVisible) {
+      heatmapVisible = visible;
+      heatmapDirty = true;
+      requestLayout();
+    }
+  }
+
+  public boolean isHeatmapVisible() {
+    return heatmapVisible;
+  }
+
+  /**
+   * Marks the heatmap as outdated after the statistics changed. The tiles are recolored in the
+   * next layout pass, so calling this after every turn costs nothing extra.
+   */
+  public void refreshHeatmap() {
+    if (heatmapVisible) {
+      heatmapDirty = true;
+      requestLayout();
+    }
+  }
+
+  /**
+   * Colors the tiles by the statistics, or restores their normal colors when the heatmap is
+   * hidden. In canvas mode the colors are applied by the next canvas redraw.
+   */
+  private void applyHeatmap() {
+    TileStatistics shown = heatmapVisible ? tileStatistics : null;
+    if (canvasMode) {
+      canvasLayer.setHeatmap(shown);
+      canvasDirty = true;
+      return;
+    }
+    long maxLandings = shown != null ? shown.getMaxLandings() : 0;
+    for (Map.Entry<Integer, Rectangle> entry : tileViews.entrySet()) {
+      int tileId = entry.getKey();
+      entry.getValue().setFill(shown != null
+          ? BoardCanvasLayer.heatColor(shown.getLandings(tileId), maxLandings)
+          : tileFill(board.getTile(tileId)));
+    }
+  }
+
+  /**
+   * Checks whether two boards have the same dimensions and tiles, so that one can be
+   * rendered using the tile layout of the other.
+   */
+  private boolean hasSameLayout(Board oldBoard, Board newBoard) {
+    if (oldBoard.getNumRows() != newBoard.getNumRows()
+        || oldBoard.getNumCols() != newBoard.getNumCols()) {
+      return false;
+    }
+    for (int tileId = 1; tileId < tileXs.length; tileId++) {
+      if (hasTile(tileId) != (newBoard.getTile(tileId) != null)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Records a compact description of the action on every tile, used to find the tiles
+   * whose appearance changes when a new board is set. Tiles without an action are stored
+   * as 0, skip-turn tiles as -1, unknown actions as -2 and ladders as their destination.
+   */
+  private int[] captureActions(Board source) {
+    int[] actions = new int[source.getNumRows() * source.getNumCols() + 1];
+    for (int tileId = 1; tileId < actions.length; tileId++) {
+      Tile tile = source.getTile(tileId);
+      if (tile == null || tile.getTileAction() == null) {
+        actions[tileId] = 0;
+      } else if (tile.getTileAction() instanceof LadderAction) {
+        actions[tileId] = ((LadderAction) tile.getTileAction()).getDestinationTileId();
+      } else if (tile.getTileAction() instanceof SkipTurnAction) {
+        actions[tileId] = -1;
+      } else {
+        actions[tileId] = -2;
+      }
+    }
+    return actions;
+  }
+
+  /**
+   * Updates the nodes of a single tile after its action changed: the tile color, the
+   * skip-turn indicator and the connection starting at the tile.
+   *
+   * @param tileId the ID of the changed tile
+   */
+  private void updateTileNodes(int tileId) {
+    Tile tile = board.getTile(tileId);
+    Rectangle tileRect = tileViews.get(tileId);
+    if (tile == null || tileRect == null) {
+      return;
+    }
+
+    tileRect.setFill(tileFill(tile));
+
+    List<Node> details = tileDetails.get(tileId);
+    Node label = details.get(0);
+    content.getChildren().removeAll(details.subList(1, details.size()));
+    List<Node> newDetails = new ArrayList<>();
+    newDetails.add(label);
+    if (tile.getTileAction() instanceof SkipTurnAction) {
+      newDetails.addAll(createSkipTurnIndicator(tileXs[tileId], tileYs[tileId]));
+    }
+    tileDetails.put(tileId, newDetails);
+
+    Line oldConnection = connections.remove(tileId);
+    if (oldConnection != null) {
+      content.getChildren().remove(oldConnection);
+    }
+    createConnection(tileId);
+  }
+
+  /**
+   * Removes all tiles, labels, indicators and connections, leaving only the player tokens.
+   */
+  private void clearStaticLayer() {
+    if (canvasLayer != null) {
+      getChildren().remove(canvasLayer);
+      canvasLayer = null;
+    }
+    content.getChildren().retainAll(playerTokens.values());
+    tileViews.clear();
+    tileDetails.clear();
+    connections.clear();
+  }
+
+  /**
+   * Removes the tokens of all players, for example when a different set of players
+   * is shown on the board.
+   */
+  public void clearPlayerTokens() {
+    tokenAnimator.clear();
+    content.getChildren().removeAll(playerTokens.values());
+    playerTokens.clear();
+    playerColors.clear();
+    tokenIndexes.clear();
+  }
+
+  /**
+   * Checks whether this view currently shows a token for exactly the given players.
+   *
+   * @param players the players to compare with
+   * @return true if there is a token for every given player and no other tokens
+   */
+  public boolean hasTokensFor(List<Player> players) {
+    return playerTokens.size() == players.size() && playerTokens.keySet().containsAll(players);
+  }
+
+  /**
+   * Calculates the tile ID based on the input row, column, number of rows, and number of columns,
+   * assuming an alternating left-to-right and right-to-left numbering pattern for each row.
+   *
+   * @param row The row index of the tile, starting from the top of the grid.
+   * @param col The column index of the tile, starting from the left of the grid.
+   * @param numRows The total number of rows in the grid.
+   * @param numCols The total number of columns in the grid.
+   * @return The calculated tile ID that uniquely identifies the tile in the grid.
+   */
+  private int calculateTileId(int row, int col, int numRows, int numCols) {
+    int rowFromBottom = numRows - 1 - row;
+    if (rowFromBottom % 2 == 0) {
+      return rowFromBottom * numCols + col + 1;
+    } else {
+      return rowFromBottom * numCols + (numCols - col);
+    }
+  }
+
+  /**
+   * Registers the mouse handlers used to zoom and pan the board, and keeps the viewport
+   * up to date when the view is resized.
+   */
+  private void setupViewportHandlers() {
+    addEventHandler(ScrollEvent.SCROLL, event -> {
+      zoomAt(event.getX(), event.getY(), Math.pow(1.0015, event.getDeltaY()));
+      event.consume();
+    });
+
+    addEventHandler(MouseEvent.MOUSE_PRESSED, event -> {
+      dragStartX = event.getX();
+      dragStartY = event.getY();
+    });
+
+    addEventHandler(MouseEvent.MOUSE_DRAGGED, event -> {
+      panBy(event.getX() - dragStartX, event.getY() - dragStartY);
+      dragStartX = event.getX();
+      dragStartY = event.getY();
+    });
+
+    addEventHandler(MouseEvent.MOUSE_CLICKED, event -> {
+      if (event.getButton() == MouseButton.PRIMARY && event.getClickCount() == 2) {
+        fitToView();
+      }
+    });
+
+    widthProperty().addListener((obs, oldWidth, newWidth) -> updateViewport());
+    heightProperty().addListener((obs, oldHeight, newHeight) -> updateViewport());
+  }
+
+  /**
+   * Zooms the board by the given factor while keeping the board point under (x, y) in place.
+   *
+   * @param x      the x coordinate of the zoom center in view coordinates
+   * @param y      the y coordinate of the zoom center in view coordinates
+   * @param factor the factor to multiply the current zoom level with
+   */
+  public void zoomAt(double x, double y, double factor) {
+    double newZoom = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom * factor));
+    double scale = newZoom / zoom;
+    panTransform.setX(x - (x - panTransform.getX()) * scale);
+    panTransform.setY(y - (y - panTransform.getY()) * scale);
+    zoom = newZoom;
+    updateViewport();
+  }
+
+  /**
+   * Moves the visible region of the board by the given distance in view coordinates.
+   *
+   * @param dx the horizontal distance to pan
+   * @param dy the vertical distance to pan
+   */
+  public void panBy(double dx, double dy) {
+    panTransform.setX(panTransform.getX() + dx);
+    panTransform.setY(panTransform.getY() + dy);
+    updateViewport();
+  }
+
+  /**
+   * Zooms and pans the board so the whole board is visible and centered. The board is never
+   * enlarged beyond its natural size.
+   */
+  public void fitToView() {
+    if (getWidth() <= 0 || getHeight() <= 0) {
+      fitPending = true;
+      return;
+    }
+    double boardWidth = getBoardWidth();
+    double boardHeight = getBoardHeight();
+    zoom = Math.max(MIN_ZOOM, Math.min(1.0, Math.min(getWidth() / boardWidth, getHeight() / boardHeight)));
+    panTransform.setX((getWidth() - boardWidth * zoom) / 2);
+    panTransform.setY((getHeight() - boardHeight * zoom) / 2);
+    updateViewport();
+  }
+
+  /**
+   * Applies the current zoom level and culls everything outside the visible region. In canvas
+   * mode the canvas is redrawn during the next layout pass, so several pan or zoom events within
+   * one frame only cause a single redraw.
+   */
+  private void updateViewport() {
+    zoomTransform.setX(zoom);
+    zoomTransform.setY(zoom);
+
+    if (canvasMode) {
+      canvasDirty = true;
+      requestLayout();
+      return;
+    }
+
+    double minX = -panTransform.getX() / zoom;
+    double minY = -panTransform.getY() / zoom;
+    double maxX = minX + getWidth() / zoom;
+    double maxY = minY + getHeight() / zoom;
+    boolean showDetails = zoom * TILE_SIZE >= DETAIL_MIN_TILE_PIXELS;
+
+    for (Map.Entry<Integer, Rectangle> entry : tileViews.entrySet()) {
+      Rectangle rect = entry.getValue();
+      boolean visible = rect.getX() + TILE_SIZE >= minX && rect.getX() <= maxX
+          && rect.getY() + TILE_SIZE >= minY && rect.getY() <= maxY;
+      rect.setVisible(visible);
+      for (Node detail : tileDetails.getOrDefault(entry.getKey(), List.of())) {
+        detail.setVisible(visible && showDetails);
+      }
+    }
+
+    for (Line line : connections.values()) {
+      line.setVisible(Math.max(line.getStartX(), line.getEndX()) >= minX
+          && Math.min(line.getStartX(), line.getEndX()) <= maxX
+          && Math.max(line.getStartY(), line.getEndY()) >= minY
+          && Math.min(line.getStartY(), line.getEndY()) <= maxY);
+    }
+  }
+
+  @Override
+  protected void layoutChildren() {
+    super.layoutChildren();
+
+    if (fitPending && getWidth() > 0 && getHeight() > 0) {
+      fitPending = false;
+      fitToView();
+    }
+
+    if (heatmapDirty) {
+      heatmapDirty = false;
+      applyHeatmap();
+    }
+
+    if (canvasMode) {
+      if (canvasLayer.getWidth() != getWidth() || canvasLayer.getHeight() != getHeight()) {
+        canvasLayer.setWidth(getWidth());
+        canvasLayer.setHeight(getHeight());
+        canvasDirty = true;
+      }
+      if (canvasDirty) {
+        canvasDirty = false;
+        canvasLayer.redraw(panTransform.getX(), panTransform.getY(), zoom,
+            zoom * TILE_SIZE >= DETAIL_MIN_TILE_PIXELS);
+        lastRenderMillis = canvasLayer.getLastRedrawMillis();
+      }
+    }
+  }
+
+  @Override
+  protected double computePrefWidth(double height) {
+    return Math.min(getBoardWidth(), MAX_PREF_SIZE);
+  }
+
+  @Override
+  protected double computePrefHeight(double width) {
+    return Math.min(getBoardHeight(), MAX_PREF_SIZE);
+  }
+
+  private double getBoardWidth() {
+    return board.getNumCols() * CELL_SIZE;
+  }
+
+  private double getBoardHeight() {
+    return board.getNumRows() * CELL_SIZE;
+  }
+
+  /**
+   * Updates the position of a player's token on the game board.
+   * If the player's token does not already exist, it is created and added to the board.
+   * The token moves straight to the tile once the moves queued before it have played.
+   * Player tokens are adjusted slightly to avoid overlapping if multiple players share the
+   * same tile.
+   *
+   * @param player The player whose position is being updated. Cannot be null.
+   * @param tileId The ID of the tile to which the player's token should be moved. Must correspond to a valid tile.
+   */
+  public void updatePlayerPos(Player player, int tileId) {
+    if (!hasTile(tileId)) {
+      return;
+    }
+
+    getOrCreateToken(player).toFront();
+    int plannedTile = tokenAnimator.getPlannedTile(player);
+    if (plannedTile == 0) {
+      // A new token is placed directly instead of flying in from the corner of the board
+      placePlayer(player, tileId);
+    } else if (plannedTile != tileId) {
+      tokenAnimator.jump(player, tileId, 0, null);
+    }
+  }
+
+  /**
+   * Places a player's token on a tile immediately, without animation. Used when many moves
+   * are resolved between two frames, where animating each move would only fall behind.
+   *
+   * @param player The player whose token is placed.
+   * @param tileId The ID of the tile to place the token on.
+   */
+  public void placePlayer(Player player, int tileId) {
+    if (!hasTile(tileId)) {
+      return;
+    }
+
+    ImageView playerToken = getOrCreateToken(player);
+    tokenAnimator.cancel(player, tileId);
+    playerToken.setTranslateX(tokenTargetX(player, tileId) - playerToken.getX());
+    playerToken.setTranslateY(tokenTargetY(player, tileId) - playerToken.getY());
+  }
+
+  /**
+   * Checks whether the given tile ID belongs to a tile that is rendered on this board view.
+   *
+   * @param tileId the ID of the tile
+   * @return true if the tile exists and has a position on the board
+   */
+  boolean hasTile(int tileId) {
+    return tileId >= 1 && tileId < tileXs.length && !Double.isNaN(tileXs[tileId]);
+  }
+
+  /**
+   * Retrieves the token for a player, creating it and adding it to the board if needed.
+   *
+   * @param player the player who owns the token
+   * @return the player's token
+   */
+  ImageView getOrCreateToken(Player player) {
+    ImageView playerToken = playerTokens.get(player);
+    if (playerToken == null) {
+      playerToken = createPlayerToken(player);
+      playerTokens.put(player, playerToken);
+      content.getChildren().add(playerToken);
+    }
+    return playerToken;
+  }
+
+  /**
+   * Calculates the x coordinate of a player's token on a tile. Tokens are offset slightly
+   * based on the order the tokens were created in, to avoid overlapping when several players
+   * share a tile.
+   */
+  double tokenTargetX(Player player, int tileId) {
+    int playerIndex = tokenIndexes.getOrDefault(player, 0);
+    return tileXs[tileId] + TILE_SIZE / 2 - TOKEN_SIZE / 2
+        + (playerIndex % 2) * (TOKEN_SIZE * 0.7) - TOKEN_SIZE * 0.35;
+  }
+
+  /**
+   * Calculates the y coordinate of a player's token on a tile.
+   *
+   * @see #tokenTargetX(Player, int)
+   */
+  double tokenTargetY(Player player, int tileId) {
+    int playerIndex = tokenIndexes.getOrDefault(player, 0);
+    return tileYs[tileId] + TILE_SIZE / 2 - TOKEN_SIZE / 2
+        + (playerIndex / 2) * (TOKEN_SIZE * 0.7) - TOKEN_SIZE * 0.35;
+  }
+
+  /**
+   * Creates a visual token representation for a player. The token is displayed as an
+   * {@code ImageView} on the game board, using the image shared through {@link ImageCache}.
+   * If the token's image cannot be loaded, a fallback graphical representation
+   * (e.g., a colored circle) is used instead. The token is
+   * colored based on the player's index, cycling through a predefined list of colors.
+   *
+   * @param player The player for whom the token is being created. Must not be null and
+   *               should have a valid token type.
+   * @return An {@code ImageView} representing the player's token.
+   */
+  private ImageView createPlayerToken(Player player) {
+    int playerIndex = tokenIndexes.size();
+    tokenIndexes.put(player, playerIndex);
+    Color playerColor = PLAYER_COLORS[playerIndex % PLAYER_COLORS.length];
+    playerColors.put(playerIndex, playerColor);
+
+    ImageView playerToken = new ImageView();
+    playerToken.setFitWidth(TOKEN_SIZE);
+    playerToken.setFitHeight(TOKEN_SIZE);
+    playerToken.setPreserveRatio(true);
+
+    // Token images are shared with other views through the image cache
+    String tokenType = player.getTokenType().toLowerCase();
+    Image tokenImage = ImageCache.getInstance()
+        .getImage(ImageCache.tokenPath(tokenType), TOKEN_SIZE, TOKEN_SIZE);
+    if (tokenImage == null) {
+      // Fallback: use a colored circle if the image can't be loaded
+      System.out.println("Could not load token image for: " + tokenType + ", using fallback");
+      tokenImage = ImageCache.getInstance()
+          .getOrCreate("fallback-token-" + playerColor, () -> createFallbackImage(playerColor));
+    }
+    playerToken.setImage(tokenImage);
+
+    return playerToken;
+  }
+
+  /**
+   * Creates a fallback image when token image cannot be loaded. The result is cached per
+   * color, so the canvas is only snapshotted once.
+   */
+  private Image createFallbackImage(Color color) {
+    try {
+      // Create a simple colored circle as fallback
+      javafx.scene.canvas.Canvas canvas = new javafx.scene.canvas.Canvas(TOKEN_SIZE, TOKEN_SIZE);
+      javafx.scene.canvas.GraphicsContext gc = canvas.getGraphicsContext2D();
+
+      gc.setFill(color);
+      gc.fillOval(2, 2, TOKEN_SIZE - 4, TOKEN_SIZE - 4);
+      gc.setStroke(Color.BLACK);
+      gc.setLineWidth(2);
+      gc.strokeOval(2, 2, TOKEN_SIZE - 4, TOKEN_SIZE - 4);
+
+      javafx.scene.SnapshotParameters params = new javafx.scene.SnapshotParameters();
+      params.setFill(Color.TRANSPARENT);
+      return canvas.snapshot(params, null);
+    } catch (Exception e) {
+      // If all else fails, return null and handle gracefully
+      return null;
+    }
+  }
+
+  /**
+   * Creates a visual indicator on the board to represent a skip-turn tile.
+   * The indicator consists of a red translucent circle with a dark red border
+   * and two intersecting white lines (forming an X) at its center.
+   * This method adds the graphical elements to the board content.
+   *
+   * @param x The X-coordinate of the top-left corner of the tile where the indicator will be placed.
+   * @param y The Y-coordinate of the top-left corner of the tile where the indicator will be placed.
+   * @return the nodes making up the indicator
+   */
+  private List<Node> createSkipTurnIndicator(double x, double y) {
+
+    Circle blockCircle = new Circle(x + TILE_SIZE / 2, y + TILE_SIZE / 2, TILE_SIZE / 3);
+    blockCircle.setFill(Color.RED);
+    blockCircle.setOpacity(0.3);
+    blockCircle.setStroke(Color.DARKRED);
+    blockCircle.setStrokeWidth(2);
+
+    double centerX = x + TILE_SIZE / 2;
+    double centerY = y + TILE_SIZE / 2;
+    double lineOffset = TILE_SIZE / 6;
+
+    Line line1 = new Line(centerX - lineOffset, centerY - lineOffset,
+      centerX + lineOffset, centerY + lineOffset
+    );
+    Line line2 = new Line(centerX - lineOffset, centerY + lineOffset,
+      centerX + lineOffset, centerY - lineOffset
+    );
+
+    line1.setStroke(Color.WHITE);
+    line1.setStrokeWidth(3);
+    line2.setStroke(Color.WHITE);
+    line2.setStrokeWidth(3);
+
+    content.getChildren().addAll(blockCircle, line1, line2);
+    blockCircle.toFront();
+    line1.toFront();
+    line2.toFront();
+    for (ImageView token : playerTokens.values()) {
+      token.toFront();
+    }
+
+    return List.of(blockCircle, line1, line2);
+  }
+
+
+  public Color getPlayerColor(int playerIndex) {
+    return playerColors.getOrDefault(playerIndex, Color.GRAY);
+  }
+
+  /**
+   * Animates the movement of a player's token to a specified tile on the game board. If the token
+   * for the player does not exist, it is created and added to the board. The token walks across
+   * every tile between its current tile and the destination, following the board order. The move
+   * is queued behind other token moves and played by the board's {@link TokenPathAnimator}.
+   *
+   * @param player The player whose token is being animated. Must not be null.
+   * @param tileId The ID of the tile where the player's token should move. Must correspond to a valid tile.
+   * @param onComplete An optional callback to be executed after the animation completes. Can be null.
+   */
+  public void animatePlayerMove(Player player, int tileId, Runnable onComplete) {
+    if (!hasTile(tileId)) {
+      if (onComplete != null) onComplete.run();
+      return;
+    }
+
+    getOrCreateToken(player).toFront();
+    tokenAnimator.walk(player, tileId, onComplete);
+  }
+
+  /**
+   * Animates a player's token moving straight to a tile, as when climbing a ladder or sliding
+   * down a chute. The token waits for the given delay before it starts moving.
+   *
+   * @param player      The player whose token is being animated. Must not be null.
+   * @param tileId      The ID of the destination tile.
+   * @param delayMillis The pause before the token starts moving, in milliseconds.
+   * @param onComplete  An optional callback to be executed after the animation completes. Can be null.
+   */
+  public void animatePlayerJump(Player player, int tileId, double delayMillis, Runnable onComplete) {
+    if (!hasTile(tileId)) {
+      if (onComplete != null) onComplete.run();
+      return;
+    }
+
+    getOrCreateToken(player).toFront();
+    tokenAnimator.jump(player, tileId, delayMillis, onComplete);
+  }
+
+  /**
+   * Retrieves the animator moving the player tokens, for example to change the animation speed.
+   *
+   * @return the token animator of this board view
+   */
+  public TokenPathAnimator getTokenAnimator() {
+    return tokenAnimator;
+  }
+
+  /**
+   * Checks whether the static board is drawn into a canvas rather than as individual nodes.
+   *
+   * @return true if the canvas renderer is in use
+   */
+  public boolean isCanvasMode() {
+    return canvasMode;
+  }
+
+  /**
+   * Retrieves the current zoom level of the board.
+   *
+   * @return the zoom level, where 1.0 is the natural board size
+   */
+  public double getZoom() {
+    return zoom;
+  }
+
+  /**
+   * Retrieves the time it took to build the static board layer, or in canvas mode the time
+   * of the most recent canvas redraw.
+   *
+   * @return the render time of the static board in milliseconds
+   */
+  public double getLastRenderMillis() {
+    return lastRenderMillis;
+  }
+
+  /**
+   * Retrieves the monitor measuring frame times while this board view is displayed. The
+   * monitor only runs when startup profiling is enabled.
+   *
+   * @return the frame time monitor of this board view
+   */
+  public FrameTimeMonitor getFrameTimeMonitor() {
+    return frameTimeMonitor;
+  }
+}
@@ -1,9 +1,16 @@
 package edu.ntnu.idi.idatt.view.ingame;
 
-import javafx.animation.RotateTransition;
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.geometry.Insets;
+import javafx.geometry.Pos;
 import javafx.scene.Group;
-import javafx.scene.layout.HBox;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Rectangle;
@@ -18,15 +25,29 @@ import java.util.List;
  * Each die within this group can be individually rolled or have its value explicitly set.
  * The class also displays the total value of all dice.
  *
+ * <p>The number of dice can be changed in place with {@link #setDiceCount(int)}. Die views are
+ * kept in a pool and reused, dice are made smaller and wrapped onto several rows when there are
+ * many of them, and all dice share a single roll animation.
  */
 public class DiceView extends Group {
-  private List<SingleDieView> diceViews = new ArrayList<>();
+  private final List<SingleDieView> diePool = new ArrayList<>();
+  private int diceCount;
   private Text totalText;
-  private HBox diceContainer;
+  private FlowPane diceContainer;
+
+  private final DoubleProperty rollAngle = new SimpleDoubleProperty();
+  private final Timeline rollAnimation = new Timeline(
+      new KeyFrame(Duration.ZERO, new KeyValue(rollAngle, 0)),
+      new KeyFrame(ROLL_DURATION, new KeyValue(rollAngle, 720, Interpolator.EASE_BOTH)));
 
   private static final double DIE_SIZE = 60;
   private static final double DIE_SPACING = 10;
   private static final int DEFAULT_DICE_COUNT = 1;
+  private static final Duration ROLL_DURATION = Duration.millis(1000);
+  // Dice per row before wrapping, and the die sizes used as the number of dice grows
+  private static final int MAX_DICE_PER_ROW = 10;
+  private static final double MEDIUM_DIE_SIZE = 40;
+  private static final double SMALL_DIE_SIZE = 28;
 
   public DiceView() {
     this(DEFAULT_DICE_COUNT);
@@ -34,30 +55,57 @@ public class DiceView extends Group {
 
   /**
    * Constructs a DiceView with the specified number of dice.
-   * Initializes and arranges the dice views inside an HBox container,
+   * Initializes and arranges the dice views inside a wrapping container,
    * and displays the total of the dice values.
    *
    * @param diceCount the number of dice to create and display
    */
   public DiceView(int diceCount) {
-    diceContainer = new HBox(DIE_SPACING);
+    diceContainer = new FlowPane(DIE_SPACING, DIE_SPACING);
     diceContainer.setPadding(new Insets(5));
 
-    for (int i = 0; i < diceCount; i++) {
+    totalText = new Text();
+
+    VBox layout = new VBox(5, diceContainer, totalText);
+    layout.setAlignment(Pos.CENTER);
+    getChildren().add(layout);
+
+    setDiceCount(diceCount);
+  }
+
+  /**
+   * Changes the number of dice shown. Die views are taken from a pool, so dice that were shown
+   * before are reused, and only missing ones are created. All dice are reset to 1.
+   *
+   * @param diceCount the number of dice to display
+   */
+  public void setDiceCount(int diceCount) {
+    rollAnimation.stop();
+    rollAngle.set(0);
+
+    while (diePool.size() < diceCount) {
       SingleDieView dieView = new SingleDieView();
-      diceViews.add(dieView);
-      diceContainer.getChildren().add(dieView);
+      dieView.rotateProperty().bind(rollAngle);
+      diePool.add(dieView);
     }
+    this.diceCount = diceCount;
 
-    totalText = new Text("Total: " + getTotal());
-    totalText.setTranslateY(DIE_SIZE + 20);
-    totalText.setTranslateX(DIE_SIZE / 2);
-
-    getChildren().addAll(diceContainer, totalText);
+    double dieSize = diceCount <= 5 ? DIE_SIZE
+        : diceCount <= MAX_DICE_PER_ROW ? MEDIUM_DIE_SIZE : SMALL_DIE_SIZE;
+    int perRow = Math.min(diceCount, MAX_DICE_PER_ROW);
+    for (int i = 0; i < diceCount; i++) {
+      diePool.get(i).setSize(dieSize);
+    }
+    diceContainer.setPrefWrapLength(perRow * (dieSize + DIE_SPACING));
+    diceContainer.getChildren().setAll(diePool.subList(0, diceCount));
 
     setValues(new int[diceCount]);
   }
 
+  public int getDiceCount() {
+    return diceCount;
+  }
+
   /**
    * Sets the values for the dice views based on the provided array of integers.
    * If the provided array has fewer elements than the number of dice, the remaining
@@ -68,15 +116,15 @@ public class DiceView extends Group {
    */
   public void setValues(int[] values) {
     // Use the minimum length to avoid index errors
-    int length = Math.min(values.length, diceViews.size());
+    int length = Math.min(values.length, diceCount);
 
     for (int i = 0; i < length; i++) {
-      diceViews.get(i).setValue(values[i]);
+      diePool.get(i).setValue(values[i]);
     }
 
     // If values array is shorter, set remaining dice to a default value (e.g., 1)
-    for (int i = length; i < diceViews.size(); i++) {
-      diceViews.get(i).setValue(1);
+    for (int i = length; i < diceCount; i++) {
+      diePool.get(i).setValue(1);
     }
 
     totalText.setText("Total: " + getTotal());
@@ -84,28 +132,31 @@ public class DiceView extends Group {
 
   public int getTotal() {
     int total = 0;
-    for (SingleDieView dieView : diceViews) {
-      total += dieView.getValue();
+    for (int i = 0; i < diceCount; i++) {
+      total += diePool.get(i).getValue();
     }
     return total;
   }
 
+  /**
+   * Plays the roll animation. All dice are rotated by the same animation, so rolling many dice
+   * costs no more than rolling one.
+   */
   public void roll() {
-    for (SingleDieView dieView : diceViews) {
-      dieView.roll();
-    }
+    rollAnimation.playFromStart();
   }
 
   /**
    * Represents a single die view with a graphical representation of its value.
    * The die is represented as a square with rounded corners and black dots indicating
-   * the value. This class provides functionality for updating the die's value and
-   * animating a roll transition.
+   * the value. This class provides functionality for updating the die's value and size.
+   * The dot nodes are created once and only shown or hidden when the value changes.
    */
   private static class SingleDieView extends Group {
     private final Rectangle dice;
     private final Circle[] dots;
     private int value;
+    private double size = DIE_SIZE;
 
     public SingleDieView() {
       dice = new Rectangle(0, 0, DIE_SIZE, DIE_SIZE);
@@ -135,6 +186,25 @@ public class DiceView extends Group {
       setValue(1);
     }
 
+    /**
+     * Changes the size of the die, moving the existing dots to match.
+     *
+     * @param size the width and height of the die
+     */
+    public void setSize(double size) {
+      if (size == this.size) {
+        return;
+      }
+      this.size = size;
+      dice.setWidth(size);
+      dice.setHeight(size);
+      for (int i = 0; i < dots.length; i++) {
+        dots[i].setCenterX((i % 3 + 1) * size / 4);
+        dots[i].setCenterY((i / 3 + 1) * size / 4);
+        dots[i].setRadius(size / 10);
+      }
+    }
+
     public void setValue(int value) {
       if (value < 1 || value > 6) {
         value = 1; // Default to 1 for invalid values
@@ -194,16 +264,5 @@ public class DiceView extends Group {
     public int getValue() {
       return value;
     }
-
-    /**
-     * Animates the rolling of the die using a rotation transition.
-     */
-    public void roll() {
-      // Animate the die roll
-      RotateTransition rotation = new RotateTransition(Duration.millis(500), this);
-      rotation.setByAngle(360);
-      rotation.setCycleCount(2);
-      rotation.play();
-    }
   }
 }
\ No newline at end of file
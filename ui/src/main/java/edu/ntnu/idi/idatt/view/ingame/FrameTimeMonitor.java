@@ -0,0 +1,99 @@
+package edu.ntnu.idi.idatt.view.ingame;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * The FrameTimeMonitor class measures the time between consecutive JavaFX pulses while
+ * it is running. It keeps a smoothed average and the worst frame time seen, so views
+ * with heavy rendering work can report how they affect the frame rate. It measures the
+ * spacing of pulses, not the cost of rendering a single frame.
+ *
+ * <p>A running monitor makes JavaFX schedule a pulse every frame, even when nothing on the
+ * screen changes, so it should only run while profiling.
+ */
+public class FrameTimeMonitor extends AnimationTimer {
+  private static final double SMOOTHING = 0.1;
+
+  private final String name;
+  private long lastPulse;
+  private long frameCount;
+  private double averageFrameMillis;
+  private double worstFrameMillis;
+  private boolean running;
+
+  /**
+   * Constructs a new FrameTimeMonitor.
+   *
+   * @param name the name used when the monitor reports its measurements
+   */
+  public FrameTimeMonitor(String name) {
+    this.name = name;
+  }
+
+  @Override
+  public void handle(long now) {
+    if (lastPulse != 0) {
+      double frameMillis = (now - lastPulse) / 1_000_000.0;
+      averageFrameMillis = frameCount == 0
+          ? frameMillis
+          : averageFrameMillis + SMOOTHING * (frameMillis - averageFrameMillis);
+      worstFrameMillis = Math.max(worstFrameMillis, frameMillis);
+      frameCount++;
+    }
+    lastPulse = now;
+  }
+
+  @Override
+  public void start() {
+    if (!running) {
+      running = true;
+      reset();
+      super.start();
+    }
+  }
+
+  /**
+   * Stops measuring. The measurements are kept until the monitor is started again.
+   */
+  @Override
+  public void stop() {
+    if (running) {
+      running = false;
+      super.stop();
+    }
+  }
+
+  /**
+   * Describes the measured frame times in one line.
+   *
+   * @return the name of the monitor with the number of frames and the average and worst frame
+   *         time
+   */
+  public String summary() {
+    return name + ": " + frameCount + " frames, average "
+        + String.format("%.2f", averageFrameMillis) + " ms, worst "
+        + String.format("%.2f", worstFrameMillis) + " ms";
+  }
+
+  /**
+   * Clears all measurements collected so far.
+   */
+  public void reset() {
+    lastPulse = 0;
+    frameCount = 0;
+    averageFrameMillis = 0;
+    worstFrameMillis = 0;
+  }
+
+  public double getAverageFrameMillis() {
+    return averageFrameMillis;
+  }
+
+  public double getWorstFrameMillis() {
+    return worstFrameMillis;
+  }
+
+  public long getFrameCount() {
+    return frameCount;
+  }
+}
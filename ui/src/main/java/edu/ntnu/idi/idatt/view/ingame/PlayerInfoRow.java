@@ -0,0 +1,128 @@
+package edu.ntnu.idi.idatt.view.ingame;
+
+import edu.ntnu.idi.idatt.model.Player;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+/**
+ * PlayerInfoRow shows the name, color, position, token and status of a single player, and
+ * their chance of winning and expected remaining turns. The labels are bound to observable
+ * properties, so refreshing the row only touches the nodes whose value actually changed.
+ */
+public class PlayerInfoRow extends VBox {
+  private static final String DEFAULT_STYLE = "-fx-background-color: #cccccc; -fx-border-radius: 5;";
+  private static final String CURRENT_TURN_STYLE =
+      "-fx-background-color: #ffe08a; -fx-border-color: #c9a227; -fx-border-radius: 5;";
+
+  private final Player player;
+  private final IntegerProperty position = new SimpleIntegerProperty();
+  private final BooleanProperty skipping = new SimpleBooleanProperty();
+  private final BooleanProperty currentTurn = new SimpleBooleanProperty();
+  private final ObjectProperty<Color> color = new SimpleObjectProperty<>(Color.GRAY);
+  // NaN until the win probability table of the board is ready
+  private final DoubleProperty winProbability = new SimpleDoubleProperty(Double.NaN);
+  private final DoubleProperty expectedTurns = new SimpleDoubleProperty(Double.NaN);
+
+  /**
+   * Constructs a row for the given player.
+   *
+   * @param player the player shown in this row
+   */
+  public PlayerInfoRow(Player player) {
+    super(5);
+    this.player = player;
+
+    setPadding(new Insets(5));
+    setStyle(DEFAULT_STYLE);
+
+    Label nameLabel = new Label(player.getName());
+    nameLabel.setFont(Font.font("Arial", FontWeight.BOLD, 14));
+
+    Circle colorIndicator = new Circle(8);
+    colorIndicator.fillProperty().bind(color);
+    colorIndicator.setStroke(Color.BLACK);
+
+    Label positionLabel = new Label();
+    positionLabel.textProperty().bind(position.asString("Position: %d"));
+
+    Label tokenLabel = new Label("Token: " + player.getTokenType());
+
+    Label winLabel = new Label();
+    winLabel.textProperty().bind(Bindings.createStringBinding(() ->
+        Double.isNaN(winProbability.get())
+            ? "Win chance: -"
+            : String.format("Win chance: %.1f%%", winProbability.get() * 100), winProbability));
+
+    Label turnsLabel = new Label();
+    turnsLabel.textProperty().bind(Bindings.createStringBinding(() ->
+        Double.isNaN(expectedTurns.get())
+            ? "Turns left: -"
+            : String.format("Turns left: %.1f", expectedTurns.get()), expectedTurns));
+
+    Label skipLabel = new Label("Skips next turn");
+    skipLabel.setTextFill(Color.DARKRED);
+    skipLabel.visibleProperty().bind(skipping);
+    skipLabel.managedProperty().bind(skipping);
+
+    currentTurn.addListener((obs, wasCurrent, isCurrent) ->
+        setStyle(isCurrent ? CURRENT_TURN_STYLE : DEFAULT_STYLE));
+
+    getChildren().addAll(nameLabel, colorIndicator, positionLabel, tokenLabel, winLabel,
+        turnsLabel, skipLabel);
+    refresh(false);
+  }
+
+  /**
+   * Copies the current state of the player into the row properties. Properties only notify
+   * their bound labels when the value differs, so unchanged labels are left untouched.
+   *
+   * @param isCurrentTurn whether it is this player's turn
+   */
+  public void refresh(boolean isCurrentTurn) {
+    position.set(player.getCurrentTile() != null ? player.getCurrentTile().getTileId() : 0);
+    skipping.set(player.getSkipsNextTurn());
+    currentTurn.set(isCurrentTurn);
+  }
+
+  public Player getPlayer() {
+    return player;
+  }
+
+  public IntegerProperty positionProperty() {
+    return position;
+  }
+
+  public BooleanProperty skippingProperty() {
+    return skipping;
+  }
+
+  public BooleanProperty currentTurnProperty() {
+    return currentTurn;
+  }
+
+  public ObjectProperty<Color> colorProperty() {
+    return color;
+  }
+
+  public DoubleProperty winProbabilityProperty() {
+    return winProbability;
+  }
+
+  public DoubleProperty expectedTurnsProperty() {
+    return expectedTurns;
+  }
+}
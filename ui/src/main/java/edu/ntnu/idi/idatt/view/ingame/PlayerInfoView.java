@@ -0,0 +1,157 @@
+package edu.ntnu.idi.idatt.view.ingame;
+
+import edu.ntnu.idi.idatt.analysis.WinProbabilityTable;
+import edu.ntnu.idi.idatt.model.Player;
+import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * PlayerInfoView is a custom JavaFX VBox component that displays information about a list of players
+ * in a board game, including their name, current position, token type, and a color indicator for each player.
+ *
+ * <p>Every player is shown in a {@link PlayerInfoRow} which is created once and then refreshed,
+ * so a move only updates the labels of the values that changed.
+ *
+ * <p>Once a {@link WinProbabilityTable} for the board is set, every refresh also shows each
+ * player's chance of winning and expected remaining turns. These are looked up in the table,
+ * so they cost nothing noticeable per turn.
+ */
+public class PlayerInfoView extends VBox {
+  private List<Player> players = new ArrayList<>();
+  private final Map<Player, PlayerInfoRow> rows = new HashMap<>();
+  private Player currentPlayer;
+  private WinProbabilityTable probabilityTable;
+
+  public PlayerInfoView(List<Player> players, BoardView boardView) {
+    setPadding(new Insets(10));
+    setSpacing(10);
+    setStyle("-fx-background-color: #f0f0f0; -fx-border-color: #cccccc;");
+
+    Label titleLabel = new Label("Players");
+    titleLabel.setFont(Font.font("Arial", FontWeight.BOLD, 16));
+    getChildren().add(titleLabel);
+
+    setPlayers(players, boardView);
+  }
+
+  /**
+   * Replaces the list of players shown. Rows of players that are still in the list are kept,
+   * rows for new players are created and rows of removed players are dropped.
+   *
+   * @param players   the players to show, in turn order
+   * @param boardView the BoardView instance used to retrieve the color of each player
+   */
+  public void setPlayers(List<Player> players, BoardView boardView) {
+    this.players = players;
+
+    List<PlayerInfoRow> orderedRows = new ArrayList<>();
+    Map<Player, PlayerInfoRow> keptRows = new HashMap<>();
+    for (Player player : players) {
+      PlayerInfoRow row = rows.get(player);
+      if (row == null) {
+        row = new PlayerInfoRow(player);
+      }
+      keptRows.put(player, row);
+      orderedRows.add(row);
+    }
+    rows.clear();
+    rows.putAll(keptRows);
+
+    if (!getChildren().subList(1, getChildren().size()).equals(orderedRows)) {
+      getChildren().remove(1, getChildren().size());
+      getChildren().addAll(orderedRows);
+    }
+
+    updatePlayerInfo(boardView);
+  }
+
+  /**
+   * Marks the player whose turn it is.
+   *
+   * @param player the current player
+   */
+  public void setCurrentPlayer(Player player) {
+    this.currentPlayer = player;
+  }
+
+  /**
+   * Updates the player information displayed in the PlayerInfoView. Each row copies the
+   * current state of its player, and only labels whose value changed are updated. The win
+   * probabilities are looked up again, since every move changes the chances of all players.
+   *
+   * @param boardView the BoardView instance used to retrieve player-specific visual details
+   *                  such as color indicators for each player.
+   */
+  public void updatePlayerInfo(BoardView boardView) {
+    for (int i = 0; i < players.size(); i++) {
+      Player player = players.get(i);
+      PlayerInfoRow row = rows.get(player);
+      row.colorProperty().set(boardView.getPlayerColor(i));
+      row.refresh(player == currentPlayer);
+    }
+    updateProbabilities();
+  }
+
+  /**
+   * Sets the table the win probabilities are looked up in and shows them.
+   *
+   * @param table the table of the current board and dice, or null to hide the probabilities
+   */
+  public void setProbabilityTable(WinProbabilityTable table) {
+    this.probabilityTable = table;
+    updateProbabilities();
+  }
+
+  /**
+   * Looks up the win probability and expected remaining turns of every player, with the
+   * current player about to take their turn.
+   */
+  private void updateProbabilities() {
+    int count = players.size();
+    if (probabilityTable == null || count == 0) {
+      for (PlayerInfoRow row : rows.values()) {
+        row.winProbabilityProperty().set(Double.NaN);
+        row.expectedTurnsProperty().set(Double.NaN);
+      }
+      return;
+    }
+
+    int[] positions = new int[count];
+    boolean[] skipping = new boolean[count];
+    for (int i = 0; i < count; i++) {
+      Player player = players.get(i);
+      positions[i] = player.getCurrentTile() != null ? player.getCurrentTile().getTileId() : 1;
+      skipping[i] = player.getSkipsNextTurn();
+    }
+    int currentSeat = Math.max(0, players.indexOf(currentPlayer));
+    double[] wins = probabilityTable.winProbabilities(positions, skipping, currentSeat);
+
+    for (int i = 0; i < count; i++) {
+      PlayerInfoRow row = rows.get(players.get(i));
+      row.winProbabilityProperty().set(wins[i]);
+      row.expectedTurnsProperty().set(
+          probabilityTable.expectedRemainingTurns(positions[i], skipping[i]));
+    }
+  }
+
+  /**
+   * Updates the row of a single player, for example after that player moved.
+   *
+   * @param player the player whose row should be refreshed
+   */
+  public void updatePlayerInfo(Player player) {
+    PlayerInfoRow row = rows.get(player);
+    if (row != null) {
+      row.refresh(player == currentPlayer);
+    }
+  }
+}
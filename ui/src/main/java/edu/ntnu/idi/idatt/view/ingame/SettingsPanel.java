@@ -15,10 +15,16 @@ import java.util.function.Consumer;
  * Provides controls for game settings without using dialog popups.
  */
 public class SettingsPanel extends VBox {
+  // Upper limit of the dice spinner, high enough for variant rules with many dice
+  private static final int MAX_DICE = 20;
+
   private Spinner<Integer> diceCountSpinner;
+  private Spinner<Integer> turboTurnsSpinner;
+  private CheckBox heatmapCheckBox;
   private Button applyButton;
   private Button closeButton;
   private Consumer<Integer> onDiceCountChanged;
+  private Consumer<Boolean> onHeatmapToggled;
   private Runnable onClose;
 
   public SettingsPanel(int currentDiceCount) {
@@ -40,13 +46,30 @@ public class SettingsPanel extends VBox {
 
     // Dice count setting
     Label diceLabel = new Label("Dice:");
-    diceCountSpinner = new Spinner<>(1, 5, currentDiceCount);
+    diceCountSpinner = new Spinner<>(1, MAX_DICE, currentDiceCount);
     diceCountSpinner.setEditable(true);
     diceCountSpinner.setPrefWidth(60);
 
     HBox diceRow = new HBox(10, diceLabel, diceCountSpinner);
     diceRow.setAlignment(Pos.CENTER_LEFT);
 
+    // Number of turns played by turbo mode, 0 plays until a player wins
+    Label turboLabel = new Label("Turbo turns (0 = until win):");
+    turboTurnsSpinner = new Spinner<>(0, 100000, 0, 10);
+    turboTurnsSpinner.setEditable(true);
+    turboTurnsSpinner.setPrefWidth(90);
+
+    HBox turboRow = new HBox(10, turboLabel, turboTurnsSpinner);
+    turboRow.setAlignment(Pos.CENTER_LEFT);
+
+    // Colors the tiles by how often they were landed on, applied at once
+    heatmapCheckBox = new CheckBox("Show landing heatmap");
+    heatmapCheckBox.setOnAction(e -> {
+      if (onHeatmapToggled != null) {
+        onHeatmapToggled.accept(heatmapCheckBox.isSelected());
+      }
+    });
+
     // Buttons
     applyButton = new Button("Apply");
     closeButton = new Button("Close");
@@ -62,7 +85,7 @@ public class SettingsPanel extends VBox {
     buttonRow.setAlignment(Pos.CENTER);
 
     // Layout
-    getChildren().addAll(titleLabel, diceRow, buttonRow);
+    getChildren().addAll(titleLabel, diceRow, turboRow, heatmapCheckBox, buttonRow);
 
     setSpacing(12);
   }
@@ -86,8 +109,8 @@ public class SettingsPanel extends VBox {
     // Set size constraints to keep it compact
     setPrefWidth(250);
     setMaxWidth(300);
-    setPrefHeight(120);
-    setMaxHeight(160);
+    setPrefHeight(180);
+    setMaxHeight(220);
 
     // Style buttons
     applyButton.getStyleClass().add("button");
@@ -127,6 +150,15 @@ public class SettingsPanel extends VBox {
     this.onDiceCountChanged = handler;
   }
 
+  /**
+   * Sets a handler that will be triggered when the heatmap is switched on or off.
+   *
+   * @param handler a Consumer function that accepts true when the heatmap should be shown
+   */
+  public void setOnHeatmapToggled(Consumer<Boolean> handler) {
+    this.onHeatmapToggled = handler;
+  }
+
   /**
    * Sets a handler that will be called when the close action is triggered.
    *
@@ -140,6 +172,15 @@ public class SettingsPanel extends VBox {
     return diceCountSpinner.getValue();
   }
 
+  /**
+   * Retrieves the number of turns turbo mode should play.
+   *
+   * @return the number of turns, or 0 to play until a player wins
+   */
+  public int getTurboTurns() {
+    return turboTurnsSpinner.getValue();
+  }
+
   /**
    * Updates the dice count displayed in the spinner to the specified value.
    * This method modifies the value shown in the diceCountSpinner's ValueFactory.
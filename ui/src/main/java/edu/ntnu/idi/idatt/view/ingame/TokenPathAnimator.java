@@ -0,0 +1,272 @@
+package edu.ntnu.idi.idatt.view.ingame;
+
+import edu.ntnu.idi.idatt.model.Player;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import javafx.animation.AnimationTimer;
+import javafx.scene.image.ImageView;
+
+/**
+ * The TokenPathAnimator class drives the movement of all player tokens on a {@link BoardView}
+ * from a single {@link AnimationTimer}. Moves are queued and played one after another:
+ * a walk visits every tile between the start and the destination in board order, so the token
+ * follows the snake pattern of the board, while a jump (ladders and chutes) moves straight to
+ * the destination.
+ *
+ * <p>Waypoints are read from the tile positions the board view already calculated, and the
+ * position of the token is interpolated every frame, so no transition objects are created per
+ * move. The playback speed can be scaled globally, and it increases automatically while moves
+ * are waiting in the queue so the board never falls far behind the game.
+ */
+public class TokenPathAnimator extends AnimationTimer {
+  private static final double STEP_MILLIS = 90;
+  private static final double MAX_WALK_MILLIS = 900;
+  private static final double JUMP_MILLIS = 500;
+  // Extra speed for every move waiting in the queue behind the current one
+  private static final double BACKLOG_SPEEDUP = 0.75;
+
+  private final BoardView boardView;
+  private final ArrayDeque<Move> queue = new ArrayDeque<>();
+  private final Map<Player, Integer> plannedTiles = new HashMap<>();
+  private final Map<Player, Integer> currentTiles = new HashMap<>();
+  private double speedMultiplier = 1.0;
+  private long lastPulse;
+  private boolean running;
+
+  /**
+   * A queued token movement.
+   */
+  private static final class Move {
+    final Player player;
+    final int targetTile;
+    final boolean walk;
+    final double delayMillis;
+    final Runnable onComplete;
+
+    int fromTile;
+    int segments;
+    double segmentMillis;
+    double elapsedMillis;
+    double startX;
+    double startY;
+    boolean started;
+
+    Move(Player player, int targetTile, boolean walk, double delayMillis, Runnable onComplete) {
+      this.player = player;
+      this.targetTile = targetTile;
+      this.walk = walk;
+      this.delayMillis = delayMillis;
+      this.onComplete = onComplete;
+    }
+  }
+
+  /**
+   * Constructs an animator for the tokens on the given board view.
+   *
+   * @param boardView the board view owning the tokens and tile positions
+   */
+  public TokenPathAnimator(BoardView boardView) {
+    this.boardView = boardView;
+  }
+
+  /**
+   * Queues a move along the board from the tile the token will be on after all queued moves,
+   * visiting every tile on the way. Moves backwards are played as a jump.
+   *
+   * @param player     the player whose token moves
+   * @param targetTile the ID of the destination tile
+   * @param onComplete called when the token reaches the destination; may be null
+   */
+  public void walk(Player player, int targetTile, Runnable onComplete) {
+    enqueue(new Move(player, targetTile, true, 0, onComplete));
+  }
+
+  /**
+   * Queues a straight move to the destination tile, optionally after a short pause.
+   *
+   * @param player      the player whose token moves
+   * @param targetTile  the ID of the destination tile
+   * @param delayMillis the pause before the token starts moving, in milliseconds
+   * @param onComplete  called when the token reaches the destination; may be null
+   */
+  public void jump(Player player, int targetTile, double delayMillis, Runnable onComplete) {
+    enqueue(new Move(player, targetTile, false, delayMillis, onComplete));
+  }
+
+  private void enqueue(Move move) {
+    plannedTiles.put(move.player, move.targetTile);
+    queue.addLast(move);
+    if (!running) {
+      running = true;
+      lastPulse = 0;
+      start();
+    }
+  }
+
+  /**
+   * Drops all queued moves of a player without running their callbacks, and records the
+   * tile the token is now placed on.
+   *
+   * @param player the player whose moves are cancelled
+   * @param tileId the ID of the tile the token is placed on
+   */
+  public void cancel(Player player, int tileId) {
+    Iterator<Move> iterator = queue.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().player == player) {
+        iterator.remove();
+      }
+    }
+    plannedTiles.put(player, tileId);
+    currentTiles.put(player, tileId);
+  }
+
+  /**
+   * Forgets all queued moves and known token positions, for example when the tokens are removed.
+   */
+  public void clear() {
+    queue.clear();
+    plannedTiles.clear();
+    currentTiles.clear();
+  }
+
+  @Override
+  public void handle(long now) {
+    double frameMillis = lastPulse == 0 ? 0 : (now - lastPulse) / 1_000_000.0;
+    lastPulse = now;
+
+    // Play queued moves in order, carrying time left over from a finished move to the next one
+    double budget = frameMillis * speedMultiplier * (1 + BACKLOG_SPEEDUP * (queue.size() - 1));
+    while (!queue.isEmpty()) {
+      Move move = queue.peekFirst();
+      if (!move.started) {
+        begin(move);
+      }
+
+      double total = move.delayMillis + move.segments * move.segmentMillis;
+      double used = Math.min(budget, total - move.elapsedMillis);
+      move.elapsedMillis += used;
+      budget -= used;
+
+      if (move.elapsedMillis < total) {
+        apply(move);
+        return;
+      }
+
+      queue.pollFirst();
+      place(move.player, move.targetTile);
+      if (move.onComplete != null) {
+        move.onComplete.run();
+      }
+    }
+
+    running = false;
+    stop();
+  }
+
+  /**
+   * Prepares a move when it reaches the front of the queue, using the current position of
+   * the token as the start of the path.
+   */
+  private void begin(Move move) {
+    ImageView token = boardView.getOrCreateToken(move.player);
+    move.started = true;
+    move.startX = token.getTranslateX() + token.getX();
+    move.startY = token.getTranslateY() + token.getY();
+    move.fromTile = currentTiles.getOrDefault(move.player, 0);
+
+    int steps = move.targetTile - move.fromTile;
+    if (move.walk && move.fromTile > 0 && steps > 0 && isPathRendered(move.fromTile, move.targetTile)) {
+      move.segments = steps;
+      move.segmentMillis = Math.min(STEP_MILLIS, MAX_WALK_MILLIS / steps);
+    } else {
+      move.segments = 1;
+      move.segmentMillis = JUMP_MILLIS;
+    }
+  }
+
+  /**
+   * Moves the token to the point on its path matching the elapsed time of the move.
+   */
+  private void apply(Move move) {
+    double progress = (move.elapsedMillis - move.delayMillis) / move.segmentMillis;
+    if (progress <= 0) {
+      return;
+    }
+
+    int segment = Math.min((int) progress, move.segments - 1);
+    double fraction = progress - segment;
+
+    double fromX;
+    double fromY;
+    if (segment == 0) {
+      fromX = move.startX;
+      fromY = move.startY;
+    } else {
+      int fromTile = move.fromTile + segment;
+      fromX = boardView.tokenTargetX(move.player, fromTile);
+      fromY = boardView.tokenTargetY(move.player, fromTile);
+    }
+    int toTile = move.segments == 1 ? move.targetTile : move.fromTile + segment + 1;
+    double toX = boardView.tokenTargetX(move.player, toTile);
+    double toY = boardView.tokenTargetY(move.player, toTile);
+
+    ImageView token = boardView.getOrCreateToken(move.player);
+    token.setTranslateX(fromX + (toX - fromX) * fraction - token.getX());
+    token.setTranslateY(fromY + (toY - fromY) * fraction - token.getY());
+    token.toFront();
+  }
+
+  private boolean isPathRendered(int fromTile, int toTile) {
+    for (int tileId = fromTile + 1; tileId <= toTile; tileId++) {
+      if (!boardView.hasTile(tileId)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void place(Player player, int tileId) {
+    currentTiles.put(player, tileId);
+    ImageView token = boardView.getOrCreateToken(player);
+    token.setTranslateX(boardView.tokenTargetX(player, tileId) - token.getX());
+    token.setTranslateY(boardView.tokenTargetY(player, tileId) - token.getY());
+  }
+
+  /**
+   * Retrieves the tile a player's token will stand on once all queued moves are played.
+   *
+   * @param player the player owning the token
+   * @return the ID of the tile, or 0 if the token has not been placed yet
+   */
+  public int getPlannedTile(Player player) {
+    return plannedTiles.getOrDefault(player, 0);
+  }
+
+  /**
+   * Sets the global playback speed of token movements.
+   *
+   * @param speedMultiplier the speed relative to normal speed, must be positive
+   */
+  public void setSpeedMultiplier(double speedMultiplier) {
+    if (speedMultiplier <= 0) {
+      throw new IllegalArgumentException("Speed multiplier must be positive");
+    }
+    this.speedMultiplier = speedMultiplier;
+  }
+
+  public double getSpeedMultiplier() {
+    return speedMultiplier;
+  }
+
+  /**
+   * Retrieves the number of moves that are playing or waiting to be played.
+   *
+   * @return the number of queued moves
+   */
+  public int getBacklog() {
+    return queue.size();
+  }
+}